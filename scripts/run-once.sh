@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# marketgg-batch 단발성 실행(run-once) 스크립트입니다.
+# 웹 서버와 Scheduler 없이 Job 하나를 실행하고 Job 의 결과를 종료 코드로 반환합니다.
+#
+# 사용법
+#   scripts/run-once.sh <jobName> [key=value ...]     Job 실행 (CDS Archive 가 있으면 사용)
+#   scripts/run-once.sh --cds-dump                    CDS(Class Data Sharing) Archive 생성
+#
+# 예시
+#   scripts/run-once.sh memberGradeJob startDate=2022-07-01 endDate=2022-08-01
+#   scripts/run-once.sh birthdayCouponJob
+#
+# 환경 변수
+#   APP_JAR   - 실행할 jar 경로 (기본값: target/marketgg-batch-*.jar)
+#   APP_HOME  - jar 를 풀어둘 디렉토리 (기본값: /tmp/marketgg-batch)
+#   JAVA_OPTS - 추가 JVM 옵션
+#
+# CDS 는 중첩 jar 를 읽는 Spring Boot Launcher 클래스로더와 함께 쓸 수 없으므로 jar 를 풀어서 일반 classpath 로 실행합니다.
+# Archive 는 같은 jar, 같은 JDK 로만 유효하므로 이미지 빌드 단계에서 --cds-dump 를 실행해 함께 배포합니다.
+
+set -euo pipefail
+
+APP_JAR=${APP_JAR:-$(ls target/marketgg-batch-*.jar 2>/dev/null | grep -v original | head -n 1)}
+APP_HOME=${APP_HOME:-/tmp/marketgg-batch}
+CDS_ARCHIVE="${APP_HOME}/marketgg-batch.jsa"
+CLASS_LIST="${APP_HOME}/marketgg-batch.classlist"
+MAIN_CLASS=com.nhnacademy.marketgg.batch.ServerApplication
+
+if [[ -z "${APP_JAR}" || ! -f "${APP_JAR}" ]]; then
+    echo "실행할 jar 를 찾을 수 없습니다. APP_JAR 를 지정해 주세요." >&2
+    exit 2
+fi
+APP_JAR=$(realpath "${APP_JAR}")
+
+if [[ ! -d "${APP_HOME}/BOOT-INF" || "${APP_JAR}" -nt "${APP_HOME}/BOOT-INF" ]]; then
+    rm -rf "${APP_HOME}"
+    mkdir -p "${APP_HOME}"
+    (cd "${APP_HOME}" && jar -xf "${APP_JAR}")
+fi
+
+# CDS 는 classpath 가 생성 시점과 정확히 같아야 하므로 wildcard 대신 정렬된 jar 목록을 사용합니다.
+CLASSPATH="${APP_HOME}/BOOT-INF/classes"
+for lib in $(ls "${APP_HOME}"/BOOT-INF/lib/*.jar | sort); do
+    CLASSPATH="${CLASSPATH}:${lib}"
+done
+
+JVM_OPTS="-XX:TieredStopAtLevel=1 -Dspring.profiles.active=runonce ${JAVA_OPTS:-}"
+
+if [[ "${1:-}" == "--cds-dump" ]]; then
+    # 1) Job 없이 Context 만 기동해 로딩되는 클래스 목록을 기록하고, 2) 그 목록으로 Archive 를 만듭니다.
+    java ${JVM_OPTS} -Xshare:off -XX:DumpLoadedClassList="${CLASS_LIST}" -cp "${CLASSPATH}" ${MAIN_CLASS}
+    java -Xshare:dump -XX:SharedClassListFile="${CLASS_LIST}" -XX:SharedArchiveFile="${CDS_ARCHIVE}" \
+        -cp "${CLASSPATH}"
+    echo "CDS Archive 생성 완료: ${CDS_ARCHIVE}"
+    exit 0
+fi
+
+if [[ $# -lt 1 ]]; then
+    echo "사용법: $0 <jobName> [key=value ...] | --cds-dump" >&2
+    exit 2
+fi
+
+JOB_NAME=$1
+shift
+
+if [[ -f "${CDS_ARCHIVE}" ]]; then
+    JVM_OPTS="${JVM_OPTS} -Xshare:auto -XX:SharedArchiveFile=${CDS_ARCHIVE}"
+fi
+
+exec java ${JVM_OPTS} -cp "${CLASSPATH}" ${MAIN_CLASS} --job.name="${JOB_NAME}" "$@"
@@ -1,15 +1,24 @@
 package com.nhnacademy.marketgg.batch;
 
+import com.nhnacademy.marketgg.batch.launcher.RunOnceJobRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @EnableAsync
+@ConfigurationPropertiesScan
 @SpringBootApplication
 public class ServerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ServerApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(ServerApplication.class, args);
+
+        if (context.getEnvironment().acceptsProfiles(Profiles.of(RunOnceJobRunner.PROFILE))) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
@@ -0,0 +1,154 @@
+package com.nhnacademy.marketgg.batch.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * long 키와 long 값을 배열에 그대로 저장하는 Open Addressing(Linear Probing) Hash Map 입니다.
+ * Long 객체와 Entry 객체를 만들지 않으므로 HashMap&lt;Long, Long&gt; 보다 항목당 메모리가 훨씬 적고 GC 부담이 없습니다.
+ * 합계를 누적하는 용도로만 사용하므로 삭제는 지원하지 않습니다. Thread-safe 하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * 키 0 은 빈 칸 표시로 쓰므로 따로 저장합니다.
+     */
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 8) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 키의 값에 delta 를 더합니다. 키가 없으면 delta 로 추가합니다.
+     *
+     * @param key   - 키 입니다.
+     * @param delta - 더할 값입니다.
+     * @since 1.0.0
+     */
+    public void addTo(long key, long delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += delta;
+            return;
+        }
+
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return;
+        }
+
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 키의 값을 조회합니다.
+     *
+     * @param key          - 키 입니다.
+     * @param defaultValue - 키가 없을 때 반환할 값입니다.
+     * @return 키의 값을 반환합니다.
+     * @since 1.0.0
+     */
+    public long get(long key, long defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : defaultValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 키를 오름차순으로 정렬해 키 배열과 값 배열을 채웁니다.
+     *
+     * @param sortedKeys   - 정렬된 키를 담을 배열입니다. 길이는 size() 이상이어야 합니다.
+     * @param sortedValues - 키 순서에 맞춘 값을 담을 배열입니다. 길이는 size() 이상이어야 합니다.
+     * @since 1.0.0
+     */
+    public void copySorted(long[] sortedKeys, long[] sortedValues) {
+        int count = 0;
+        if (hasZeroKey) {
+            sortedKeys[count++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sortedKeys[count++] = key;
+            }
+        }
+        Arrays.sort(sortedKeys, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            sortedValues[i] = get(sortedKeys[i], 0L);
+        }
+    }
+
+    /**
+     * 키가 있는 칸 또는 키를 넣을 빈 칸의 위치를 찾습니다.
+     */
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * 연속된 회원 번호가 같은 구간에 몰리지 않도록 비트를 섞습니다. (MurmurHash3 fmix64)
+     */
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb185e4fdbfafL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.marketgg.batch.batchstep;
+
+import com.nhnacademy.marketgg.batch.config.GradeSnapshotProperties;
+import com.nhnacademy.marketgg.batch.reader.CursorFetchSize;
+import com.nhnacademy.marketgg.batch.snapshot.GradeSnapshot;
+import com.nhnacademy.marketgg.batch.snapshot.GradeSnapshotFileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 등급 업데이트가 끝난 회원 등급을 스냅샷 파일로 저장하는 Batch Step 입니다.
+ * 다른 서비스는 members 테이블을 조회하지 않고 GradeSnapshot 으로 파일을 열어 등급을 조회합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ExportGradeSnapshotStep {
+
+    private static final String SELECT_MEMBER_GRADES =
+        "select member_no, member_grade_no from members order by member_no";
+
+    private final StepBuilderFactory stepBuilderFactory;
+    private final DataSource dataSource;
+    private final GradeSnapshotProperties properties;
+
+    /**
+     * 회원 등급 스냅샷 파일을 만드는 Step 입니다.
+     * 파일은 트랜잭션으로 되돌릴 수 없으므로 Chunk 로 나누지 않고, 한 번에 임시 파일을 만든 뒤 교체합니다.
+     *
+     * @return 스냅샷 Tasklet 을 실행하는 Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step memberGradeSnapshotStep() {
+        return stepBuilderFactory.get("memberGradeSnapshotStep")
+                                 .tasklet(memberGradeSnapshotTasklet())
+                                 .allowStartIfComplete(true)
+                                 .build();
+    }
+
+    /**
+     * 회원 번호 순으로 회원 등급을 Cursor 로 읽어 스냅샷 파일에 기록합니다.
+     * 실패하면 임시 파일을 삭제하므로 이전 스냅샷 파일은 그대로 남습니다.
+     *
+     * @return 스냅샷 파일을 만드는 Tasklet 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Tasklet memberGradeSnapshotTasklet() {
+        return (contribution, chunkContext) -> {
+            JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+            CursorFetchSize.apply(cursorTemplate, properties.getFetchSize());
+
+            try (GradeSnapshotFileWriter writer = new GradeSnapshotFileWriter(Paths.get(properties.getPath()))) {
+                cursorTemplate.query(SELECT_MEMBER_GRADES, rs -> {
+                    int gradeNo = rs.getInt(2);
+                    try {
+                        writer.append(rs.getLong(1), rs.wasNull() ? GradeSnapshot.NOT_FOUND : gradeNo);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                long count = writer.publish();
+                contribution.incrementWriteCount((int) count);
+                log.info("회원 등급 스냅샷({} 명)을 저장했습니다: {}", count, properties.getPath());
+            }
+
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.nhnacademy.marketgg.batch.batchstep;
+
+import static com.nhnacademy.marketgg.batch.domain.constant.CouponName.BIRTHDAY;
+
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.config.GivenCouponWriterProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.domain.entity.Coupon;
+import com.nhnacademy.marketgg.batch.exception.CouponNotFoundException;
+import com.nhnacademy.marketgg.batch.outbox.OutboxWriterFactory;
+import com.nhnacademy.marketgg.batch.preflight.PlanPolicy;
+import com.nhnacademy.marketgg.batch.preflight.ReaderQuery;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
+import com.nhnacademy.marketgg.batch.repository.coupon.CouponRepository;
+import com.nhnacademy.marketgg.batch.writer.GivenCouponBulkItemWriter;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 오늘 생일인 회원을 조회하여 생일 쿠폰을 지급하는 Batch Step 과 Step Process(Reader, Processor, Writer) 입니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class GiveBirthdayCouponStep {
+
+    private final DataSource dataSource;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final CouponRepository couponRepository;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final GivenCouponWriterProperties writerProperties;
+    private final OutboxWriterFactory outboxWriterFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int CHUNK_SIZE = 100;
+
+    /**
+     * 생일인 회원을 모두 조회하고 생일 쿠폰을 발급하는 Step 입니다.
+     *
+     * @return Step - Process(Reader, Processor, Writer) 설정을 stepBuilderFactory 가 빌드하여 반환한다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step birthdayGivenCouponMemberStep() throws Exception {
+        return chunkStepConfigurer.configure(stepBuilderFactory.get("birthdayGivenCouponMemberStep")
+                                                               .<MemberDto, GivenCouponDto>chunk(CHUNK_SIZE)
+                                                               .reader(birthdayMemberReader(null))
+                                                               .processor(birthdayCouponProcessor())
+                                                               .writer(birthdayCouponWriter()),
+                                           birthdayMemberCounter())
+                                  .build();
+    }
+
+    /**
+     * Reader 와 같은 조건으로 생일 쿠폰을 받을 회원 수를 계산합니다.
+     *
+     * @return 생일인 회원 수를 계산하는 StepWorkCounter 를 반환합니다.
+     */
+    private StepWorkCounter birthdayMemberCounter() {
+        return stepExecution -> jdbcTemplate.queryForObject(
+            "select count(*) from members where date_format(birth_date, '%m-%d') = ?", Long.class,
+            stepExecution.getJobParameters().getString("birthday"));
+    }
+
+    /**
+     * 생일(MM-dd)이 일치하는 회원을 모두 조회하는 Reader 입니다.
+     * Page_size 와 Chunk_size 는 똑같은 값으로 설정 했습니다.
+     *
+     * @param birthday - Job Parameter 로 전달된 생일(MM-dd) 입니다.
+     * @return 조회한 Member 리스트를 JdbcPagingItemReaderBuilder 로 빌드하여 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<MemberDto> birthdayMemberReader(
+        @Value("#{jobParameters['birthday']}") String birthday) throws Exception {
+
+        Map<String, Object> parameterValues = new HashMap<>();
+        parameterValues.put("birthday", birthday);
+
+        return new JdbcPagingItemReaderBuilder<MemberDto>()
+            .name("birthdayMemberReader")
+            .pageSize(CHUNK_SIZE)
+            .dataSource(this.dataSource)
+            .queryProvider(createQueryProvider())
+            .parameterValues(parameterValues)
+            .rowMapper(new BeanPropertyRowMapper<>(MemberDto.class))
+            .build();
+    }
+
+    /**
+     * Job 시작 전에 실행 계획을 확인할 생일 회원 조회 쿼리입니다.
+     * birth_date 에 함수를 적용해 비교하므로 birth_date 인덱스를 사용하지 못하고 회원 테이블 전체를 읽습니다.
+     *
+     * @return 생일 회원 Reader 쿼리를 반환합니다.
+     * @throws Exception - 쿼리를 만들 때 발생할 수 있는 에러입니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public ReaderQuery birthdayMemberReaderQuery() throws Exception {
+        return ReaderQuery.firstPage(createQueryProvider(), CHUNK_SIZE,
+                                     jobParameters -> Map.of("birthday", jobParameters.getString("birthday")),
+                                     PlanPolicy.WARN);
+    }
+
+    /**
+     * 회원에서 생일이 일치하는 회원만 조회하는 쿼리를 설정합니다.
+     *
+     * @return 작성된 쿼리를 반환합니다.
+     * @throws Exception - 데이터를 객체로 변환할 때 발생할 수 있는 에러입니다.
+     */
+    private PagingQueryProvider createQueryProvider() throws Exception {
+        Map<String, Order> sortKey = new HashMap<>();
+        sortKey.put("member_no", Order.ASCENDING);
+
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(this.dataSource);
+        queryProvider.setSelectClause("select member_no");
+        queryProvider.setFromClause("from members");
+        queryProvider.setWhereClause("where date_format(birth_date, '%m-%d') = :birthday");
+        queryProvider.setSortKeys(sortKey);
+
+        return queryProvider.getObject();
+    }
+
+    /**
+     * 회원에게 생일 쿠폰을 발급하는 Processor 입니다.
+     *
+     * @return 발급한 생일 쿠폰을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public ItemProcessor<MemberDto, GivenCouponDto> birthdayCouponProcessor() {
+        Coupon coupon = couponRepository.findCouponByName(BIRTHDAY.couponName())
+                                        .orElseThrow(CouponNotFoundException::new);
+
+        return memberDto -> new GivenCouponDto(memberDto.getMemberNo(), coupon.getId());
+    }
+
+    /**
+     * 발급한 생일 쿠폰을 DB 에 저장하는 Writer 입니다.
+     * Chunk 를 여러 행 VALUES 절을 가진 INSERT 문으로 묶어 저장합니다.
+     * 메타데이터는 Chunk Commit 뒤에 Commit 되므로 그 사이에 실패하면 재시작이 같은 Chunk 를 다시 저장합니다. 이미 지급한 쿠폰은 INSERT IGNORE 로 건너뜁니다.
+     * Outbox 를 사용하면 쿠폰 지급 이벤트를 함께 저장합니다.
+     *
+     * @return 발급한 생일 쿠폰의 정보를 담은 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<GivenCouponDto> birthdayCouponWriter() {
+
+        GivenCouponBulkItemWriter writer =
+            new GivenCouponBulkItemWriter(this.dataSource,
+                                          writerProperties.getRowsPerStatement(),
+                                          writerProperties.getMaxPacketSize().toBytes(),
+                                          true);
+        return outboxWriterFactory.withEvents(writer, givenCoupon ->
+            OutboxEvent.couponIssued(givenCoupon.getMemberNo(), givenCoupon.getCouponNo()));
+    }
+
+}
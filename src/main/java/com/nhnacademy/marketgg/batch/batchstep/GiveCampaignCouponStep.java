@@ -0,0 +1,212 @@
+package com.nhnacademy.marketgg.batch.batchstep;
+
+import com.nhnacademy.marketgg.batch.campaign.CampaignSegmentParser;
+import com.nhnacademy.marketgg.batch.campaign.CampaignSegmentPredicate;
+import com.nhnacademy.marketgg.batch.campaign.MemberNoRangePartitioner;
+import com.nhnacademy.marketgg.batch.config.CampaignProperties;
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.config.GivenCouponWriterProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberNoRangeDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.exception.CouponNotFoundException;
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.outbox.OutboxWriterFactory;
+import com.nhnacademy.marketgg.batch.reader.CampaignMemberItemReader;
+import com.nhnacademy.marketgg.batch.repository.coupon.CouponRepository;
+import com.nhnacademy.marketgg.batch.repository.member.MemberRepository;
+import com.nhnacademy.marketgg.batch.writer.GivenCouponBulkItemWriter;
+import com.querydsl.core.types.Predicate;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * 회원 조건(segment)에 맞는 회원에게 캠페인 쿠폰을 지급하는 Batch Step 입니다.
+ * Manager Step 이 조건에 맞는 회원 번호 범위를 구간으로 나누고, Worker Step 들이 구간을 동시에 처리합니다.
+ * 이미 쿠폰을 받은 회원은 조회하지 않고 INSERT IGNORE 로 저장하므로, 실패한 구간만 다시 실행하거나 같은 캠페인을 다시 실행해도 중복 발급되지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class GiveCampaignCouponStep {
+
+    private final DataSource dataSource;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final CampaignProperties campaignProperties;
+    private final GivenCouponWriterProperties writerProperties;
+    private final OutboxWriterFactory outboxWriterFactory;
+    private final TaskExecutorFactory taskExecutorFactory;
+    private final CampaignSegmentParser segmentParser;
+    private final CouponRepository couponRepository;
+    private final MemberRepository memberRepository;
+    private final JobRepository jobRepository;
+
+    private static final String MEMBER_NO_RANGE_SAVED_KEY = "memberNoRangeSaved";
+
+    /**
+     * 회원 번호 구간별 Worker Step 을 동시에 실행하는 Manager Step 입니다.
+     *
+     * @return 캠페인 쿠폰 Manager Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step campaignCouponStep() {
+        return stepBuilderFactory.get("campaignCouponStep")
+                                 .partitioner("campaignCouponWorkerStep", campaignMemberPartitioner(null, null, null, null))
+                                 .step(campaignCouponWorkerStep())
+                                 .gridSize(campaignProperties.getGridSize())
+                                 .taskExecutor(campaignCouponTaskExecutor())
+                                 .build();
+    }
+
+    /**
+     * 회원 번호 구간 하나에서 조건에 맞는 회원에게 쿠폰을 지급하는 Worker Step 입니다.
+     *
+     * @return 캠페인 쿠폰 Worker Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step campaignCouponWorkerStep() {
+        return chunkStepConfigurer.configure(stepBuilderFactory.get("campaignCouponWorkerStep")
+                                                               .<Long, GivenCouponDto>chunk(campaignProperties.getChunkSize())
+                                                               .reader(campaignMemberReader(null, null, null, null, null))
+                                                               .processor(campaignCouponProcessor(null))
+                                                               .writer(campaignCouponWriter()))
+                                  .build();
+    }
+
+    /**
+     * 조건에 맞는 회원 번호 범위를 구간으로 나누는 Partitioner 입니다.
+     * 쿠폰이 없으면 회원을 조회하지 않고 실패합니다.
+     * 처음 계산한 범위는 Manager Step 의 ExecutionContext 에 바로 저장하고 재시작할 때 그대로 사용합니다.
+     * 재시작 시 다시 계산하면 이미 쿠폰을 받은 회원이 빠져 범위가 줄어들고, 실패한 구간(partitionN)이 다시 실행되지 않기 때문입니다.
+     *
+     * @param couponNo      - Job Parameter 로 전달된 쿠폰 번호입니다.
+     * @param segment       - Job Parameter 로 전달된 회원 조건 JSON 입니다.
+     * @param baseDate      - Job Parameter 로 전달된 일 수 조건 기준일(yyyy-MM-dd) 입니다.
+     * @param stepExecution - 회원 번호 범위를 저장할 Manager Step 의 실행 정보입니다.
+     * @return 회원 번호 범위를 나누는 Partitioner 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public MemberNoRangePartitioner campaignMemberPartitioner(
+        @Value("#{jobParameters['couponNo']}") Long couponNo,
+        @Value("#{jobParameters['segment']}") String segment,
+        @Value("#{jobParameters['baseDate']}") String baseDate,
+        @Value("#{stepExecution}") StepExecution stepExecution) {
+
+        couponRepository.findById(couponNo).orElseThrow(CouponNotFoundException::new);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (context.containsKey(MEMBER_NO_RANGE_SAVED_KEY)) {
+            MemberNoRangeDto range = new MemberNoRangeDto(
+                (Long) context.get(MemberNoRangePartitioner.MIN_MEMBER_NO),
+                (Long) context.get(MemberNoRangePartitioner.MAX_MEMBER_NO));
+            log.info("캠페인 쿠폰 {} 재시작, 저장된 회원 번호 범위를 사용합니다: {}", couponNo, range);
+            return new MemberNoRangePartitioner(range);
+        }
+
+        MemberNoRangeDto range = memberRepository.findMemberNoRange(predicate(couponNo, segment, baseDate));
+        log.info("캠페인 쿠폰 {} 대상 회원 번호 범위: {}", couponNo, range);
+
+        context.put(MemberNoRangePartitioner.MIN_MEMBER_NO, range.getMinMemberNo());
+        context.put(MemberNoRangePartitioner.MAX_MEMBER_NO, range.getMaxMemberNo());
+        context.put(MEMBER_NO_RANGE_SAVED_KEY, true);
+        // Step 이 끝날 때까지 기다리지 않고 저장해야 Worker Step 실행 중 중단되어도 재시작에서 같은 범위를 사용합니다.
+        jobRepository.updateExecutionContext(stepExecution);
+
+        return new MemberNoRangePartitioner(range);
+    }
+
+    /**
+     * Worker Step 에 전달된 회원 번호 구간에서 조건에 맞는 회원 번호를 읽는 Reader 입니다.
+     *
+     * @param couponNo    - Job Parameter 로 전달된 쿠폰 번호입니다.
+     * @param segment     - Job Parameter 로 전달된 회원 조건 JSON 입니다.
+     * @param baseDate    - Job Parameter 로 전달된 일 수 조건 기준일(yyyy-MM-dd) 입니다.
+     * @param minMemberNo - 구간의 첫 회원 번호입니다.
+     * @param maxMemberNo - 구간의 마지막 회원 번호입니다.
+     * @return 회원 번호를 Keyset 방식으로 읽는 Reader 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public CampaignMemberItemReader campaignMemberReader(
+        @Value("#{jobParameters['couponNo']}") Long couponNo,
+        @Value("#{jobParameters['segment']}") String segment,
+        @Value("#{jobParameters['baseDate']}") String baseDate,
+        @Value("#{stepExecutionContext['" + MemberNoRangePartitioner.MIN_MEMBER_NO + "']}") Long minMemberNo,
+        @Value("#{stepExecutionContext['" + MemberNoRangePartitioner.MAX_MEMBER_NO + "']}") Long maxMemberNo) {
+
+        return new CampaignMemberItemReader(memberRepository, predicate(couponNo, segment, baseDate),
+                                            minMemberNo, maxMemberNo, campaignProperties.getChunkSize());
+    }
+
+    /**
+     * 회원에게 캠페인 쿠폰을 발급하는 Processor 입니다.
+     *
+     * @param couponNo - Job Parameter 로 전달된 쿠폰 번호입니다.
+     * @return 발급한 캠페인 쿠폰을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public ItemProcessor<Long, GivenCouponDto> campaignCouponProcessor(
+        @Value("#{jobParameters['couponNo']}") Long couponNo) {
+
+        return memberNo -> new GivenCouponDto(memberNo, couponNo);
+    }
+
+    /**
+     * 발급한 캠페인 쿠폰을 INSERT IGNORE 로 묶어 저장하는 Writer 입니다.
+     * Outbox 를 사용하면 쿠폰 지급 이벤트를 함께 저장합니다.
+     *
+     * @return 발급한 캠페인 쿠폰을 저장하는 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<GivenCouponDto> campaignCouponWriter() {
+        GivenCouponBulkItemWriter writer =
+            new GivenCouponBulkItemWriter(this.dataSource,
+                                          writerProperties.getRowsPerStatement(),
+                                          writerProperties.getMaxPacketSize().toBytes(),
+                                          true);
+        return outboxWriterFactory.withEvents(writer, givenCoupon ->
+            OutboxEvent.couponIssued(givenCoupon.getMemberNo(), givenCoupon.getCouponNo()));
+    }
+
+    /**
+     * Worker Step 들을 실행하는 TaskExecutor 입니다.
+     *
+     * @return Worker Step 을 실행할 TaskExecutor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public TaskExecutor campaignCouponTaskExecutor() {
+        return taskExecutorFactory.create("campaign-coupon-", campaignProperties.getGridSize(), Integer.MAX_VALUE);
+    }
+
+    private Predicate predicate(Long couponNo, String segment, String baseDate) {
+        return CampaignSegmentPredicate.of(segmentParser.parse(segment), couponNo, LocalDate.parse(baseDate));
+    }
+
+}
@@ -3,37 +3,51 @@ package com.nhnacademy.marketgg.batch.batchstep;
 import static com.nhnacademy.marketgg.batch.domain.constant.CouponName.GVIP;
 import static com.nhnacademy.marketgg.batch.domain.constant.CouponName.VIP;
 
-import com.nhnacademy.marketgg.batch.config.BatchJobParameter;
+import com.nhnacademy.marketgg.batch.bitmap.GradeMemberBitmapStore;
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.config.GivenCouponWriterProperties;
+import com.nhnacademy.marketgg.batch.domain.constant.CouponName;
 import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
 import com.nhnacademy.marketgg.batch.domain.dto.MemberDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
 import com.nhnacademy.marketgg.batch.domain.entity.Coupon;
 import com.nhnacademy.marketgg.batch.exception.CouponNotFoundException;
+import com.nhnacademy.marketgg.batch.outbox.OutboxWriterFactory;
+import com.nhnacademy.marketgg.batch.preflight.PlanPolicy;
+import com.nhnacademy.marketgg.batch.preflight.ReaderQuery;
+import com.nhnacademy.marketgg.batch.reader.MemberBitmapItemReader;
 import com.nhnacademy.marketgg.batch.repository.coupon.CouponRepository;
+import com.nhnacademy.marketgg.batch.writer.GivenCouponBulkItemWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
 import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
- * Gvip 회원을 조회하여 등급 쿠폰을 지급하는 Batch Step 과 Step Process(Reader, Processor, Writer) 입니다.
+ * Gvip, Vip 회원을 조회하여 등급 쿠폰을 지급하는 Batch Step 과 Step Process(Reader, Processor, Writer) 입니다.
  *
  * @author 민아영
  * @version 1.0.0
@@ -45,18 +59,17 @@ public class GiveCouponMemberStep {
     private final DataSource dataSource;
     private final StepBuilderFactory stepBuilderFactory;
     private final CouponRepository couponRepository;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final GivenCouponWriterProperties writerProperties;
+    private final OutboxWriterFactory outboxWriterFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeMemberBitmapStore gradeMemberBitmapStore;
 
     private static final int CHUNK_SIZE = 100;
     private static final long GVIP_NO = 1L;
     private static final long VIP_NO = 2L;
-
-
-    @Bean
-    @JobScope
-    public BatchJobParameter jobParameter() {
-        return new BatchJobParameter();
-    }
-
+    private static final String GRADE_NO_KEY = "gradeNo";
+    private static final String COUPON_NAME_KEY = "couponName";
 
     /**
      * gVip 회원을 모두 조회하고 등급 쿠폰을 발급하는 Step 입니다.
@@ -66,17 +79,8 @@ public class GiveCouponMemberStep {
      * @since 1.0.0
      */
     @Bean
-    @JobScope
     public Step gVipGivenCouponMemberStep() throws Exception {
-        jobParameter().setGradeNo(GVIP_NO);
-        jobParameter().setCouponName(GVIP);
-        return stepBuilderFactory.get("gVipGivenCouponMemberStep")
-                                 .<MemberDto, GivenCouponDto>chunk(CHUNK_SIZE)
-                                 .reader(gradeMemberReader())
-                                 .processor(givenCouponProcessor())
-                                 .writer(gradeMemberWriter())
-                                 .allowStartIfComplete(true)  // Job 이 Complete 된 상태여도 다시 시작하는 옵션
-                                 .build();
+        return givenCouponMemberStep("gVipGivenCouponMemberStep", GVIP_NO, GVIP);
     }
 
     /**
@@ -87,32 +91,70 @@ public class GiveCouponMemberStep {
      * @since 1.0.0
      */
     @Bean
-    @JobScope
     public Step vipGivenCouponMemberStep() throws Exception {
-        jobParameter().setGradeNo(VIP_NO);
-        jobParameter().setCouponName(VIP);
-        return stepBuilderFactory.get("vipGivenCouponMemberStep")
-                                 .<MemberDto, GivenCouponDto>chunk(CHUNK_SIZE)
-                                 .reader(gradeMemberReader())
-                                 .processor(givenCouponProcessor())
-                                 .writer(gradeMemberWriter())
-                                 .allowStartIfComplete(true)
-                                 .build();
+        return givenCouponMemberStep("vipGivenCouponMemberStep", VIP_NO, VIP);
+    }
+
+    /**
+     * 등급별 쿠폰 발급 Step 을 생성합니다.
+     * 등급별 Step 은 Split Flow 로 동시에 실행되므로, 공유되는 JobScope 객체 대신
+     * Step 실행 컨텍스트에 등급 번호와 쿠폰 이름을 담아 Reader 와 Processor 에 전달합니다.
+     *
+     * @param stepName   - Step 이름입니다.
+     * @param gradeNo    - 쿠폰을 발급할 회원 등급 번호입니다.
+     * @param couponName - 발급할 쿠폰 이름입니다.
+     * @return 등급 쿠폰을 발급하는 Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    private Step givenCouponMemberStep(String stepName, long gradeNo, CouponName couponName) throws Exception {
+        return chunkStepConfigurer.configure(stepBuilderFactory.get(stepName)
+                                                               .<MemberDto, GivenCouponDto>chunk(CHUNK_SIZE)
+                                                               .reader(gradeMemberReader(null, null))
+                                                               .processor(givenCouponProcessor(null))
+                                                               .writer(gradeMemberWriter()),
+                                           stepExecution -> gradeMemberBitmapStore
+                                               .find(stepExecution.getJobExecution(), gradeNo)
+                                               .map(Roaring64NavigableMap::getLongCardinality)
+                                               .orElseGet(() -> jdbcTemplate.queryForObject(
+                                                   "select count(*) from members where member_grade_no = ?",
+                                                   Long.class, gradeNo)))
+                                  .listener(new StepExecutionListenerSupport() {
+                                      @Override
+                                      public void beforeStep(StepExecution stepExecution) {
+                                          ExecutionContext context = stepExecution.getExecutionContext();
+                                          context.putLong(GRADE_NO_KEY, gradeNo);
+                                          context.putString(COUPON_NAME_KEY, couponName.name());
+                                      }
+                                  })
+                                  .allowStartIfComplete(true)  // Job 이 Complete 된 상태여도 다시 시작하는 옵션
+                                  .build();
     }
 
     /**
-     * Gvip 회원을 모두 조회하는 Reader 입니다.
+     * 등급에 해당하는 회원을 모두 조회하는 Reader 입니다.
      * Page_size 와 Chunk_size 는 똑같은 값으로 설정 했습니다.
+     * 등급 업데이트 Step 이 만든 등급별 회원 Bitmap 이 있으면 members 테이블을 다시 조회하지 않고 Bitmap 을 읽습니다.
      *
+     * @param gradeNo       - Step 실행 컨텍스트에 담긴 회원 등급 번호입니다.
+     * @param stepExecution - Bitmap 이 저장된 Job 실행 정보를 조회할 Step 실행 정보입니다.
      * @return 조회한 Member 리스트를 JpaPagingItemReaderBuilder 로 빌드하여 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
     @StepScope
-    public JdbcPagingItemReader<MemberDto> gradeMemberReader() throws Exception {
+    public ItemStreamReader<MemberDto> gradeMemberReader(
+        @Value("#{stepExecutionContext['" + GRADE_NO_KEY + "']}") Long gradeNo,
+        @Value("#{stepExecution}") StepExecution stepExecution) throws Exception {
+
+        Optional<Roaring64NavigableMap> bitmap =
+            gradeMemberBitmapStore.find(stepExecution.getJobExecution(), gradeNo);
+        if (bitmap.isPresent()) {
+            return new MemberBitmapItemReader(bitmap.get());
+        }
+
         Map<String, Object> parameterValues = new HashMap<>();
-        parameterValues.put("memberGradeNo", jobParameter().getGradeNo());
+        parameterValues.put("memberGradeNo", gradeNo);
 
         return new JdbcPagingItemReaderBuilder<MemberDto>()
             .name("gradeMemberReader")
@@ -124,6 +166,21 @@ public class GiveCouponMemberStep {
             .build();
     }
 
+    /**
+     * Job 시작 전에 실행 계획을 확인할 등급별 회원 조회 쿼리입니다.
+     * members(member_grade_no) 인덱스가 없으면 등급마다 회원 테이블 전체를 읽습니다. 등급별 실행 계획은 같으므로 gVip 등급으로 확인합니다.
+     *
+     * @return 등급별 회원 Reader 쿼리를 반환합니다.
+     * @throws Exception - 쿼리를 만들 때 발생할 수 있는 에러입니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public ReaderQuery gradeMemberReaderQuery() throws Exception {
+        return ReaderQuery.firstPage(createQueryProvider(), CHUNK_SIZE,
+                                     jobParameters -> Map.of("memberGradeNo", GVIP_NO),
+                                     PlanPolicy.WARN);
+    }
+
     /**
      * 회원에서 Gvip 등급인 회원만 조회하는 쿼리를 설정합니다.
      *
@@ -145,17 +202,19 @@ public class GiveCouponMemberStep {
     }
 
     /**
-     * 회원에게 Gvip 쿠폰을 발급하는 Processor 입니다.
+     * 회원에게 등급 쿠폰을 발급하는 Processor 입니다.
      *
+     * @param couponName - Step 실행 컨텍스트에 담긴 쿠폰 이름입니다.
      * @return 발급한 Gvip 쿠폰을 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
     @StepScope
-    public CompositeItemProcessor<MemberDto, GivenCouponDto> givenCouponProcessor() {
+    public CompositeItemProcessor<MemberDto, GivenCouponDto> givenCouponProcessor(
+        @Value("#{stepExecutionContext['" + COUPON_NAME_KEY + "']}") String couponName) {
 
-        Coupon coupon = couponRepository.findCouponByName(jobParameter().getCouponName().couponName())
+        Coupon coupon = couponRepository.findCouponByName(CouponName.valueOf(couponName).couponName())
                                         .orElseThrow(CouponNotFoundException::new);
 
         List<ItemProcessor<MemberDto, GivenCouponDto>> delegates = new ArrayList<>(1);
@@ -173,23 +232,26 @@ public class GiveCouponMemberStep {
     }
 
     /**
-     * 발급한 Gvip 쿠폰을 DB 에 저장하는 Writer 입니다.
+     * 발급한 등급 쿠폰을 DB 에 저장하는 Writer 입니다.
+     * Chunk 를 여러 행 VALUES 절을 가진 INSERT 문으로 묶어 저장합니다.
+     * 메타데이터는 Chunk Commit 뒤에 Commit 되므로 그 사이에 실패하면 재시작이 같은 Chunk 를 다시 저장합니다. 이미 지급한 쿠폰은 INSERT IGNORE 로 건너뜁니다.
+     * Outbox 를 사용하면 쿠폰 지급 이벤트를 함께 저장합니다.
      *
-     * @return 발급한 Gvip 쿠폰의 정보를 담은 Writer 를 반환합니다.
+     * @return 발급한 등급 쿠폰의 정보를 담은 Writer 를 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
     @StepScope
-    public JdbcBatchItemWriter<GivenCouponDto> gradeMemberWriter() {
+    public ItemWriter<GivenCouponDto> gradeMemberWriter() {
 
-        return new JdbcBatchItemWriterBuilder<GivenCouponDto>()
-            .dataSource(this.dataSource)
-            .sql("insert into given_coupons" +
-                     "(coupon_no, member_no, created_at) " +
-                     "values (:couponNo, :memberNo, now())")
-            .beanMapped()  // GivenCouponDto 의 프로퍼티 네임으로 매핑
-            .build();
+        GivenCouponBulkItemWriter writer =
+            new GivenCouponBulkItemWriter(this.dataSource,
+                                          writerProperties.getRowsPerStatement(),
+                                          writerProperties.getMaxPacketSize().toBytes(),
+                                          true);
+        return outboxWriterFactory.withEvents(writer, givenCoupon ->
+            OutboxEvent.couponIssued(givenCoupon.getMemberNo(), givenCoupon.getCouponNo()));
     }
 
 }
@@ -0,0 +1,230 @@
+package com.nhnacademy.marketgg.batch.batchstep;
+
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.config.GivenCouponWriterProperties;
+import com.nhnacademy.marketgg.batch.config.GradePromotionProperties;
+import com.nhnacademy.marketgg.batch.config.GradeUpdateProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OrderDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.exception.CouponNotFoundException;
+import com.nhnacademy.marketgg.batch.grade.MemberGradePolicy;
+import com.nhnacademy.marketgg.batch.outbox.OutboxWriterFactory;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
+import com.nhnacademy.marketgg.batch.promotion.WatermarkStore;
+import com.nhnacademy.marketgg.batch.repository.coupon.CouponRepository;
+import com.nhnacademy.marketgg.batch.writer.GivenCouponBulkItemWriter;
+import com.nhnacademy.marketgg.batch.writer.GradePromotionItemWriter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 마지막으로 처리한 주문(Watermark) 이후의 새 주문만 읽어 이번 달 구매 금액이 기준을 넘은 회원을 승급시키는 Batch Step 입니다.
+ * 매월 등급 갱신을 기다리지 않고 달 중간에도 등급을 올리고 등급 쿠폰을 지급합니다.
+ * 처리 위치는 Step ExecutionContext 대신 batch_watermark 에 Chunk 와 함께 저장하므로, 실패한 다음 실행은 Commit 된 위치부터 이어서 읽습니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PromoteMemberGradeStep {
+
+    public static final String WATERMARK_NAME = "gradePromotion.orders";
+
+    private final DataSource dataSource;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final GradePromotionProperties promotionProperties;
+    private final GradeUpdateProperties gradeUpdateProperties;
+    private final GivenCouponWriterProperties writerProperties;
+    private final OutboxWriterFactory outboxWriterFactory;
+    private final CouponRepository couponRepository;
+    private final WatermarkStore watermarkStore;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 주문을 월별 구매 금액에 더하고 승급한 회원에게 등급 쿠폰을 지급하는 Step 입니다.
+     *
+     * @return 등급 승급 Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step gradePromotionStep() throws Exception {
+        return chunkStepConfigurer.configure(stepBuilderFactory.get("gradePromotionStep")
+                                                               .<OrderDto, OrderDto>chunk(promotionProperties.getChunkSize())
+                                                               .reader(newOrderReader(null))
+                                                               .writer(gradePromotionWriter(null)),
+                                           newOrderCounter())
+                                  .build();
+    }
+
+    /**
+     * Reader 와 같은 조건으로 처리할 새 주문 수를 계산합니다.
+     *
+     * @return 새 주문 수를 계산하는 StepWorkCounter 를 반환합니다.
+     */
+    private StepWorkCounter newOrderCounter() {
+        return stepExecution -> {
+            String runAt = stepExecution.getJobParameters().getString("runAt");
+            long watermark = watermark(runAt);
+            return jdbcTemplate.queryForObject("select count(*) from orders where order_no > ? and order_no < ?",
+                                               Long.class, watermark, holdOrderNo(watermark, runAt));
+        };
+    }
+
+    /**
+     * Watermark 이후의 주문을 기준 시각 이후에 생성된 첫 주문 직전까지 주문 번호 순서로 읽는 Reader 입니다.
+     * 기준 시각 이후에 생성된 주문보다 뒤의 주문은 다음 실행에서 읽으므로, 주문 번호와 생성 시각의 순서가 달라도 빠뜨리지 않습니다.
+     * 처리 위치는 Watermark 로 관리하므로 Reader 상태는 저장하지 않습니다.
+     *
+     * @param runAt - Job Parameter 로 전달된 실행 시각(yyyy-MM-ddTHH:mm:ss) 입니다.
+     * @return 새 주문을 읽는 Reader 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<OrderDto> newOrderReader(@Value("#{jobParameters['runAt']}") String runAt)
+        throws Exception {
+
+        Map<String, Object> parameterValues = new HashMap<>();
+        long watermark = watermark(runAt);
+        parameterValues.put("watermark", watermark);
+        parameterValues.put("holdNo", holdOrderNo(watermark, runAt));
+
+        return new JdbcPagingItemReaderBuilder<OrderDto>()
+            .name("newOrderReader")
+            .pageSize(promotionProperties.getChunkSize())
+            .dataSource(this.dataSource)
+            .queryProvider(createQueryProvider())
+            .parameterValues(parameterValues)
+            .rowMapper(new BeanPropertyRowMapper<>(OrderDto.class))
+            .saveState(false)
+            .build();
+    }
+
+    /**
+     * 주문 번호(PK) 범위로 새 주문을 조회하는 쿼리를 설정합니다.
+     *
+     * @return 작성된 쿼리를 반환합니다.
+     * @throws Exception - 데이터를 객체로 변환할 때 발생할 수 있는 에러입니다.
+     */
+    private PagingQueryProvider createQueryProvider() throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(this.dataSource);
+        queryProvider.setSelectClause("select order_no, member_no, total_amount, created_at");
+        queryProvider.setFromClause("from orders");
+        queryProvider.setWhereClause("where order_no > :watermark and order_no < :holdNo");
+        queryProvider.setSortKeys(Map.of("order_no", Order.ASCENDING));
+
+        return queryProvider.getObject();
+    }
+
+    /**
+     * 월별 구매 금액 갱신, 등급 승급, 등급 쿠폰 지급, Watermark 갱신을 한 Chunk 트랜잭션에서 처리하는 Writer 입니다.
+     * 실행 시각이 속한 달까지의 구매 금액으로 승급을 판단합니다. 기간(ROLLING_WINDOW) 집계를 사용하면 매월 등급 갱신과 같이
+     * 기간 개월 수의 구매 금액 합계를 기준 금액에 개월 수를 곱한 금액과 비교합니다.
+     *
+     * @param runAt - Job Parameter 로 전달된 실행 시각(yyyy-MM-ddTHH:mm:ss) 입니다.
+     * @return 등급 승급 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public GradePromotionItemWriter gradePromotionWriter(@Value("#{jobParameters['runAt']}") String runAt) {
+        Map<Long, Long> gradeCouponNos = new HashMap<>();
+        for (long grade : new long[] {MemberGradePolicy.GVIP, MemberGradePolicy.VIP}) {
+            MemberGradePolicy.couponOf(grade).ifPresent(couponName -> gradeCouponNos.put(
+                grade, couponRepository.findCouponByName(couponName.couponName())
+                                       .orElseThrow(CouponNotFoundException::new)
+                                       .getId()));
+        }
+
+        return new GradePromotionItemWriter(this.dataSource, watermarkStore, WATERMARK_NAME,
+                                            LocalDateTime.parse(runAt).toLocalDate().withDayOfMonth(1),
+                                            gradeUpdateProperties.gradeMonths(), gradeCouponNos,
+                                            promotedGradeWriter(), promotedCouponWriter());
+    }
+
+    /**
+     * 승급한 회원의 등급을 저장합니다. 그 사이 더 높은 등급이 된 회원은 바꾸지 않습니다.
+     * Outbox 를 사용하면 등급 변경 이벤트를 함께 저장합니다.
+     */
+    private ItemWriter<MemberGradeDto> promotedGradeWriter() {
+        JdbcBatchItemWriter<MemberGradeDto> writer =
+            new JdbcBatchItemWriterBuilder<MemberGradeDto>()
+                .dataSource(this.dataSource)
+                .sql("update members set member_grade_no = ? where member_no = ? and member_grade_no > ?")
+                .itemPreparedStatementSetter((member, ps) -> {
+                    ps.setLong(1, member.getMemberGradeNo());
+                    ps.setLong(2, member.getMemberNo());
+                    ps.setLong(3, member.getMemberGradeNo());
+                })
+                .assertUpdates(false)
+                .build();
+        writer.afterPropertiesSet();
+
+        return outboxWriterFactory.withEvents(writer, member ->
+            OutboxEvent.gradeChanged(member.getMemberNo(), member.getMemberGradeNo()));
+    }
+
+    /**
+     * 승급한 회원의 등급 쿠폰을 INSERT IGNORE 로 저장합니다. 이미 받은 등급 쿠폰은 다시 지급하지 않습니다.
+     * Outbox 를 사용하면 쿠폰 지급 이벤트를 함께 저장합니다.
+     */
+    private ItemWriter<GivenCouponDto> promotedCouponWriter() {
+        GivenCouponBulkItemWriter writer =
+            new GivenCouponBulkItemWriter(this.dataSource,
+                                          writerProperties.getRowsPerStatement(),
+                                          writerProperties.getMaxPacketSize().toBytes(),
+                                          true);
+        return outboxWriterFactory.withEvents(writer, givenCoupon ->
+            OutboxEvent.couponIssued(givenCoupon.getMemberNo(), givenCoupon.getCouponNo()));
+    }
+
+    /**
+     * 마지막으로 처리한 주문 번호입니다.
+     * 처음 실행하면 전체 주문을 읽지 않도록 실행 시각이 속한 달의 첫 주문 직전으로 등록합니다.
+     */
+    private long watermark(String runAt) {
+        LocalDateTime monthStart = LocalDateTime.parse(runAt).toLocalDate().withDayOfMonth(1).atStartOfDay();
+        return watermarkStore.find(WATERMARK_NAME, () -> jdbcTemplate.queryForObject(
+            "select coalesce(min(order_no) - 1, 0) from orders where created_at >= ?", Long.class,
+            Timestamp.valueOf(monthStart)));
+    }
+
+    /**
+     * 이번 실행에서 읽지 않을 첫 주문 번호입니다. Watermark 이후에서 기준 시각 이후에 생성된 첫 주문이며, Watermark 는 이 주문을 넘지 않습니다.
+     */
+    private long holdOrderNo(long watermark, String runAt) {
+        Long firstExcluded = jdbcTemplate.queryForObject(
+            "select min(order_no) from orders where order_no > ? and created_at >= ?", Long.class,
+            watermark, Timestamp.valueOf(cutoff(runAt)));
+        return firstExcluded == null ? Long.MAX_VALUE : firstExcluded;
+    }
+
+    private LocalDateTime cutoff(String runAt) {
+        return LocalDateTime.parse(runAt).minus(promotionProperties.getSafetyLag());
+    }
+
+}
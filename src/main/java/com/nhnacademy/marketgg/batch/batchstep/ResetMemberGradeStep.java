@@ -1,23 +1,40 @@
 package com.nhnacademy.marketgg.batch.batchstep;
 
-import com.nhnacademy.marketgg.batch.domain.entity.Member;
-import com.nhnacademy.marketgg.batch.domain.entity.MemberGrade;
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
 import com.nhnacademy.marketgg.batch.exception.MemberGradeNotFoundException;
+import com.nhnacademy.marketgg.batch.grade.MemberGradePolicy;
+import com.nhnacademy.marketgg.batch.outbox.GradeChangeTracker;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
 import com.nhnacademy.marketgg.batch.repository.membergrade.MemberGradeRepository;
-import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 
 /**
  * 회원을 모두 조회하여 등급을 초기화하는 Batch Step 과 Step Process(Reader, Processor, Writer) 입니다.
+ * 회원 번호와 등급 번호만 필요하므로 Member Entity 대신 두 컬럼만 조회하고 JDBC 로 갱신합니다.
  *
  * @author 민아영
  * @version 1.0.0
@@ -26,12 +43,14 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class ResetMemberGradeStep {
 
-    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
     private final StepBuilderFactory stepBuilderFactory;
     private final MemberGradeRepository memberGradeRepository;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final GradeChangeTracker gradeChangeTracker;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final int CHUNK_SIZE = 1000;
-    private static final long MEMBER = 3L;
 
     /**
      * 회원을 모두 조회하고 등급을 초기화하는 Step 입니다.
@@ -42,64 +61,145 @@ public class ResetMemberGradeStep {
      * @since 1.0.0
      */
     @Bean
-    public Step memberGradeResetStep() {
-        return stepBuilderFactory.get("memberGradeResetStep")
-                                 .<Member, Member>chunk(CHUNK_SIZE)
-                                 .reader(allMemberReader())
-                                 .processor(resetGradeProcessor())
-                                 .writer(allMemberWriter())
-                                 .allowStartIfComplete(true)
-                                 .build();
+    public Step memberGradeResetStep() throws Exception {
+        return chunkStepConfigurer.configure(stepBuilderFactory.get("memberGradeResetStep")
+                                                               .<MemberGradeDto, MemberGradeDto>chunk(CHUNK_SIZE)
+                                                               .reader(allMemberReader())
+                                                               .processor(resetGradeProcessor())
+                                                               .writer(allMemberWriter(null)),
+                                           allMemberCounter())
+                                  .listener(new StepExecutionListenerSupport() {
+                                      @Override
+                                      public void beforeStep(StepExecution stepExecution) {
+                                          // 회원마다 등급을 조회하지 않고, 초기화할 등급이 있는지 Step 시작 시 한 번 확인합니다.
+                                          memberGradeRepository.findById(MemberGradePolicy.MEMBER)
+                                                               .orElseThrow(MemberGradeNotFoundException::new);
+                                          if (gradeChangeTracker.isEnabled()) {
+                                              gradeChangeTracker.clearOtherJobs(
+                                                  stepExecution.getJobExecution().getJobId());
+                                          }
+                                      }
+                                  })
+                                  .allowStartIfComplete(true)
+                                  .build();
+    }
+
+    /**
+     * 초기화할 전체 회원 수를 계산합니다.
+     *
+     * @return 전체 회원 수를 계산하는 StepWorkCounter 를 반환합니다.
+     */
+    private StepWorkCounter allMemberCounter() {
+        return stepExecution -> jdbcTemplate.queryForObject("select count(*) from members", Long.class);
     }
 
     /**
      * 회원을 모두 조회하는 Reader 입니다.
      * page_size 와 chunk_size 는 똑같은 값으로 설정 했습니다.
+     * 등급 Entity, 장바구니 등을 함께 읽지 않도록 회원 번호와 등급 번호만 조회합니다.
      *
-     * @return 조회한 MemberByAmount 리스트를 JdbcPagingItemReaderBuilder 로 빌드하여 반환합니다.
+     * @return 조회한 회원 번호, 등급 번호 리스트를 JdbcPagingItemReaderBuilder 로 빌드하여 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
-    public JpaPagingItemReader<Member> allMemberReader() {
+    @StepScope
+    public JdbcPagingItemReader<MemberGradeDto> allMemberReader() throws Exception {
 
-        return new JpaPagingItemReaderBuilder<Member>()
-            .queryString("SELECT m FROM Member m")
-            .pageSize(CHUNK_SIZE)
-            .entityManagerFactory(entityManagerFactory)
+        return new JdbcPagingItemReaderBuilder<MemberGradeDto>()
             .name("allMemberReader")
+            .pageSize(CHUNK_SIZE)
+            .dataSource(this.dataSource)
+            .queryProvider(createQueryProvider())
+            .rowMapper(new BeanPropertyRowMapper<>(MemberGradeDto.class))
             .build();
     }
 
+    /**
+     * 회원 테이블에서 회원 번호와 등급 번호를 조회하는 쿼리를 설정합니다.
+     *
+     * @return 작성된 쿼리를 반환합니다.
+     * @throws Exception - 데이터를 객체로 변환할 때 발생할 수 있는 에러입니다.
+     */
+    private PagingQueryProvider createQueryProvider() throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(this.dataSource);
+        queryProvider.setSelectClause("select member_no, member_grade_no");
+        queryProvider.setFromClause("from members");
+        queryProvider.setSortKeys(Map.of("member_no", Order.ASCENDING));
+
+        return queryProvider.getObject();
+    }
+
     /**
      * 회원의 등급 정보를 업데이트 하기 위한 비지니스 로직이 작성된 Processor 입니다.
+     * 이미 일반 등급인 회원은 바뀌는 내용이 없으므로 걸러냅니다.
      *
      * @return 등급 정보를 업데이트한 회원을 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
-    public ItemProcessor<Member, Member> resetGradeProcessor() {
+    public ItemProcessor<MemberGradeDto, MemberGradeDto> resetGradeProcessor() {
 
         return member -> {
-            MemberGrade grade = memberGradeRepository.findById(MEMBER)
-                                                     .orElseThrow(MemberGradeNotFoundException::new);
-            member.updateGrade(grade);
+            if (member.getMemberGradeNo() != null && member.getMemberGradeNo() == MemberGradePolicy.MEMBER) {
+                return null;
+            }
+            member.setPreviousGradeNo(member.getMemberGradeNo());
+            member.setMemberGradeNo(MemberGradePolicy.MEMBER);
             return member;
         };
     }
 
     /**
      * 등급이 업데이트 된 회원들을 DB 에 저장하는 Writer 입니다.
+     * 등급 번호만 바뀌므로 Entity merge 대신 JDBC Batch UPDATE 로 저장합니다.
+     * 등급 변경 이벤트는 여기서 남기지 않습니다. Outbox 를 사용하면 이전 등급만 기록해 두고,
+     * 등급 업데이트가 끝난 뒤 실제로 등급이 바뀐 회원에게만 한 번 이벤트를 남깁니다.
      *
+     * @param jobInstanceId - 이전 등급을 기록할 Job Instance 의 번호입니다.
      * @return 회원들의 정보를 담은 Writer 를 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
-    public JpaItemWriter<Member> allMemberWriter() {
-        JpaItemWriter<Member> jpaItemWriter = new JpaItemWriter<>();
-        jpaItemWriter.setEntityManagerFactory(entityManagerFactory);
-        return jpaItemWriter;
+    @StepScope
+    public ItemWriter<MemberGradeDto> allMemberWriter(
+        @Value("#{stepExecution.jobExecution.jobId}") Long jobInstanceId) {
+        JdbcBatchItemWriter<MemberGradeDto> writer =
+            new JdbcBatchItemWriterBuilder<MemberGradeDto>()
+                .dataSource(this.dataSource)
+                .sql("update members set member_grade_no = ? where member_no = ?")
+                .itemPreparedStatementSetter((member, ps) -> {
+                    ps.setLong(1, member.getMemberGradeNo());
+                    ps.setLong(2, member.getMemberNo());
+                })
+                .build();
+        writer.afterPropertiesSet();
+
+        return gradeChangeTracker.recordingPrevious(writer, jobInstanceId);
+    }
+
+    /**
+     * 등급 업데이트 Step 뒤에 초기화로만 일반 등급이 된 회원의 등급 변경 이벤트를 저장하는 Step 입니다.
+     * Outbox 를 사용할 때만 memberGradeJob 에 포함됩니다.
+     *
+     * @return 초기화 등급 변경 이벤트를 저장하는 Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step memberGradeResetEventStep() {
+        return stepBuilderFactory.get("memberGradeResetEventStep")
+                                 .tasklet((contribution, chunkContext) -> {
+                                     long jobInstanceId = chunkContext.getStepContext()
+                                                                      .getStepExecution()
+                                                                      .getJobExecution()
+                                                                      .getJobId();
+                                     contribution.incrementWriteCount(
+                                         gradeChangeTracker.publishResetOnly(jobInstanceId));
+                                     return RepeatStatus.FINISHED;
+                                 })
+                                 .build();
     }
 }
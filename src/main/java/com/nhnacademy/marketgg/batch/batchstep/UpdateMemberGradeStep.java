@@ -1,35 +1,55 @@
 package com.nhnacademy.marketgg.batch.batchstep;
 
+import com.nhnacademy.marketgg.batch.bitmap.GradeMemberBitmapCollector;
+import com.nhnacademy.marketgg.batch.bitmap.GradeMemberBitmapStore;
 import com.nhnacademy.marketgg.batch.config.BatchJobParameter;
+import com.nhnacademy.marketgg.batch.config.ChunkStepConfigurer;
+import com.nhnacademy.marketgg.batch.config.GradeUpdateProperties;
+import com.nhnacademy.marketgg.batch.config.GradeUpdateProperties.AggregationMode;
+import com.nhnacademy.marketgg.batch.config.MemberBitmapProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
 import com.nhnacademy.marketgg.batch.domain.dto.MemberPaymentDto;
-import com.nhnacademy.marketgg.batch.domain.entity.Member;
-import com.nhnacademy.marketgg.batch.domain.entity.MemberGrade;
-import com.nhnacademy.marketgg.batch.exception.MemberGradeNotFoundException;
-import com.nhnacademy.marketgg.batch.exception.MemberNotFoundException;
-import com.nhnacademy.marketgg.batch.repository.member.MemberRepository;
-import com.nhnacademy.marketgg.batch.repository.membergrade.MemberGradeRepository;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.grade.MemberGradePolicy;
+import com.nhnacademy.marketgg.batch.outbox.GradeChangeTracker;
+import com.nhnacademy.marketgg.batch.outbox.OutboxWriterFactory;
+import com.nhnacademy.marketgg.batch.preflight.PlanPolicy;
+import com.nhnacademy.marketgg.batch.preflight.ReaderQuery;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
+import com.nhnacademy.marketgg.batch.reader.MemberSpendAggregatingItemReader;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.persistence.EntityManagerFactory;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Future;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
-import org.springframework.batch.item.database.JpaItemWriter;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
 import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * 주문 내역을 조회하여 한달 동안 총 구매 금액 별 등급을 업데이트하는 Batch Step 과 Step process(reader, processor, writer) 입니다.
@@ -41,17 +61,21 @@ import org.springframework.jdbc.core.BeanPropertyRowMapper;
 @RequiredArgsConstructor
 public class UpdateMemberGradeStep {
 
-    private final EntityManagerFactory entityManagerFactory;
     private final StepBuilderFactory stepBuilderFactory;
-    private final MemberGradeRepository memberGradeRepository;
-    private final MemberRepository memberRepository;
     private final DataSource dataSource;
     private final BatchJobParameter jobParameter;
+    private final ChunkStepConfigurer chunkStepConfigurer;
+    private final GradeUpdateProperties gradeUpdateProperties;
+    private final OutboxWriterFactory outboxWriterFactory;
+    private final GradeChangeTracker gradeChangeTracker;
+    private final TaskExecutorFactory taskExecutorFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final GradeMemberBitmapStore gradeMemberBitmapStore;
+    private final MemberBitmapProperties memberBitmapProperties;
 
     private static final int CHUNK_SIZE = 100;
-    private static final long GVIP = 1L;
-    private static final long VIP = 2L;
-    private static final long MEMBER = 3L;
+    private static final long GVIP = MemberGradePolicy.GVIP;
+    private static final long VIP = MemberGradePolicy.VIP;
 
     @Bean
     @JobScope
@@ -62,26 +86,42 @@ public class UpdateMemberGradeStep {
     /**
      * 주문 내역을 조회하고 구매 금액 별 등급을 업데이트하고 저장하는 Step 입니다.
      * Chunk 는 처리하는 수행단위 입니다. Commit 되는 트랜잭션 단위와 같습니다.
+     * 비동기 모드에서는 회원별 처리를 Thread Pool 에서 동시에 실행하고 Writer 가 결과를 모아 저장합니다.
      *
      * @return Step - Process(Reader, Processor, Writer) 설정을 stepBuilderFactory 가 빌드하여 반환한다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
-    @JobScope
     public Step memberGradeUpdateStep() throws Exception {
-        return stepBuilderFactory.get("memberGradeUpdateStep")
-                                 .<MemberPaymentDto, Member>chunk(CHUNK_SIZE)
-                                 .reader(memberReader())
-                                 .processor(updateGradeProcessor())
-                                 .writer(memberWriter())
-                                 .allowStartIfComplete(true)
-                                 .build();
+        if (gradeUpdateProperties.isAsyncEnabled()) {
+            return chunkStepConfigurer.configure(stepBuilderFactory.get("memberGradeUpdateStep")
+                                                                   .<MemberPaymentDto, Future<MemberGradeDto>>chunk(CHUNK_SIZE)
+                                                                   .reader(memberReader())
+                                                                   .processor(asyncGradeProcessor())
+                                                                   .writer(asyncMemberWriter()),
+                                               paidMemberCounter())
+                                      .listener(gradeMemberBitmapCollector())
+                                      .allowStartIfComplete(true)
+                                      .build();
+        }
+
+        return chunkStepConfigurer.configure(stepBuilderFactory.get("memberGradeUpdateStep")
+                                                               .<MemberPaymentDto, MemberGradeDto>chunk(CHUNK_SIZE)
+                                                               .reader(memberReader())
+                                                               .processor(updateGradeProcessor())
+                                                               .writer(memberWriter(null)),
+                                           paidMemberCounter())
+                                  .listener(gradeMemberBitmapCollector())
+                                  .allowStartIfComplete(true)
+                                  .build();
     }
 
     /**
      * 조회 기간에 회원의 구매 금액을 조회하는 Reader 입니다.
      * Page_size 와 Chunk_size 는 똑같은 값으로 설정했습니다.
+     * IN_PROCESS 집계 모드에서는 주문을 한 번 읽어 메모리에서 집계하는 Reader 를 사용합니다.
+     * ROLLING_WINDOW 집계 모드에서는 memberSpendWindowStep 이 갱신한 기간 구매 금액 합계를 읽습니다.
      *
      * @return 조회한 MemberByAmount 리스트를 JdbcPagingItemReaderBuilder 로 빌드하여 반환합니다.
      * @author 민아영
@@ -89,7 +129,21 @@ public class UpdateMemberGradeStep {
      */
     @Bean
     @StepScope
-    public JdbcPagingItemReader<MemberPaymentDto> memberReader() throws Exception {
+    public ItemStreamReader<MemberPaymentDto> memberReader() throws Exception {
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.IN_PROCESS) {
+            return new MemberSpendAggregatingItemReader(this.dataSource, jobParameter.getStartDate(),
+                                                        jobParameter.getEndDate(),
+                                                        gradeUpdateProperties.getAggregationFetchSize());
+        }
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.ROLLING_WINDOW) {
+            return new JdbcPagingItemReaderBuilder<MemberPaymentDto>().name("memberReader")
+                                                                      .pageSize(CHUNK_SIZE)
+                                                                      .dataSource(this.dataSource)
+                                                                      .queryProvider(createRollingQueryProvider())
+                                                                      .rowMapper(new BeanPropertyRowMapper<>(MemberPaymentDto.class))
+                                                                      .build();
+        }
+
         Map<String, Object> parameterValues = new HashMap<>();
         parameterValues.put("start_date", jobParameter.getStartDate());
         parameterValues.put("end_date", jobParameter.getEndDate());
@@ -103,6 +157,55 @@ public class UpdateMemberGradeStep {
                                                                   .build();
     }
 
+    /**
+     * Reader 와 같은 조회 기간에 주문한 회원 수를 계산합니다.
+     *
+     * @return 등급을 갱신할 회원 수를 계산하는 StepWorkCounter 를 반환합니다.
+     */
+    private StepWorkCounter paidMemberCounter() {
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.IN_PROCESS) {
+            // 집계를 DB 에서 하지 않으려는 모드이므로 count 쿼리도 실행하지 않습니다.
+            return StepWorkCounter.UNKNOWN;
+        }
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.ROLLING_WINDOW) {
+            return stepExecution -> jdbcTemplate.queryForObject(
+                "select count(*) from member_rolling_spend where total_amount > 0", Long.class);
+        }
+        return stepExecution -> jdbcTemplate.queryForObject(
+            "select count(distinct member_no) from orders where created_at >= ? and created_at < ?", Long.class,
+            LocalDate.parse(stepExecution.getJobParameters().getString("startDate")),
+            LocalDate.parse(stepExecution.getJobParameters().getString("endDate")));
+    }
+
+    /**
+     * Job 시작 전에 실행 계획을 확인할 구매 금액 조회 쿼리입니다.
+     * orders(created_at) 로 시작하는 인덱스가 없으면 기간에 상관없이 주문 테이블 전체를 읽습니다.
+     *
+     * @return 집계 모드에 맞는 Reader 쿼리를 반환합니다.
+     * @throws Exception - 쿼리를 만들 때 발생할 수 있는 에러입니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public ReaderQuery memberReaderQuery() throws Exception {
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.IN_PROCESS) {
+            return ReaderQuery.of(MemberSpendAggregatingItemReader.SELECT_ORDERS,
+                                  jobParameters -> new Object[] {
+                                      LocalDate.parse(jobParameters.getString("startDate")),
+                                      LocalDate.parse(jobParameters.getString("endDate"))},
+                                  PlanPolicy.WARN);
+        }
+        if (gradeUpdateProperties.getAggregationMode() == AggregationMode.ROLLING_WINDOW) {
+            return ReaderQuery.firstPage(createRollingQueryProvider(), CHUNK_SIZE, jobParameters -> Map.of(),
+                                         PlanPolicy.WARN);
+        }
+
+        return ReaderQuery.firstPage(createQueryProvider(), CHUNK_SIZE,
+                                     jobParameters -> Map.of(
+                                         "start_date", LocalDate.parse(jobParameters.getString("startDate")),
+                                         "end_date", LocalDate.parse(jobParameters.getString("endDate"))),
+                                     PlanPolicy.WARN);
+    }
+
     /**
      * 회원과 주문 테이블을 조회하여 총 구매 금액을 조회하는 쿼리를 설정합니다.
      *
@@ -124,59 +227,152 @@ public class UpdateMemberGradeStep {
         return queryProvider.getObject();
     }
 
+    /**
+     * 기간 구매 금액 합계를 회원 번호 순으로 조회하는 쿼리를 설정합니다.
+     *
+     * @return 작성된 쿼리를 반환합니다.
+     * @throws Exception - 데이터를 객체로 변환할 때 발생할 수 있는 에러입니다.
+     */
+    private PagingQueryProvider createRollingQueryProvider() throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(this.dataSource);
+        queryProvider.setSelectClause("select member_no, total_amount");
+        queryProvider.setFromClause("from member_rolling_spend");
+        queryProvider.setWhereClause("where total_amount > 0");
+        queryProvider.setSortKeys(Map.of("member_no", Order.ASCENDING));
+
+        return queryProvider.getObject();
+    }
+
     /**
      * 회원의 등급 정보를 업데이트 하기 위한 비지니스 로직이 작성된 processor 입니다.
+     * 회원 Entity 를 조회하지 않고 회원 번호와 새 등급 번호만 만들어 Writer 에 넘깁니다.
      *
-     * @return 등급 정보를 업데이트한 회원을 반환합니다.
+     * @return 회원 번호와 새 등급 번호를 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
     @StepScope
-    public CompositeItemProcessor<MemberPaymentDto, Member> updateGradeProcessor() {
+    public CompositeItemProcessor<MemberPaymentDto, MemberGradeDto> updateGradeProcessor() {
 
-        List<ItemProcessor<MemberPaymentDto, Member>> delegates = new ArrayList<>(1);
+        List<ItemProcessor<MemberPaymentDto, MemberGradeDto>> delegates = new ArrayList<>(1);
         delegates.add(processor1());
 
-        CompositeItemProcessor<MemberPaymentDto, Member> processor = new CompositeItemProcessor<>();
+        CompositeItemProcessor<MemberPaymentDto, MemberGradeDto> processor = new CompositeItemProcessor<>();
 
         processor.setDelegates(delegates);
         return processor;
     }
 
-    public ItemProcessor<MemberPaymentDto, Member> processor1() {
+    public ItemProcessor<MemberPaymentDto, MemberGradeDto> processor1() {
         return memberPaymentDto -> {
-            long memberGrade;
-            long account = memberPaymentDto.getTotalAmount();
-
-            if (account < 300_000L) {
-                memberGrade = MEMBER;
-            } else if (account < 500_000L) {
-                memberGrade = VIP;
-            } else {
-                memberGrade = GVIP;
-            }
-            MemberGrade grade = memberGradeRepository.findById(memberGrade)
-                                                     .orElseThrow(MemberGradeNotFoundException::new);
-            Member member = memberRepository.findById(memberPaymentDto.getMemberNo())
-                                            .orElseThrow(MemberNotFoundException::new);
-            member.updateGrade(grade);
+            MemberGradeDto member = new MemberGradeDto();
+            member.setMemberNo(memberPaymentDto.getMemberNo());
+            member.setMemberGradeNo(MemberGradePolicy.gradeOf(memberPaymentDto.getTotalAmount(),
+                                                              gradeUpdateProperties.gradeMonths()));
             return member;
         };
     }
 
     /**
      * 등급이 업데이트 된 회원들을 DB 에 저장하는 writer 입니다.
+     * 회원 Entity 를 조회해 merge 하지 않고 등급 번호만 JDBC Batch 로 갱신합니다.
+     * Outbox 를 사용하면 초기화 전 등급과 새 등급이 다른 회원의 등급 변경 이벤트를 함께 저장합니다.
      *
+     * @param jobInstanceId - 초기화 Step 이 이전 등급을 기록한 Job Instance 의 번호입니다.
      * @return 회원들의 정보를 담은 writer 를 반환합니다.
      * @author 민아영
      * @since 1.0.0
      */
     @Bean
     @StepScope
-    public JpaItemWriter<Member> memberWriter() {
-        JpaItemWriter<Member> jpaItemWriter = new JpaItemWriter<>();
-        jpaItemWriter.setEntityManagerFactory(entityManagerFactory);
-        return jpaItemWriter;
+    public ItemWriter<MemberGradeDto> memberWriter(
+        @Value("#{stepExecution.jobExecution.jobId}") Long jobInstanceId) {
+        JdbcBatchItemWriter<MemberGradeDto> writer =
+            new JdbcBatchItemWriterBuilder<MemberGradeDto>()
+                .dataSource(this.dataSource)
+                .sql("update members set member_grade_no = ? where member_no = ?")
+                .itemPreparedStatementSetter((member, ps) -> {
+                    ps.setLong(1, member.getMemberGradeNo());
+                    ps.setLong(2, member.getMemberNo());
+                })
+                .assertUpdates(false)
+                .build();
+        writer.afterPropertiesSet();
+
+        return gradeMemberBitmapCollector().collecting(
+            gradeChangeTracker.loadingPrevious(outboxWriterFactory.withEvents(writer, this::gradeChangedEvent),
+                                               jobInstanceId));
     }
+
+    /**
+     * 등급 쿠폰을 받는 등급(GVIP, VIP)의 회원 번호를 Bitmap 으로 모아 등급 쿠폰 발급 Step 에 전달합니다.
+     *
+     * @return 등급별 회원 번호 Bitmap 을 모으는 Listener 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public GradeMemberBitmapCollector gradeMemberBitmapCollector() {
+        return new GradeMemberBitmapCollector(gradeMemberBitmapStore, memberBitmapProperties, Set.of(GVIP, VIP));
+    }
+
+    /**
+     * 초기화 전 등급과 새 등급이 다른 회원만 등급 변경 이벤트를 만듭니다.
+     * 초기화 후 다시 같은 등급이 된 회원은 등급이 바뀌지 않았으므로 이벤트를 남기지 않습니다.
+     *
+     * @param member - 등급이 업데이트 된 회원입니다.
+     * @return 등급 변경 이벤트를 반환하고, 등급이 그대로이면 null 을 반환합니다.
+     */
+    private OutboxEvent gradeChangedEvent(MemberGradeDto member) {
+        if (Objects.equals(member.getPreviousGradeNo(), member.getMemberGradeNo())) {
+            return null;
+        }
+        return OutboxEvent.gradeChanged(member.getMemberNo(), member.getMemberGradeNo());
+    }
+
+    /**
+     * 회원별 등급 처리를 Thread Pool 에 넘기고 결과를 Future 로 반환하는 비동기 Processor 입니다.
+     * 처리 Thread 에도 Step Context 가 등록되므로 StepScope Processor 를 그대로 사용할 수 있습니다.
+     *
+     * @return 등급 처리 결과를 Future 로 반환하는 Processor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public AsyncItemProcessor<MemberPaymentDto, MemberGradeDto> asyncGradeProcessor() {
+        AsyncItemProcessor<MemberPaymentDto, MemberGradeDto> asyncItemProcessor = new AsyncItemProcessor<>();
+
+        asyncItemProcessor.setDelegate(updateGradeProcessor());
+        asyncItemProcessor.setTaskExecutor(gradeUpdateTaskExecutor());
+        return asyncItemProcessor;
+    }
+
+    /**
+     * 비동기 Processor 의 결과(Future)를 모두 기다린 뒤 Chunk 단위로 저장하는 Writer 입니다.
+     *
+     * @return 처리 결과를 모아 저장하는 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @StepScope
+    public AsyncItemWriter<MemberGradeDto> asyncMemberWriter() {
+        AsyncItemWriter<MemberGradeDto> asyncItemWriter = new AsyncItemWriter<>();
+        asyncItemWriter.setDelegate(memberWriter(null));
+        return asyncItemWriter;
+    }
+
+    /**
+     * 비동기 등급 처리에 사용하는 동시 실행 수가 제한된 TaskExecutor 입니다.
+     * 대기열이 가득 차거나(PLATFORM) 동시 실행 수에 도달하면(VIRTUAL) Step Thread 가 기다리므로 읽는 속도가 처리 속도를 넘지 않습니다.
+     *
+     * @return 비동기 등급 처리용 TaskExecutor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public TaskExecutor gradeUpdateTaskExecutor() {
+        return taskExecutorFactory.create("grade-update-", gradeUpdateProperties.getAsyncPoolSize(),
+                                          gradeUpdateProperties.getAsyncQueueCapacity());
+    }
+
 }
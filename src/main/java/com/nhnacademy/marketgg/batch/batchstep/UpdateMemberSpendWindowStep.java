@@ -0,0 +1,64 @@
+package com.nhnacademy.marketgg.batch.batchstep;
+
+import com.nhnacademy.marketgg.batch.config.GradeUpdateProperties;
+import com.nhnacademy.marketgg.batch.grade.MemberSpendWindow;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 등급 갱신 전에 회원의 기간 구매 금액 합계에 지난 달을 더하고 기간에서 빠지는 달을 빼는 Batch Step 입니다.
+ * 구매 금액 집계가 ROLLING_WINDOW 일 때만 memberGradeJob 에 포함됩니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class UpdateMemberSpendWindowStep {
+
+    private final StepBuilderFactory stepBuilderFactory;
+    private final GradeUpdateProperties gradeUpdateProperties;
+    private final MemberSpendWindow memberSpendWindow;
+
+    /**
+     * 기간 구매 금액 합계를 갱신하는 Step 입니다.
+     * 월별 구매 금액, 기간 합계, Watermark 가 한 트랜잭션에서 함께 Commit 되므로 다시 실행해도 두 번 더해지지 않습니다.
+     *
+     * @return 기간 구매 금액 Tasklet 을 실행하는 Step 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Step memberSpendWindowStep() {
+        return stepBuilderFactory.get("memberSpendWindowStep")
+                                 .tasklet(memberSpendWindowTasklet())
+                                 .allowStartIfComplete(true)
+                                 .build();
+    }
+
+    /**
+     * Job Parameter 의 조회 기간 시작일(startDate)이 속한 달을 기간의 마지막 달로 옮깁니다.
+     *
+     * @return 기간 구매 금액 합계를 갱신하는 Tasklet 을 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public Tasklet memberSpendWindowTasklet() {
+        return (contribution, chunkContext) -> {
+            LocalDate startDate = LocalDate.parse(chunkContext.getStepContext()
+                                                              .getStepExecution()
+                                                              .getJobParameters()
+                                                              .getString("startDate"));
+            int aggregatedMonths = memberSpendWindow.advance(startDate.withDayOfMonth(1),
+                                                             gradeUpdateProperties.getWindowMonths());
+            contribution.incrementWriteCount(aggregatedMonths);
+
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+}
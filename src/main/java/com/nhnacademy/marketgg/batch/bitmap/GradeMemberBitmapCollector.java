@@ -0,0 +1,105 @@
+package com.nhnacademy.marketgg.batch.bitmap;
+
+import com.nhnacademy.marketgg.batch.config.MemberBitmapProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 등급 업데이트 Step 이 저장한 회원을 등급별 Bitmap 에 모으고, Step 이 완료되면 GradeMemberBitmapStore 에 저장하는 클래스입니다.
+ * Step 의 Listener 로 등록하고, Writer 를 collecting() 으로 감싸서 사용합니다.
+ *
+ * <p>재시작된 Step 은 앞서 처리한 회원이 Bitmap 에 없으므로 저장하지 않습니다.
+ * 이 경우 등급 쿠폰 발급 Step 은 members 테이블을 조회합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class GradeMemberBitmapCollector implements StepExecutionListener {
+
+    private final GradeMemberBitmapStore store;
+    private final MemberBitmapProperties properties;
+    private final Set<Long> gradeNos;
+
+    /**
+     * Writer 는 Step Thread 에서 호출되므로 모으는 중인 Bitmap 을 Step 을 실행하는 Thread 별로 보관합니다.
+     */
+    private final ThreadLocal<Map<Long, Roaring64NavigableMap>> current = new ThreadLocal<>();
+
+    /**
+     * @param store      - Bitmap 을 저장할 Store 입니다.
+     * @param properties - 회원 Bitmap 설정입니다.
+     * @param gradeNos   - Bitmap 을 만들 등급 번호입니다.
+     */
+    public GradeMemberBitmapCollector(GradeMemberBitmapStore store, MemberBitmapProperties properties,
+                                      Set<Long> gradeNos) {
+        this.store = store;
+        this.properties = properties;
+        this.gradeNos = gradeNos;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        current.remove();
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!stepExecution.getExecutionContext().isEmpty()) {
+            log.info("{} 가 재시작되어 회원 Bitmap 을 만들지 않습니다.", stepExecution.getStepName());
+            return;
+        }
+
+        Map<Long, Roaring64NavigableMap> bitmaps = new HashMap<>();
+        gradeNos.forEach(gradeNo -> bitmaps.put(gradeNo, new Roaring64NavigableMap()));
+        current.set(bitmaps);
+    }
+
+    /**
+     * 회원을 저장한 뒤 등급별 Bitmap 에 회원 번호를 추가하는 Writer 를 만듭니다.
+     * Chunk 가 재시도되어 같은 회원이 다시 저장되어도 Bitmap 에는 한 번만 들어갑니다.
+     *
+     * @param delegate - 회원을 저장하는 Writer 입니다.
+     * @return 회원 번호를 모으는 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    public ItemWriter<MemberGradeDto> collecting(ItemWriter<MemberGradeDto> delegate) {
+        if (!properties.isEnabled()) {
+            return delegate;
+        }
+
+        return items -> {
+            delegate.write(items);
+
+            Map<Long, Roaring64NavigableMap> bitmaps = current.get();
+            if (bitmaps == null) {
+                return;
+            }
+            for (MemberGradeDto member : items) {
+                Roaring64NavigableMap bitmap = bitmaps.get(member.getMemberGradeNo());
+                if (bitmap != null) {
+                    bitmap.addLong(member.getMemberNo());
+                }
+            }
+        };
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Map<Long, Roaring64NavigableMap> bitmaps = current.get();
+        current.remove();
+
+        if (bitmaps != null && stepExecution.getStatus() == BatchStatus.COMPLETED) {
+            store.publish(stepExecution.getJobExecution(), bitmaps);
+        }
+        return null;
+    }
+
+}
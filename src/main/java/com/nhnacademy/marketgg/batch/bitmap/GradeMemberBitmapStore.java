@@ -0,0 +1,163 @@
+package com.nhnacademy.marketgg.batch.bitmap;
+
+import com.nhnacademy.marketgg.batch.config.MemberBitmapProperties;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등급별 회원 번호 Bitmap 을 Job ExecutionContext 에 저장하고 조회하는 클래스입니다.
+ * 모든 등급 Bitmap 의 합계가 작으면 Base64 문자열로 ExecutionContext 에 직접 저장하고, 크면 모두 파일로 저장한 뒤 경로만 남깁니다.
+ * Job 이 완료되면 저장한 파일을 삭제합니다. 실패한 Job 은 재시작에 사용하도록 파일을 남겨 둡니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GradeMemberBitmapStore implements JobExecutionListener {
+
+    private static final String INLINE_KEY_PREFIX = "gradeMemberBitmap.";
+    private static final String FILE_KEY_PREFIX = "gradeMemberBitmapFile.";
+
+    /**
+     * Base64 로 늘어난 크기와 다른 ExecutionContext 값을 더해도 MySQL 의 TEXT(64KB) 컬럼을 넘지 않는 크기입니다.
+     */
+    private static final long MAX_INLINE_BYTES = 16L * 1024L;
+
+    private final MemberBitmapProperties properties;
+
+    /**
+     * 등급별 회원 번호 Bitmap 을 Job ExecutionContext 에 저장합니다.
+     * 모든 등급 Bitmap 의 크기 합계로 ExecutionContext 에 저장할지 정하므로, 등급이 늘어도 ExecutionContext 크기는 설정한 크기를 넘지 않습니다.
+     *
+     * @param jobExecution - Bitmap 을 전달할 Job 실행 정보입니다.
+     * @param bitmaps      - 회원 등급 번호별 회원 번호 Bitmap 입니다.
+     * @since 1.0.0
+     */
+    public void publish(JobExecution jobExecution, Map<Long, Roaring64NavigableMap> bitmaps) {
+        long totalBytes = 0L;
+        for (Roaring64NavigableMap bitmap : bitmaps.values()) {
+            bitmap.runOptimize();
+            totalBytes += bitmap.serializedSizeInBytes();
+        }
+        boolean inline = totalBytes <= Math.min(properties.getInlineMaxSize().toBytes(), MAX_INLINE_BYTES);
+
+        try {
+            for (Map.Entry<Long, Roaring64NavigableMap> entry : bitmaps.entrySet()) {
+                if (inline) {
+                    putInline(jobExecution.getExecutionContext(), entry.getKey(), entry.getValue());
+                } else {
+                    putFile(jobExecution, entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void putInline(ExecutionContext context, long gradeNo, Roaring64NavigableMap bitmap) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            bitmap.serializePortable(out);
+        }
+        context.putString(INLINE_KEY_PREFIX + gradeNo, Base64.getEncoder().encodeToString(bytes.toByteArray()));
+        context.remove(FILE_KEY_PREFIX + gradeNo);
+    }
+
+    private void putFile(JobExecution jobExecution, long gradeNo, Roaring64NavigableMap bitmap) throws IOException {
+        Path file = Paths.get(properties.getSpillDirectory(),
+                              "member-grade-" + jobExecution.getId() + "-" + gradeNo + ".roaring");
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            bitmap.serializePortable(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        ExecutionContext context = jobExecution.getExecutionContext();
+        context.putString(FILE_KEY_PREFIX + gradeNo, file.toString());
+        context.remove(INLINE_KEY_PREFIX + gradeNo);
+        log.info("등급 {} 회원 Bitmap({} 명, {} byte)을 파일에 저장했습니다: {}",
+                 gradeNo, bitmap.getLongCardinality(), bitmap.serializedSizeInBytes(), file);
+    }
+
+    /**
+     * 등급의 회원 번호 Bitmap 을 조회합니다.
+     *
+     * @param jobExecution - Bitmap 이 저장된 Job 실행 정보입니다.
+     * @param gradeNo      - 회원 등급 번호입니다.
+     * @return Bitmap 을 반환하고, 저장된 Bitmap 이 없거나 파일을 읽을 수 없으면 빈 값을 반환합니다.
+     * @since 1.0.0
+     */
+    public Optional<Roaring64NavigableMap> find(JobExecution jobExecution, long gradeNo) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+
+        try {
+            String inline = context.getString(INLINE_KEY_PREFIX + gradeNo, null);
+            if (inline != null) {
+                try (DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(Base64.getDecoder().decode(inline)))) {
+                    bitmap.deserializePortable(in);
+                }
+                return Optional.of(bitmap);
+            }
+
+            String file = context.getString(FILE_KEY_PREFIX + gradeNo, null);
+            if (file != null && Files.isReadable(Paths.get(file))) {
+                try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(Paths.get(file))))) {
+                    bitmap.deserializePortable(in);
+                }
+                return Optional.of(bitmap);
+            }
+        } catch (IOException e) {
+            log.warn("등급 {} 회원 Bitmap 을 읽지 못했습니다: {}", gradeNo, e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        // Bitmap 은 등급 업데이트 Step 이 끝날 때 저장합니다.
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : jobExecution.getExecutionContext().entrySet()) {
+            if (entry.getKey().startsWith(FILE_KEY_PREFIX)) {
+                try {
+                    Files.deleteIfExists(Paths.get((String) entry.getValue()));
+                } catch (IOException e) {
+                    log.warn("회원 Bitmap 파일을 삭제하지 못했습니다: {}", entry.getValue());
+                }
+            }
+        }
+    }
+
+}
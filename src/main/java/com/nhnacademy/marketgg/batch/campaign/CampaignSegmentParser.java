@@ -0,0 +1,46 @@
+package com.nhnacademy.marketgg.batch.campaign;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nhnacademy.marketgg.batch.domain.dto.CampaignSegment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job Parameter 로 전달된 캠페인 회원 조건 JSON 을 읽는 클래스입니다.
+ * 조건 이름을 잘못 쓰면 조건이 빠진 채로 더 많은 회원에게 발급되므로, 모르는 속성이 있으면 실패합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class CampaignSegmentParser {
+
+    private final ObjectReader reader;
+
+    public CampaignSegmentParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(CampaignSegment.class)
+                                  .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * 캠페인 회원 조건 JSON 을 읽습니다.
+     *
+     * @param json - 캠페인 회원 조건 JSON 입니다.
+     * @return 캠페인 회원 조건을 반환합니다.
+     * @throws IllegalArgumentException - JSON 이 없거나 형식이 맞지 않을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public CampaignSegment parse(String json) {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("캠페인 회원 조건(segment)이 없습니다.");
+        }
+
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("캠페인 회원 조건(segment)을 읽을 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+
+}
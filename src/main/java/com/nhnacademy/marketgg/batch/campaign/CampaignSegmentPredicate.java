@@ -0,0 +1,87 @@
+package com.nhnacademy.marketgg.batch.campaign;
+
+import com.nhnacademy.marketgg.batch.domain.dto.CampaignSegment;
+import com.nhnacademy.marketgg.batch.domain.entity.QGivenCoupon;
+import com.nhnacademy.marketgg.batch.domain.entity.QMember;
+import com.nhnacademy.marketgg.batch.domain.entity.QOrder;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 캠페인 회원 조건(CampaignSegment)을 Member 에 대한 QueryDSL 조건으로 변환하는 클래스입니다.
+ *
+ * @version 1.0.0
+ */
+public final class CampaignSegmentPredicate {
+
+    private static final QMember member = QMember.member;
+    private static final QOrder order = QOrder.order;
+    private static final QGivenCoupon givenCoupon = QGivenCoupon.givenCoupon;
+
+    private CampaignSegmentPredicate() {
+    }
+
+    /**
+     * 캠페인 회원 조건을 QueryDSL 조건으로 변환합니다.
+     * 탈퇴한 회원과 이미 쿠폰을 받은 회원을 제외하므로 같은 캠페인을 다시 실행해도 남은 회원에게만 발급합니다.
+     *
+     * @param segment  - 캠페인 회원 조건입니다.
+     * @param couponNo - 발급할 쿠폰 번호입니다.
+     * @param baseDate - 일 수 조건의 기준일입니다. 기준일 당일까지 포함합니다.
+     * @return 회원 조회 조건을 반환합니다.
+     * @since 1.0.0
+     */
+    public static Predicate of(CampaignSegment segment, long couponNo, LocalDate baseDate) {
+        LocalDateTime endOfBaseDate = baseDate.plusDays(1L).atStartOfDay();
+        BooleanBuilder builder = new BooleanBuilder(member.deletedAt.isNull());
+
+        if (Objects.nonNull(segment.getGender())) {
+            builder.and(member.gender.eq(segment.getGender()));
+        }
+        if (Objects.nonNull(segment.getMemberGradeNos()) && !segment.getMemberGradeNos().isEmpty()) {
+            builder.and(member.memberGrade.id.in(segment.getMemberGradeNos()));
+        }
+        if (Objects.nonNull(segment.getBirthMonth())) {
+            builder.and(member.birthDate.month().eq(segment.getBirthMonth()));
+        }
+        if (Objects.nonNull(segment.getMinAge())) {
+            builder.and(member.birthDate.loe(baseDate.minusYears(segment.getMinAge())));
+        }
+        if (Objects.nonNull(segment.getMaxAge())) {
+            builder.and(member.birthDate.gt(baseDate.minusYears(segment.getMaxAge() + 1L)));
+        }
+        if (Objects.nonNull(segment.getJoinedWithinDays())) {
+            builder.and(member.createdAt.goe(endOfBaseDate.minusDays(segment.getJoinedWithinDays())));
+        }
+        if (Objects.nonNull(segment.getOrderedWithinDays())) {
+            builder.and(orderedBetween(endOfBaseDate.minusDays(segment.getOrderedWithinDays()), endOfBaseDate));
+        }
+        if (Objects.nonNull(segment.getNotOrderedWithinDays())) {
+            builder.and(orderedBetween(endOfBaseDate.minusDays(segment.getNotOrderedWithinDays()), endOfBaseDate)
+                            .not());
+        }
+
+        builder.and(JPAExpressions.selectOne()
+                                  .from(givenCoupon)
+                                  .where(givenCoupon.pk.couponId.eq(couponNo),
+                                         givenCoupon.pk.memberNo.eq(member.id))
+                                  .notExists());
+
+        return builder.getValue();
+    }
+
+    private static BooleanExpression orderedBetween(LocalDateTime from, LocalDateTime to) {
+        return JPAExpressions.selectOne()
+                             .from(order)
+                             .where(order.memberNo.eq(member.id),
+                                    order.createdAt.goe(from),
+                                    order.createdAt.lt(to))
+                             .exists();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.marketgg.batch.campaign;
+
+import com.nhnacademy.marketgg.batch.domain.dto.MemberNoRangeDto;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 회원 번호 범위를 gridSize 개의 연속된 구간으로 나누는 Partitioner 입니다.
+ * 각 구간은 minMemberNo, maxMemberNo(모두 포함)로 Worker Step 의 ExecutionContext 에 전달됩니다.
+ * 구간은 회원 번호 폭으로 나누므로 조건에 맞는 회원이 한쪽에 몰려 있으면 구간별 건수가 다를 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+public class MemberNoRangePartitioner implements Partitioner {
+
+    public static final String MIN_MEMBER_NO = "minMemberNo";
+    public static final String MAX_MEMBER_NO = "maxMemberNo";
+
+    private final MemberNoRangeDto range;
+
+    public MemberNoRangePartitioner(MemberNoRangeDto range) {
+        this.range = range;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        if (range.isEmpty()) {
+            // 대상 회원이 없어도 Step 실행 기록이 남도록 빈 구간 하나를 만듭니다.
+            partitions.put("partition0", context(0L, -1L));
+            return partitions;
+        }
+
+        long min = range.getMinMemberNo();
+        long max = range.getMaxMemberNo();
+        long width = Math.max(1L, (max - min + gridSize) / gridSize);
+
+        int index = 0;
+        for (long from = min; from <= max; from += width) {
+            partitions.put("partition" + index++, context(from, Math.min(max, from + width - 1)));
+        }
+
+        return partitions;
+    }
+
+    private ExecutionContext context(long minMemberNo, long maxMemberNo) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_MEMBER_NO, minMemberNo);
+        context.putLong(MAX_MEMBER_NO, maxMemberNo);
+        return context;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+/**
+ * @Async 설정 파일입니다.
+ * TaskExecutor Bean 이 여러 개이면 @Async 는 매번 새 Thread 를 만드는 기본 Executor 를 사용하므로,
+ * 크기가 제한된 Job 실행용 Executor 를 지정합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final ExecutorProperties executorProperties;
+    private final TaskExecutorFactory taskExecutorFactory;
+
+    /**
+     * @Async 로 실행되는 Job 실행 작업에 사용하는 TaskExecutor 입니다.
+     *
+     * @return Job 실행용 TaskExecutor 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public AsyncTaskExecutor asyncTaskExecutor() {
+        return taskExecutorFactory.create("async-job-", executorProperties.getAsyncPoolSize(),
+                                          executorProperties.getAsyncQueueCapacity());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 {} 실패", method.getName(), e);
+    }
+
+}
@@ -1,13 +1,31 @@
 package com.nhnacademy.marketgg.batch.config;
 
-import java.time.LocalDateTime;
+import com.nhnacademy.marketgg.batch.bitmap.GradeMemberBitmapStore;
+import com.nhnacademy.marketgg.batch.campaign.CampaignSegmentParser;
+import com.nhnacademy.marketgg.batch.config.GradeUpdateProperties.AggregationMode;
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.listener.JobProgressListener;
+import com.nhnacademy.marketgg.batch.listener.PerformanceHistoryListener;
+import com.nhnacademy.marketgg.batch.listener.QueryPlanPreflightListener;
+import com.nhnacademy.marketgg.batch.preflight.QueryPlanVerifier;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.job.CompositeJobParametersValidator;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.FlowJobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 /**
  * Spring Batch 설정 파일 입니다.
@@ -23,24 +41,162 @@ public class BatchJobConfig {
     private final JobBuilderFactory jobBuilderFactory;
     private final Step memberGradeResetStep;
     private final Step memberGradeUpdateStep;
+    private final Step memberGradeResetEventStep;
+    private final Step memberSpendWindowStep;
     private final Step gVipGivenCouponMemberStep;
     private final Step vipGivenCouponMemberStep;
+    private final Step birthdayGivenCouponMemberStep;
+    private final Step memberGradeSnapshotStep;
+    private final Step campaignCouponStep;
+    private final Step gradePromotionStep;
+    private final JobProgressListener jobProgressListener;
+    private final PerformanceHistoryListener performanceHistoryListener;
+    private final QueryPlanVerifier queryPlanVerifier;
+    private final TaskExecutorFactory taskExecutorFactory;
+    private final GradeMemberBitmapStore gradeMemberBitmapStore;
+    private final GradeSnapshotProperties gradeSnapshotProperties;
+    private final GradeUpdateProperties gradeUpdateProperties;
+    private final OutboxProperties outboxProperties;
+    private final CampaignSegmentParser campaignSegmentParser;
 
     /**
      * Batch 의 Job 에 Step flow 을 설정합니다.
-     * job 의 이름은 실행 시 중복되지 않고 실행 시간을 알 수 있도록 현재 시간으로 설정합니다.
-     * Step flow 는 4단계로 구성되어 있습니다.
+     * Job 이름을 고정하므로 같은 조회 기간(startDate, endDate)으로 이미 완료된 Job 은 JobRepository 가 다시 실행하지 않습니다.
+     * 등급 초기화, 등급 업데이트 Step 이 순서대로 실행된 후 등급별 쿠폰 발급 Step 들이 Split Flow 로 동시에 실행됩니다.
+     * 스냅샷을 사용하면 마지막에 회원 등급 스냅샷 파일을 만듭니다.
+     * Outbox 를 사용하면 등급 업데이트 뒤에 초기화로만 등급이 바뀐 회원의 등급 변경 이벤트를 저장합니다.
+     * 구매 금액을 기간(ROLLING_WINDOW)으로 집계하면 등급 초기화 전에 기간 구매 금액 합계를 먼저 갱신합니다.
+     * Step 을 실행하기 전에 구매 금액, 등급별 회원 Reader 쿼리의 실행 계획을 확인합니다.
      *
+     * @param givenCouponSplitFlow - 등급별 쿠폰 발급 Step 들을 동시에 실행하는 Split Flow 입니다.
      * @return jobBuilderFactory 로 build 한 Job 을 반환합니다.
      */
     @Bean
-    public Job memberGradeJob() {
-        return jobBuilderFactory.get(LocalDateTime.now().toString())
-                                .start(memberGradeResetStep)
-                                .next(memberGradeUpdateStep)
-                                .next(gVipGivenCouponMemberStep)
-                                .next(vipGivenCouponMemberStep)
+    public Job memberGradeJob(Flow givenCouponSplitFlow) {
+        boolean rollingWindow = gradeUpdateProperties.getAggregationMode() == AggregationMode.ROLLING_WINDOW;
+        FlowBuilder<FlowJobBuilder> flow = jobBuilderFactory.get("memberGradeJob")
+                                                            .listener(jobProgressListener)
+                                                            .listener(performanceHistoryListener)
+                                                            .listener(new QueryPlanPreflightListener(
+                                                                queryPlanVerifier,
+                                                                List.of("memberReaderQuery", "gradeMemberReaderQuery")))
+                                                            .listener(gradeMemberBitmapStore)
+                                                            .flow(rollingWindow ? memberSpendWindowStep
+                                                                                : memberGradeResetStep);
+        if (rollingWindow) {
+            flow.next(memberGradeResetStep);
+        }
+        flow.next(memberGradeUpdateStep);
+        if (outboxProperties.isEnabled()) {
+            flow.next(memberGradeResetEventStep);
+        }
+        flow.next(givenCouponSplitFlow);
+
+        if (gradeSnapshotProperties.isEnabled()) {
+            flow.next(memberGradeSnapshotStep);
+        }
+
+        return flow.end()
+                   .build();
+    }
+
+    /**
+     * 오늘 생일인 회원에게 생일 쿠폰을 지급하는 Job 입니다.
+     * 발급일(issueDate)이 Job Parameter 에 포함되므로 같은 날 두 번 실행되어도 쿠폰이 중복 발급되지 않습니다.
+     *
+     * @return jobBuilderFactory 로 build 한 Job 을 반환합니다.
+     */
+    @Bean
+    public Job birthdayCouponJob() {
+        return jobBuilderFactory.get("birthdayCouponJob")
+                                .listener(jobProgressListener)
+                                .listener(performanceHistoryListener)
+                                .listener(new QueryPlanPreflightListener(queryPlanVerifier,
+                                                                         List.of("birthdayMemberReaderQuery")))
+                                .start(birthdayGivenCouponMemberStep)
+                                .build();
+    }
+
+    /**
+     * 회원 조건(segment)에 맞는 회원에게 캠페인 쿠폰(couponNo)을 지급하는 Job 입니다.
+     * 회원 조건을 읽을 수 없으면 Job 을 시작하지 않습니다.
+     *
+     * @return jobBuilderFactory 로 build 한 Job 을 반환합니다.
+     */
+    @Bean
+    public Job campaignCouponJob() {
+        return jobBuilderFactory.get("campaignCouponJob")
+                                .listener(jobProgressListener)
+                                .listener(performanceHistoryListener)
+                                .validator(campaignCouponJobParametersValidator())
+                                .start(campaignCouponStep)
+                                .build();
+    }
+
+    /**
+     * 마지막으로 처리한 주문 이후의 새 주문으로 이번 달 구매 금액이 기준을 넘은 회원을 승급시키고 등급 쿠폰을 지급하는 Job 입니다.
+     * 실행 시각(runAt)이 Job Parameter 에 포함되므로 실행할 때마다 새 Job 이 실행됩니다.
+     *
+     * @return jobBuilderFactory 로 build 한 Job 을 반환합니다.
+     */
+    @Bean
+    public Job gradePromotionJob() {
+        return jobBuilderFactory.get("gradePromotionJob")
+                                .listener(jobProgressListener)
+                                .listener(performanceHistoryListener)
+                                .validator(new DefaultJobParametersValidator(new String[] {"runAt"}, new String[0]))
+                                .start(gradePromotionStep)
                                 .build();
     }
 
+    private JobParametersValidator campaignCouponJobParametersValidator() {
+        JobParametersValidator segmentValidator = parameters -> {
+            try {
+                campaignSegmentParser.parse(parameters.getString("segment"));
+            } catch (IllegalArgumentException e) {
+                throw new JobParametersInvalidException(e.getMessage());
+            }
+        };
+
+        CompositeJobParametersValidator validator = new CompositeJobParametersValidator();
+        validator.setValidators(List.of(
+            new DefaultJobParametersValidator(new String[] {"couponNo", "segment", "baseDate"}, new String[0]),
+            segmentValidator));
+
+        return validator;
+    }
+
+    /**
+     * 등급별 쿠폰 발급 Step 을 각각의 Flow 로 감싸 동시에 실행하는 Split Flow 입니다.
+     * 등급별 Step 은 서로 다른 회원을 대상으로 하므로 등급 업데이트가 끝난 뒤에는 서로 의존하지 않습니다.
+     * 새로운 등급이 추가되면 등급 쿠폰 발급 Step 목록에 추가하면 됩니다.
+     *
+     * @param givenCouponTaskExecutor - Split Flow 를 실행할 TaskExecutor 입니다.
+     * @return 등급 쿠폰 발급 Step 들을 병렬로 실행하는 Flow 를 반환합니다.
+     */
+    @Bean
+    public Flow givenCouponSplitFlow(TaskExecutor givenCouponTaskExecutor) {
+        Flow[] flows = List.of(gVipGivenCouponMemberStep, vipGivenCouponMemberStep)
+                           .stream()
+                           .map(step -> new FlowBuilder<SimpleFlow>(step.getName() + "Flow").start(step).build())
+                           .toArray(Flow[]::new);
+
+        return new FlowBuilder<SimpleFlow>("givenCouponSplitFlow")
+            .split(givenCouponTaskExecutor)
+            .add(flows)
+            .build();
+    }
+
+    /**
+     * 등급 쿠폰 발급 Split Flow 를 실행하는 TaskExecutor 입니다.
+     * 크기는 동시에 실행할 등급 쿠폰 발급 Step 의 수를 기준으로 설정합니다.
+     *
+     * @param poolSize - 동시에 실행할 Flow 의 수 입니다.
+     * @return Split Flow 를 실행할 TaskExecutor 를 반환합니다.
+     */
+    @Bean
+    public TaskExecutor givenCouponTaskExecutor(@Value("${marketgg.batch.split.pool-size:4}") int poolSize) {
+        return taskExecutorFactory.create("given-coupon-", poolSize, Integer.MAX_VALUE);
+    }
+
 }
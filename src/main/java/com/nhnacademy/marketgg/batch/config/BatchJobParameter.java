@@ -1,6 +1,5 @@
 package com.nhnacademy.marketgg.batch.config;
 
-import com.nhnacademy.marketgg.batch.domain.constant.CouponName;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,11 +17,4 @@ public class BatchJobParameter {
     @Value("#{jobParameters['endDate']}")
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate endDate;
-
-    @Value("#{jobParameters['gradeNo']}")
-    private Long gradeNo;
-
-    @Value("#{jobParameters['couponName']}")
-    private CouponName couponName;
-
 }
@@ -0,0 +1,27 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 캠페인 쿠폰 Job 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.campaign")
+@Getter
+@Setter
+public class CampaignProperties {
+
+    /**
+     * 회원 번호 범위를 나누는 구간 수이자 동시에 실행하는 Worker Step 수 입니다.
+     */
+    private int gridSize = 4;
+
+    /**
+     * Worker Step 의 Chunk 크기이자 한 번에 조회하는 회원 수 입니다.
+     */
+    private int chunkSize = 1000;
+
+}
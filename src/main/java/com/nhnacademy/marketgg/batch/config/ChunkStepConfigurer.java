@@ -0,0 +1,147 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.nhnacademy.marketgg.batch.exception.MemberNotFoundException;
+import com.nhnacademy.marketgg.batch.listener.ChunkPhaseJfrListener;
+import com.nhnacademy.marketgg.batch.listener.LoggingSkipListener;
+import com.nhnacademy.marketgg.batch.listener.StepPerformanceListener;
+import com.nhnacademy.marketgg.batch.listener.StepProgressListener;
+import com.nhnacademy.marketgg.batch.listener.ThrottleListener;
+import com.nhnacademy.marketgg.batch.progress.JobProgressRegistry;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
+import com.nhnacademy.marketgg.batch.throttle.ThrottleRegistry;
+import java.util.List;
+import javax.persistence.EntityExistsException;
+import javax.persistence.LockTimeoutException;
+import javax.persistence.PessimisticLockException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.repeat.RepeatListener;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Chunk Step 에 공통 정책을 적용하는 클래스입니다.
+ * 각 Step 은 reader, processor, writer 를 설정한 뒤 이 클래스를 거쳐 빌드합니다.
+ *
+ * <p>Deadlock, Lock 대기 시간 초과처럼 다시 시도하면 성공할 수 있는 오류는 지수적으로 늘어나는 간격으로 Chunk 를 재시도합니다.
+ * 중복 키처럼 데이터 자체가 잘못된 경우에는 실패한 Chunk 를 한 건씩 나누어 다시 처리해 문제 데이터만 건너뛰고 로그로 남깁니다.
+ * 그래서 Chunk 하나의 일시적인 오류로 Step 전체가 실패하고 처음부터 다시 실행되지 않습니다.</p>
+ *
+ * <p>Chunk 가 Commit 될 때마다 진행 상황을 JobProgressRegistry 에 기록하고,
+ * JFR 이벤트를 사용하면 Chunk 의 읽기, 처리, 저장 단계별 JFR 이벤트를 남깁니다.</p>
+ *
+ * <p>성능 기록을 사용하면 Commit 된 Chunk 의 지연 시간과 DB 작업 시간을 재어 Step ExecutionContext 에 요약을 남깁니다.</p>
+ *
+ * <p>Step 별 쓰기 속도 제한(ThrottleRegistry)만큼 Chunk 트랜잭션을 시작하기 전과 Commit 한 뒤에 기다립니다. 제한이 없으면 기다리지 않습니다.
+ * 이를 위해 Step 의 반복(stepOperations)을 직접 설정하므로 Chunk Step 에 taskExecutor 를 설정해도 사용되지 않습니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkStepConfigurer {
+
+    private static final List<Class<? extends Throwable>> RETRYABLE_EXCEPTIONS =
+        List.of(PessimisticLockingFailureException.class,  // Deadlock, Lock wait timeout (JDBC)
+                QueryTimeoutException.class,
+                PessimisticLockException.class,            // Deadlock, Lock wait timeout (JPA flush)
+                LockTimeoutException.class);
+
+    private static final List<Class<? extends Throwable>> SKIPPABLE_EXCEPTIONS =
+        List.of(DataIntegrityViolationException.class,   // 중복 키, 제약 조건 위반 (JDBC)
+                ConstraintViolationException.class,      // 중복 키, 제약 조건 위반 (JPA flush)
+                EntityExistsException.class,
+                MemberNotFoundException.class);
+
+    private final FaultToleranceProperties properties;
+    private final JobProgressRegistry progressRegistry;
+    private final JfrProperties jfrProperties;
+    private final ThrottleRegistry throttleRegistry;
+    private final PerformanceHistoryProperties performanceHistoryProperties;
+    private final ChunkPhaseJfrListener chunkPhaseJfrListener = new ChunkPhaseJfrListener();
+    private final StepPerformanceListener stepPerformanceListener = new StepPerformanceListener();
+
+    /**
+     * Step 에 재시도, 건너뛰기 정책을 적용합니다. 전체 데이터 수를 모르는 Step 에 사용합니다.
+     *
+     * @param builder - reader, processor, writer 설정을 마친 Step Builder 입니다.
+     * @param <I>     - reader 가 읽는 데이터 타입입니다.
+     * @param <O>     - writer 가 저장하는 데이터 타입입니다.
+     * @return 공통 정책을 적용한 Step Builder 를 반환합니다.
+     * @since 1.0.0
+     */
+    public <I, O> FaultTolerantStepBuilder<I, O> configure(SimpleStepBuilder<I, O> builder) {
+        return configure(builder, StepWorkCounter.UNKNOWN);
+    }
+
+    /**
+     * Step 에 재시도, 건너뛰기 정책과 진행 상황 기록을 적용합니다.
+     *
+     * @param builder     - reader, processor, writer 설정을 마친 Step Builder 입니다.
+     * @param workCounter - Step 이 처리할 전체 데이터 수를 계산합니다. 진행률과 예상 종료 시각에 사용합니다.
+     * @param <I>         - reader 가 읽는 데이터 타입입니다.
+     * @param <O>         - writer 가 저장하는 데이터 타입입니다.
+     * @return 공통 정책을 적용한 Step Builder 를 반환합니다.
+     * @since 1.0.0
+     */
+    public <I, O> FaultTolerantStepBuilder<I, O> configure(SimpleStepBuilder<I, O> builder,
+                                                           StepWorkCounter workCounter) {
+        FaultTolerantStepBuilder<I, O> faultTolerantBuilder = builder.faultTolerant()
+                                                                     .retryLimit(properties.getRetryLimit())
+                                                                     .backOffPolicy(backOffPolicy())
+                                                                     .skipLimit(properties.getSkipLimit())
+                                                                     .listener(new LoggingSkipListener());
+
+        RETRYABLE_EXCEPTIONS.forEach(faultTolerantBuilder::retry);
+        SKIPPABLE_EXCEPTIONS.forEach(faultTolerantBuilder::skip);
+
+        StepProgressListener progressListener = new StepProgressListener(progressRegistry, workCounter);
+        faultTolerantBuilder.listener((StepExecutionListener) progressListener);
+        faultTolerantBuilder.listener((ChunkListener) progressListener);
+
+        ThrottleListener throttleListener = new ThrottleListener(throttleRegistry);
+        RepeatTemplate stepOperations = new RepeatTemplate();
+        stepOperations.setListeners(new RepeatListener[] {throttleListener});
+        faultTolerantBuilder.stepOperations(stepOperations);
+        faultTolerantBuilder.listener((ChunkListener) throttleListener);
+        faultTolerantBuilder.listener((ItemWriteListener<Object>) throttleListener);
+
+        if (jfrProperties.isEnabled()) {
+            faultTolerantBuilder.listener((ChunkListener) chunkPhaseJfrListener);
+            faultTolerantBuilder.listener((ItemReadListener<Object>) chunkPhaseJfrListener);
+            faultTolerantBuilder.listener((ItemProcessListener<Object, Object>) chunkPhaseJfrListener);
+            faultTolerantBuilder.listener((ItemWriteListener<Object>) chunkPhaseJfrListener);
+        }
+
+        if (performanceHistoryProperties.isEnabled()) {
+            faultTolerantBuilder.listener((StepExecutionListener) stepPerformanceListener);
+            faultTolerantBuilder.listener((ChunkListener) stepPerformanceListener);
+            faultTolerantBuilder.listener((ItemReadListener<Object>) stepPerformanceListener);
+            faultTolerantBuilder.listener((ItemWriteListener<Object>) stepPerformanceListener);
+        }
+
+        return faultTolerantBuilder;
+    }
+
+    private ExponentialBackOffPolicy backOffPolicy() {
+        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+
+        backOffPolicy.setInitialInterval(properties.getInitialInterval().toMillis());
+        backOffPolicy.setMultiplier(properties.getMultiplier());
+        backOffPolicy.setMaxInterval(properties.getMaxInterval().toMillis());
+
+        return backOffPolicy;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Scheduler, 비동기 Job 실행(@Async), 병렬 Step 이 사용하는 Thread 설정입니다.
+ * 병렬 Step 의 동시 실행 수는 각 Step 설정(marketgg.batch.split.pool-size, marketgg.batch.grade-update.async-pool-size)을 따릅니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.executor")
+@Getter
+@Setter
+public class ExecutorProperties {
+
+    /**
+     * Thread 종류입니다.
+     * VIRTUAL 은 작업마다 Virtual Thread 를 만들고 Pool 크기를 동시 실행 수 제한으로 사용합니다.
+     * Virtual Thread 를 지원하지 않는 JDK 에서는 PLATFORM 으로 동작합니다.
+     * JDBC 드라이버의 synchronized 구간에서는 Carrier Thread 가 고정(pinning)될 수 있으므로 동시 실행 수 제한은 그대로 유지합니다.
+     */
+    private ThreadType threadType = ThreadType.PLATFORM;
+
+    /**
+     * Scheduler Thread 수 입니다. 동시에 실행되는 Scheduler 를 고려해 설정합니다.
+     */
+    private int schedulerPoolSize = 5;
+
+    /**
+     * @Async 로 Job 을 실행하는 Thread 수 입니다.
+     */
+    private int asyncPoolSize = 4;
+
+    /**
+     * @Async 작업 대기열 크기입니다. PLATFORM 에서만 사용합니다.
+     */
+    private int asyncQueueCapacity = 16;
+
+    public enum ThreadType {
+        PLATFORM,
+        VIRTUAL
+    }
+
+}
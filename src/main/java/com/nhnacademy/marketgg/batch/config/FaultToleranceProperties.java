@@ -0,0 +1,37 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 모든 Chunk Step 에 공통으로 적용하는 재시도, 건너뛰기 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.fault-tolerance")
+@Getter
+@Setter
+public class FaultToleranceProperties {
+
+    /**
+     * Deadlock, Lock 대기 시간 초과 같은 일시적인 오류가 발생했을 때 Chunk 를 재시도하는 최대 횟수입니다.
+     */
+    private int retryLimit = 5;
+
+    /**
+     * 첫 번째 재시도 전 대기 시간입니다. 이후 재시도마다 multiplier 만큼 늘어납니다.
+     */
+    private Duration initialInterval = Duration.ofMillis(200L);
+
+    private double multiplier = 2.0D;
+
+    private Duration maxInterval = Duration.ofSeconds(5L);
+
+    /**
+     * Step 에서 건너뛸 수 있는 잘못된 데이터의 최대 개수입니다. 초과하면 Step 이 실패합니다.
+     */
+    private int skipLimit = 100;
+
+}
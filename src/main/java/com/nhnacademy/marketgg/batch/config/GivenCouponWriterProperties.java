@@ -0,0 +1,28 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 지급 쿠폰(given_coupons) 대량 저장 Writer 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.given-coupon-writer")
+@Getter
+@Setter
+public class GivenCouponWriterProperties {
+
+    /**
+     * INSERT 문 하나에 담는 최대 행 수입니다.
+     */
+    private int rowsPerStatement = 1000;
+
+    /**
+     * INSERT 문 하나의 최대 크기입니다. MySQL max_allowed_packet 보다 작게 설정합니다.
+     */
+    private DataSize maxPacketSize = DataSize.ofMegabytes(4L);
+
+}
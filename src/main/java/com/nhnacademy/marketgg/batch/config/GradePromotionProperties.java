@@ -0,0 +1,39 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 월중 등급 승급 Job 설정입니다. batch_watermark, member_monthly_spend 테이블(db/grade_promotion.sql)이 필요합니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.grade-promotion")
+@Getter
+@Setter
+public class GradePromotionProperties {
+
+    /**
+     * true 이면 Scheduler 가 cron 마다 Job 을 실행합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 주기입니다. 매월 등급 갱신 Job 과 같은 잠금을 사용하므로, 매시 정각(매월 1일 자정)과 겹치지 않도록 기본값은 매시 30분입니다.
+     */
+    private String cron = "0 30 * * * *";
+
+    /**
+     * Chunk 크기이자 한 번에 조회하는 주문 수 입니다.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 실행 시각에서 이 시간을 뺀 시각 이전에 생성된 주문만 읽습니다.
+     * 주문 번호는 Commit 순서와 다를 수 있으므로, 아직 Commit 되지 않은 앞 번호 주문을 건너뛰지 않도록 여유를 둡니다.
+     */
+    private Duration safetyLag = Duration.ofMinutes(1L);
+
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.nhnacademy.marketgg.batch.reader.CursorFetchSize;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * memberGradeJob 마지막에 회원 등급 스냅샷 파일을 만드는 Step 설정입니다.
+ * 다른 서비스는 members 테이블을 조회하지 않고 GradeSnapshot 으로 파일을 열어 등급을 조회합니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.grade-snapshot")
+@Getter
+@Setter
+public class GradeSnapshotProperties {
+
+    /**
+     * true 이면 쿠폰 발급이 끝난 뒤 스냅샷 파일을 만듭니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷 파일 경로입니다. 같은 디렉토리에 임시 파일을 쓴 뒤 원자적으로 교체하므로 읽는 쪽은 항상 완성된 파일만 봅니다.
+     */
+    private String path = "snapshot/member-grade.snapshot";
+
+    /**
+     * Cursor 가 한 번에 가져오는 행 수 입니다.
+     * 기본값(Integer.MIN_VALUE)은 MySQL 에서 행 단위로 Streaming 하므로 members 테이블 전체를 드라이버 메모리에 올리지 않습니다.
+     * 양수는 MySQL URL 에 useCursorFetch=true 를 설정해야 적용됩니다.
+     */
+    private int fetchSize = CursorFetchSize.STREAMING;
+
+}
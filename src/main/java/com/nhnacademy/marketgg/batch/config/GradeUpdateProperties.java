@@ -0,0 +1,72 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.nhnacademy.marketgg.batch.reader.CursorFetchSize;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원 등급 업데이트 Step(memberGradeUpdateStep) 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.grade-update")
+@Getter
+@Setter
+public class GradeUpdateProperties {
+
+    /**
+     * true 이면 Chunk 안의 회원별 처리(등급, 회원 조회)를 Thread Pool 에서 동시에 실행하고,
+     * Writer 가 처리 결과(Future)를 모아 Chunk 단위 트랜잭션으로 저장합니다.
+     */
+    private boolean asyncEnabled = false;
+
+    /**
+     * 비동기 처리 Thread 수 입니다. 동시에 실행되는 DB 조회 수이므로 Connection Pool 크기보다 작게 설정합니다.
+     */
+    private int asyncPoolSize = 8;
+
+    /**
+     * 비동기 처리 대기열 크기입니다. 대기열이 가득 차면 Step Thread 가 직접 처리해 속도를 맞춥니다.
+     */
+    private int asyncQueueCapacity = 100;
+
+    /**
+     * 회원별 총 구매 금액을 집계하는 곳입니다.
+     * DATABASE 는 DB 의 GROUP BY 결과를 Page 단위로 조회하고,
+     * IN_PROCESS 는 주문을 한 번 순서대로 읽어 Batch 서버 메모리에서 집계합니다.
+     * ROLLING_WINDOW 는 지난 windowMonths 개월 구매 금액의 월 평균으로 등급을 정하며,
+     * 실행할 때마다 새 달을 더하고 기간에서 빠지는 달을 빼서 지난 달 주문만 집계합니다.
+     */
+    private AggregationMode aggregationMode = AggregationMode.DATABASE;
+
+    /**
+     * IN_PROCESS 집계에서 Cursor 가 한 번에 가져오는 주문 행 수 입니다.
+     * 기본값(Integer.MIN_VALUE)은 MySQL 에서 행 단위로 Streaming 하므로 한 달 주문을 드라이버 메모리에 모두 올리지 않습니다.
+     * 양수는 MySQL URL 에 useCursorFetch=true 를 설정해야 적용됩니다.
+     */
+    private int aggregationFetchSize = CursorFetchSize.STREAMING;
+
+    /**
+     * ROLLING_WINDOW 집계에서 등급에 사용하는 개월 수 입니다. 지난 달을 포함합니다.
+     * 바꾸면 다음 실행에서 기간 전체를 주문으로 다시 집계합니다.
+     */
+    private int windowMonths = 3;
+
+    /**
+     * 등급을 정하는 구매 금액의 개월 수 입니다. 매월 등급 갱신과 월중 등급 승급이 같은 기준을 사용합니다.
+     *
+     * @return ROLLING_WINDOW 이면 windowMonths, 아니면 1 을 반환합니다.
+     * @since 1.0.0
+     */
+    public int gradeMonths() {
+        return aggregationMode == AggregationMode.ROLLING_WINDOW ? windowMonths : 1;
+    }
+
+    public enum AggregationMode {
+        DATABASE,
+        IN_PROCESS,
+        ROLLING_WINDOW
+    }
+
+}
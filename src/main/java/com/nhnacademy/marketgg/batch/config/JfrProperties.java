@@ -0,0 +1,45 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Chunk 단계(읽기, 처리, 저장)별 JFR(Java Flight Recorder) 이벤트 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.jfr")
+@Getter
+@Setter
+public class JfrProperties {
+
+    /**
+     * true 이면 모든 Chunk Step 에 단계별 JFR 이벤트를 남기는 Listener 를 등록합니다.
+     * 이벤트는 JFR 녹화 중일 때만 기록되므로, 녹화를 하지 않으면 비용이 거의 없습니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * true 이면 애플리케이션 시작 시 JFR 녹화를 시작하고 종료 시 recordingFile 에 저장합니다.
+     * false 이면 -XX:StartFlightRecording 이나 jcmd JFR.start 로 외부에서 녹화합니다.
+     */
+    private boolean recording = false;
+
+    /**
+     * 녹화에 사용할 JDK 설정 이름(default, profile) 입니다. GC, JDBC Socket I/O 이벤트도 이 설정으로 함께 기록됩니다.
+     */
+    private String recordingSettings = "default";
+
+    /**
+     * 녹화 파일 경로입니다.
+     */
+    private String recordingFile = "marketgg-batch.jfr";
+
+    /**
+     * 녹화 데이터를 보관하는 최대 기간입니다.
+     */
+    private Duration recordingMaxAge = Duration.ofHours(24L);
+
+}
@@ -0,0 +1,96 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Job 실행 대기열 설정입니다. Scheduler 와 /batch/jobs 로 요청한 Job 은 모두 이 설정에 따라 대기열을 거쳐 실행됩니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.dispatch")
+@Getter
+@Setter
+public class JobDispatchProperties {
+
+    /**
+     * 동시에 실행하는 최대 Job 수 입니다.
+     */
+    private int maxConcurrentJobs = 3;
+
+    /**
+     * 동시에 실행하는 최대 무거운(heavy) Job 수 입니다.
+     * maxConcurrentJobs 보다 작으면 무거운 Job 이 실행 중이어도 가벼운 Job 이 실행될 자리가 남습니다.
+     */
+    private int maxConcurrentHeavyJobs = 1;
+
+    /**
+     * 실행을 기다리는 최대 Job 수 입니다. 넘으면 요청을 거절합니다.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Job 별 설정이 없을 때 사용하는 설정입니다.
+     */
+    private JobLimit defaults = new JobLimit();
+
+    /**
+     * Job Bean 이름별 설정입니다. 예) marketgg.batch.dispatch.jobs.memberGradeJob.heavy=true
+     */
+    private Map<String, JobLimit> jobs = new HashMap<>();
+
+    /**
+     * Job 의 설정을 조회합니다.
+     *
+     * @param jobName - Job Bean 이름입니다.
+     * @return Job 별 설정이 없으면 기본 설정을 반환합니다.
+     * @since 1.0.0
+     */
+    public JobLimit find(String jobName) {
+        return jobs.getOrDefault(jobName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class JobLimit {
+
+        /**
+         * 값이 클수록 먼저 실행합니다. 같으면 먼저 요청한 Job 을 먼저 실행합니다.
+         */
+        private int priority = 5;
+
+        /**
+         * 같은 Job 을 동시에 실행하는 최대 수 입니다.
+         */
+        private int maxConcurrent = 1;
+
+        /**
+         * true 이면 무거운 Job 으로 보고 maxConcurrentHeavyJobs 를 함께 적용합니다.
+         */
+        private boolean heavy = false;
+
+        /**
+         * 인스턴스 간 중복 실행을 막는 잠금(scheduler_locks) 이름입니다. 비어 있으면 잠그지 않습니다.
+         * 같은 잠금 이름을 쓰는 Job 은 어느 인스턴스에서도 동시에 실행되지 않습니다.
+         */
+        private String lockName;
+
+        /**
+         * 잠금 만료 시간입니다. Job 이 실행되는 동안 만료 시간의 1/3 마다 연장하므로 Job 실행 시간보다 짧아도 됩니다.
+         * 인스턴스가 비정상 종료되면 이 시간 뒤에 다른 인스턴스가 잠금을 가져갈 수 있습니다.
+         */
+        private Duration lockLease = Duration.ofMinutes(5L);
+
+        /**
+         * Job 이 일찍 끝나도 잠금을 얻은 시각부터 잠금을 유지하는 최소 시간입니다.
+         * 인스턴스마다 스케줄이 조금씩 늦게 시작되어도 다른 인스턴스가 같은 Job 을 다시 실행하지 않도록 시각 차이보다 길게 설정합니다.
+         */
+        private Duration lockAtLeastFor = Duration.ofMinutes(1L);
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 등급 업데이트 Step 이 등급별 회원 번호 Bitmap 을 만들어 등급 쿠폰 발급 Step 에 전달하는 기능 설정입니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.member-bitmap")
+@Getter
+@Setter
+public class MemberBitmapProperties {
+
+    /**
+     * true 이면 등급 쿠폰 발급 Step 이 members 테이블을 다시 조회하지 않고 등급 업데이트 Step 이 만든 Bitmap 을 읽습니다.
+     * Bitmap 이 없으면(등급 업데이트 Step 이 중간부터 재시작된 경우 등) members 테이블을 조회합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 직렬화한 모든 등급 Bitmap 의 합계가 이 크기 이하이면 Job ExecutionContext 에 Base64 로 저장하고, 크기가 더 크면 모두 파일로 저장합니다.
+     * Job ExecutionContext 는 MySQL 의 TEXT(64KB) 컬럼에 저장되므로 16KB 보다 크게 설정해도 16KB 까지만 저장합니다.
+     */
+    private DataSize inlineMaxSize = DataSize.ofKilobytes(8L);
+
+    /**
+     * 큰 Bitmap 을 저장할 디렉토리입니다. Job 이 완료되면 파일을 삭제합니다.
+     */
+    private String spillDirectory = System.getProperty("java.io.tmpdir");
+
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.autoconfigure.batch.JpaBatchConfigurer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.data.transaction.ChainedTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * JobRepository 와 JobExplorer 는 메타데이터 DataSource 를, Chunk 트랜잭션은 업무 데이터의 JPA TransactionManager 를 사용하는 설정입니다.
+ *
+ * <p>Chunk 트랜잭션은 메타데이터 트랜잭션과 업무 데이터 트랜잭션을 함께 시작하고, 업무 데이터를 먼저 Commit 한 뒤 메타데이터를 Commit 합니다.
+ * Chunk 안에서 JobRepository 가 기록하는 ExecutionContext, StepExecution 은 새 트랜잭션을 열지 않고 메타데이터 트랜잭션에 참여합니다.
+ * 그래서 업무 데이터 Commit 이 실패하면 메타데이터도 Rollback 되어 재시작이 해당 Chunk 부터 다시 처리합니다.
+ * 두 Commit 사이에 실패하면 이미 Commit 한 Chunk 를 재시작이 다시 처리하므로, Writer 는 중복 실행해도 결과가 같아야 합니다.</p>
+ *
+ * @version 1.0.0
+ */
+public class MetadataBatchConfigurer extends JpaBatchConfigurer {
+
+    private final BatchProperties properties;
+    private final DataSource metadataDataSource;
+    private final DataSourceTransactionManager metadataTransactionManager;
+
+    /**
+     * 메타데이터 DataSource 와 업무 데이터 EntityManagerFactory 로 BatchConfigurer 를 만듭니다.
+     *
+     * @param properties                     - spring.batch 설정입니다.
+     * @param metadataDataSource             - BATCH_* 테이블이 있는 DataSource 입니다.
+     * @param transactionManagerCustomizers  - Chunk TransactionManager 에 적용할 설정입니다.
+     * @param entityManagerFactory           - Chunk 트랜잭션에 사용할 EntityManagerFactory 입니다.
+     */
+    public MetadataBatchConfigurer(BatchProperties properties, DataSource metadataDataSource,
+                                   TransactionManagerCustomizers transactionManagerCustomizers,
+                                   EntityManagerFactory entityManagerFactory) {
+
+        super(properties, metadataDataSource, transactionManagerCustomizers, entityManagerFactory);
+        this.properties = properties;
+        this.metadataDataSource = metadataDataSource;
+        this.metadataTransactionManager = new DataSourceTransactionManager(metadataDataSource);
+    }
+
+    /**
+     * 메타데이터 트랜잭션을 먼저 시작하고 나중에 Commit 하는 Chunk TransactionManager 를 만듭니다.
+     * ChainedTransactionManager 는 먼저 시작한 트랜잭션을 나중에 Commit 하므로, 업무 데이터가 Commit 된 뒤에만 Chunk 진행 상태가 Commit 됩니다.
+     *
+     * @return 메타데이터와 업무 데이터 트랜잭션을 함께 처리하는 TransactionManager 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    protected PlatformTransactionManager createTransactionManager() {
+        return new ChainedTransactionManager(this.metadataTransactionManager, super.createTransactionManager());
+    }
+
+    /**
+     * 메타데이터 DataSource 의 TransactionManager 를 사용하는 JobRepository 를 만듭니다.
+     * Chunk 트랜잭션 안에서 호출되면 Chunk TransactionManager 가 시작한 메타데이터 트랜잭션에 참여합니다.
+     *
+     * @return 메타데이터 DataSource 에 기록하는 JobRepository 를 반환합니다.
+     * @throws Exception - JobRepository 를 만들 때 발생할 수 있는 에러입니다.
+     * @since 1.0.0
+     */
+    @Override
+    protected JobRepository createJobRepository() throws Exception {
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(this.metadataDataSource);
+        factory.setTransactionManager(this.metadataTransactionManager);
+        factory.setIsolationLevelForCreate(this.determineIsolationLevel());
+
+        String tablePrefix = this.properties.getJdbc().getTablePrefix();
+        if (StringUtils.hasText(tablePrefix)) {
+            factory.setTablePrefix(tablePrefix);
+        }
+        factory.afterPropertiesSet();
+
+        return factory.getObject();
+    }
+
+    /**
+     * JobRepository 가 JDBC TransactionManager 를 사용하므로 Job 생성 시 격리 수준을 지정할 수 있습니다.
+     *
+     * @return spring.batch.jdbc.isolation-level-for-create 가 없으면 Spring Batch 기본값(SERIALIZABLE)을 반환합니다.
+     * @since 1.0.0
+     */
+    @Override
+    protected String determineIsolationLevel() {
+        BatchProperties.Isolation isolation = this.properties.getJdbc().getIsolationLevelForCreate();
+        if (isolation == null) {
+            return "ISOLATION_SERIALIZABLE";
+        }
+
+        return "ISOLATION_" + isolation.name();
+    }
+
+}
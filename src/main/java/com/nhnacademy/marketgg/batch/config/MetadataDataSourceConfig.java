@@ -0,0 +1,101 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring Batch 메타데이터 전용 DataSource 설정입니다.
+ * Chunk 마다 기록되는 BATCH_STEP_EXECUTION, ExecutionContext 갱신이 Reader, Writer 와 같은 Connection Pool 을 나눠 쓰지 않도록 분리합니다.
+ * DataSource Bean 을 직접 등록하면 기본 DataSource 가 만들어지지 않으므로 업무 데이터 DataSource 도 spring.datasource 설정으로 함께 등록합니다.
+ * spring.batch.jdbc.initialize-schema 는 메타데이터 DataSource 에 적용됩니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "marketgg.batch.metadata", name = "enabled", havingValue = "true")
+public class MetadataDataSourceConfig {
+
+    /**
+     * Reader, Writer 와 JPA 가 사용하는 업무 데이터 DataSource 입니다.
+     * Spring Boot 기본 설정과 같이 spring.datasource, spring.datasource.hikari 설정을 사용합니다.
+     *
+     * @param dataSourceProperties - spring.datasource 설정입니다.
+     * @return 업무 데이터 DataSource 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                                                          .type(HikariDataSource.class)
+                                                          .build();
+        if (StringUtils.hasText(dataSourceProperties.getName())) {
+            dataSource.setPoolName(dataSourceProperties.getName());
+        }
+
+        return dataSource;
+    }
+
+    /**
+     * JobRepository, JobExplorer 가 사용하는 메타데이터 DataSource 입니다.
+     * Pool 이름으로 JMX(com.zaxxer.hikari:type=Pool) 에 등록하므로 업무 데이터 Pool 과 사용량, 대기 Thread 수를 따로 확인할 수 있습니다.
+     *
+     * @param properties - 메타데이터 DataSource 설정입니다.
+     * @return 메타데이터 DataSource 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    @BatchDataSource
+    public HikariDataSource batchMetadataDataSource(MetadataDataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                                                       .type(HikariDataSource.class)
+                                                       .url(properties.getUrl())
+                                                       .username(properties.getUsername())
+                                                       .password(properties.getPassword())
+                                                       .driverClassName(properties.getDriverClassName())
+                                                       .build();
+        dataSource.setPoolName(properties.getPoolName());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(properties.getMinimumIdle());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setRegisterMbeans(true);
+
+        return dataSource;
+    }
+
+    /**
+     * 메타데이터는 메타데이터 DataSource 에, Chunk 트랜잭션은 JPA TransactionManager 로 처리하는 BatchConfigurer 입니다.
+     *
+     * @param batchProperties               - spring.batch 설정입니다.
+     * @param batchMetadataDataSource       - 메타데이터 DataSource 입니다.
+     * @param transactionManagerCustomizers - Chunk TransactionManager 에 적용할 설정입니다.
+     * @param entityManagerFactory          - 업무 데이터 EntityManagerFactory 입니다.
+     * @return 메타데이터 DataSource 를 사용하는 BatchConfigurer 를 반환합니다.
+     * @since 1.0.0
+     */
+    @Bean
+    public BatchConfigurer batchConfigurer(BatchProperties batchProperties,
+                                           @BatchDataSource DataSource batchMetadataDataSource,
+                                           ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+                                           EntityManagerFactory entityManagerFactory) {
+
+        return new MetadataBatchConfigurer(batchProperties, batchMetadataDataSource,
+                                           transactionManagerCustomizers.getIfAvailable(), entityManagerFactory);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Spring Batch 메타데이터(BATCH_* 테이블) 전용 DataSource 설정입니다.
+ * 다른 스키마에 메타데이터를 두려면 url 을 해당 스키마로 지정하거나 spring.batch.jdbc.table-prefix 에 스키마를 포함합니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.metadata")
+@Getter
+@Setter
+public class MetadataDataSourceProperties {
+
+    /**
+     * true 이면 JobRepository, JobExplorer 가 업무 데이터와 다른 Connection Pool 을 사용합니다.
+     * false 이면 기존처럼 spring.datasource 하나를 함께 사용합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 메타데이터 DB 의 JDBC URL 입니다.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * 비어 있으면 url 로 드라이버를 찾습니다.
+     */
+    private String driverClassName;
+
+    /**
+     * Connection Pool 이름입니다. 업무 데이터 Pool 과 구분해 로그, JMX 에서 사용량을 따로 확인할 수 있습니다.
+     */
+    private String poolName = "batch-metadata";
+
+    /**
+     * 최대 Connection 수 입니다. 동시에 실행되는 Step 수(병렬 Step, Split Flow) 보다 조금 크게 설정합니다.
+     */
+    private int maximumPoolSize = 4;
+
+    private int minimumIdle = 1;
+
+    /**
+     * Connection 을 얻기까지 기다리는 최대 시간입니다.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(30L);
+
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 등급 변경, 쿠폰 지급 이벤트 Outbox 설정입니다.
+ * 테이블 DDL 은 {@code db/outbox.sql} 에 있습니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    /**
+     * true 이면 등급, 쿠폰 Writer 가 Chunk 트랜잭션 안에서 Outbox 이벤트를 함께 저장하고 OutboxRelay 가 이벤트를 발행합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Outbox INSERT 문 하나에 담는 최대 행 수입니다.
+     */
+    private int rowsPerStatement = 1000;
+
+    /**
+     * OutboxRelay 가 한 번에 조회해 발행하는 이벤트 수입니다.
+     */
+    private int relayBatchSize = 500;
+
+}
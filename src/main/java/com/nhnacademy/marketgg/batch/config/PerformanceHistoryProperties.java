@@ -0,0 +1,42 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Step 성능 기록과 성능 저하 감지 설정입니다. batch_step_performance 테이블(db/step_performance.sql)이 필요합니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.performance-history")
+@Getter
+@Setter
+public class PerformanceHistoryProperties {
+
+    /**
+     * true 이면 Job 이 끝날 때 완료된 Step 마다 성능 기록을 저장하고 최근 기록과 비교합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 비교 기준으로 사용하는 같은 Step 의 최근 기록 수 입니다.
+     */
+    private int baselineRuns = 10;
+
+    /**
+     * 최근 기록이 이 수보다 적으면 비교하지 않습니다.
+     */
+    private int minBaselineRuns = 3;
+
+    /**
+     * 처리 속도가 기준보다 이 비율 이상 느려지거나, Chunk 지연 시간 p95 가 이 비율 이상 늘어나면 성능 저하로 판단합니다.
+     */
+    private double regressionThreshold = 0.3D;
+
+    /**
+     * 처리한 데이터가 이 수보다 적은 Step 실행은 측정 오차가 크므로 비교하지 않고 기준에도 포함하지 않습니다.
+     */
+    private long minItemCount = 1_000L;
+
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import com.nhnacademy.marketgg.batch.preflight.PlanPolicy;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Job 시작 전 Reader 쿼리 실행 계획 확인 설정입니다. MySQL(MariaDB) 에서만 확인합니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.query-plan")
+@Getter
+@Setter
+public class QueryPlanProperties {
+
+    /**
+     * false 이면 실행 계획을 확인하지 않습니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 옵티마이저가 예상한 읽을 행 수가 이 값 이상인 테이블의 full scan, filesort 만 문제로 봅니다.
+     * 작은 테이블은 인덱스 없이 읽는 편이 빠를 수 있기 때문입니다.
+     */
+    private long largeTableRows = 100_000L;
+
+    /**
+     * Reader 쿼리(Bean 이름)별 정책입니다. 없으면 Step 이 등록한 기본 정책을 사용합니다.
+     */
+    private Map<String, PlanPolicy> policies = new HashMap<>();
+
+}
@@ -1,6 +1,10 @@
 package com.nhnacademy.marketgg.batch.config;
 
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.launcher.RunOnceJobRunner;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -9,20 +13,25 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * Spring Scheduler 설정 파일입니다.
+ * 단발성 실행(run-once) 모드에서는 Scheduler 를 띄우지 않습니다.
  *
  * @author 민아영
  * @version 1.0.0
  */
 @EnableScheduling
+@Profile("!" + RunOnceJobRunner.PROFILE)
 @Configuration
+@RequiredArgsConstructor
 public class SchedulerConfig implements SchedulingConfigurer {
 
-    private static final int SCHEDULE_THREAD_SIZE = 5;
+    private final ExecutorProperties executorProperties;
+    private final TaskExecutorFactory taskExecutorFactory;
 
     /**
      * Scheduler Thread Pool 설정 관련 메소드 입니다.
      * Scheduler Thread default 값은 1개 입니다.
      * 동시에 실행되는 Scheduler 를 고려해 설정한 값입니다.
+     * Thread 는 설정한 종류(PLATFORM, VIRTUAL)로 만듭니다.
      *
      * @param taskRegistrar - 설정 값을 등록해주는 매개변수
      */
@@ -30,7 +39,8 @@ public class SchedulerConfig implements SchedulingConfigurer {
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
 
-        threadPoolTaskScheduler.setPoolSize(SCHEDULE_THREAD_SIZE);
+        threadPoolTaskScheduler.setPoolSize(executorProperties.getSchedulerPoolSize());
+        threadPoolTaskScheduler.setThreadFactory(taskExecutorFactory.threadFactory("scheduler-"));
         threadPoolTaskScheduler.initialize();
 
         taskRegistrar.setTaskScheduler(threadPoolTaskScheduler);
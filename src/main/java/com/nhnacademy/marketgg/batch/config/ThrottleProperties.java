@@ -0,0 +1,58 @@
+package com.nhnacademy.marketgg.batch.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Chunk Step 의 쓰기 속도 제한 설정입니다. 값이 0 이면 제한하지 않습니다.
+ * 실행 중에는 /batch/throttle 로 Step 별 제한을 바꿀 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "marketgg.batch.throttle")
+@Getter
+@Setter
+public class ThrottleProperties {
+
+    /**
+     * Step 별 설정이 없을 때 사용하는 제한입니다.
+     */
+    private Limit defaults = new Limit();
+
+    /**
+     * Step 이름별 제한입니다. 예) marketgg.batch.throttle.steps.memberGradeUpdateStep.rows-per-second=2000
+     */
+    private Map<String, Limit> steps = new HashMap<>();
+
+    /**
+     * Chunk 저장 후 Commit 까지 걸린 시간이 이 값을 넘으면 제한 속도를 절반으로 줄이고, 넘지 않으면 조금씩 되돌립니다.
+     * 비어 있으면 자동으로 조절하지 않습니다.
+     */
+    private Duration commitLatencyThreshold;
+
+    /**
+     * 자동 조절로 줄어들 수 있는 최소 비율입니다. 설정한 제한 속도에 곱합니다.
+     */
+    private double minRateRatio = 0.1D;
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * 초당 저장하는 최대 데이터 수 입니다.
+         */
+        private double rowsPerSecond;
+
+        /**
+         * 초당 처리하는 최대 Chunk 수 입니다.
+         */
+        private double chunksPerSecond;
+
+    }
+
+}
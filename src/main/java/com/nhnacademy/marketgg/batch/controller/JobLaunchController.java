@@ -0,0 +1,87 @@
+package com.nhnacademy.marketgg.batch.controller;
+
+import com.nhnacademy.marketgg.batch.dispatch.JobDispatcher;
+import com.nhnacademy.marketgg.batch.domain.dto.JobDispatchDto;
+import com.nhnacademy.marketgg.batch.exception.JobQueueFullException;
+import com.nhnacademy.marketgg.batch.launcher.JobParametersFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.converter.DefaultJobParametersConverter;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Job 실행을 요청하고 실행 대기열을 조회하는 Controller 입니다.
+ * 요청한 Job 은 바로 실행되지 않고 JobDispatcher 의 대기열을 거쳐 실행됩니다.
+ *
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/batch/jobs")
+@RequiredArgsConstructor
+public class JobLaunchController {
+
+    private final JobDispatcher jobDispatcher;
+    private final JobParametersFactory jobParametersFactory;
+
+    /**
+     * 실행 중인 Job 과 실행을 기다리는 Job 을 조회합니다.
+     *
+     * @return 실행 중인 Job, 실행할 순서대로 정렬한 대기 중인 Job 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping
+    public ResponseEntity<List<JobDispatchDto>> retrieveJobs() {
+        return ResponseEntity.ok(jobDispatcher.findAll());
+    }
+
+    /**
+     * Job 실행을 요청합니다.
+     * Job Parameter 는 Job 의 기본 Job Parameter 에 요청한 값을 덮어써 만듭니다. 예) {"couponNo": "10"}
+     *
+     * @param jobName    - Job Bean 이름입니다.
+     * @param parameters - 기본값 대신 사용할 Job Parameter 입니다.
+     * @return 대기열에 들어간 Job 을 202 로 반환합니다. Job 이 없으면 404, 대기열이 가득 차면 503 을 반환합니다.
+     * @since 1.0.0
+     */
+    @PostMapping("/{jobName}")
+    public ResponseEntity<JobDispatchDto> launchJob(@PathVariable String jobName,
+                                                    @RequestBody(required = false) Map<String, String> parameters) {
+
+        try {
+            JobDispatchDto dispatch = jobDispatcher.submit(jobName, createJobParameters(jobName, parameters))
+                                                   .toDto();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(dispatch);
+        } catch (NoSuchJobException e) {
+            return ResponseEntity.notFound().build();
+        } catch (JobQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    private JobParameters createJobParameters(String jobName, Map<String, String> parameters) {
+        Properties properties = new Properties();
+        if (parameters != null) {
+            properties.putAll(parameters);
+        }
+
+        JobParameters given = new DefaultJobParametersConverter().getJobParameters(properties);
+
+        return new JobParametersBuilder(jobParametersFactory.defaultJobParameters(jobName, LocalDate.now()))
+            .addJobParameters(given)
+            .toJobParameters();
+    }
+
+}
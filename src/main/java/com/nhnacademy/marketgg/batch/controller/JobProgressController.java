@@ -0,0 +1,50 @@
+package com.nhnacademy.marketgg.batch.controller;
+
+import com.nhnacademy.marketgg.batch.domain.dto.JobProgressDto;
+import com.nhnacademy.marketgg.batch.progress.JobProgressRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 실행 중이거나 최근에 종료된 Job 의 진행률, 처리 속도, 예상 종료 시각을 조회하는 Controller 입니다.
+ *
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/batch/progress")
+@RequiredArgsConstructor
+public class JobProgressController {
+
+    private final JobProgressRegistry registry;
+
+    /**
+     * 보관 중인 모든 Job 의 진행 상황을 조회합니다.
+     *
+     * @return Job 진행 상황 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping
+    public ResponseEntity<List<JobProgressDto>> retrieveJobProgresses() {
+        return ResponseEntity.ok(registry.findAll());
+    }
+
+    /**
+     * Job 실행 하나의 진행 상황을 조회합니다.
+     *
+     * @param jobExecutionId - 조회할 Job 실행 번호입니다.
+     * @return Job 진행 상황을 반환하고, 보관 중이 아니면 404 를 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping("/{jobExecutionId}")
+    public ResponseEntity<JobProgressDto> retrieveJobProgress(@PathVariable Long jobExecutionId) {
+        return registry.find(jobExecutionId)
+                       .map(ResponseEntity::ok)
+                       .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.marketgg.batch.controller;
+
+import com.nhnacademy.marketgg.batch.domain.dto.StepThrottleDto;
+import com.nhnacademy.marketgg.batch.throttle.ThrottleRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Step 별 쓰기 속도 제한을 조회하고 실행 중에 바꾸는 Controller 입니다.
+ *
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/batch/throttle")
+@RequiredArgsConstructor
+public class ThrottleController {
+
+    private final ThrottleRegistry registry;
+
+    /**
+     * 지금까지 사용했거나 바꾼 모든 Step 의 쓰기 속도 제한을 조회합니다.
+     *
+     * @return Step 쓰기 속도 제한 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    @GetMapping
+    public ResponseEntity<List<StepThrottleDto>> retrieveThrottles() {
+        return ResponseEntity.ok(registry.findAll());
+    }
+
+    /**
+     * Step 의 쓰기 속도 제한을 바꿉니다. 실행 중인 Step 에는 다음 Chunk 부터 적용됩니다.
+     *
+     * @param stepName - Step 이름입니다.
+     * @param request  - 초당 데이터 수, 초당 Chunk 수 입니다. 0 이면 제한하지 않습니다.
+     * @return 바뀐 쓰기 속도 제한을 반환합니다.
+     * @since 1.0.0
+     */
+    @PutMapping("/{stepName}")
+    public ResponseEntity<StepThrottleDto> updateThrottle(@PathVariable String stepName,
+                                                          @RequestBody StepThrottleDto request) {
+
+        return ResponseEntity.ok(registry.update(stepName, request.getRowsPerSecond(), request.getChunksPerSecond()));
+    }
+
+}
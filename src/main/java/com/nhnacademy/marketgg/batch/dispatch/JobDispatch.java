@@ -0,0 +1,75 @@
+package com.nhnacademy.marketgg.batch.dispatch;
+
+import com.nhnacademy.marketgg.batch.config.JobDispatchProperties.JobLimit;
+import com.nhnacademy.marketgg.batch.domain.dto.JobDispatchDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+
+/**
+ * Job 실행 대기열에 들어간 Job 실행 요청 하나입니다.
+ * Job 이 끝나면 future 가 JobExecution 으로 완료되고, 실행하지 못하면 예외로 완료됩니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+public class JobDispatch {
+
+    private final long dispatchNo;
+    private final String jobName;
+    private final Job job;
+    private final JobParameters jobParameters;
+    private final int priority;
+    private final int maxConcurrent;
+    private final boolean heavy;
+    private final String lockName;
+    private final Duration lockLease;
+    private final Duration lockAtLeastFor;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+    private final CompletableFuture<JobExecution> future = new CompletableFuture<>();
+    private volatile LocalDateTime startedAt;
+
+    JobDispatch(long dispatchNo, String jobName, Job job, JobParameters jobParameters, JobLimit limit) {
+        this.dispatchNo = dispatchNo;
+        this.jobName = jobName;
+        this.job = job;
+        this.jobParameters = jobParameters;
+        this.priority = limit.getPriority();
+        this.maxConcurrent = limit.getMaxConcurrent();
+        this.heavy = limit.isHeavy();
+        this.lockName = limit.getLockName();
+        this.lockLease = limit.getLockLease();
+        this.lockAtLeastFor = limit.getLockAtLeastFor();
+    }
+
+    boolean isLocked() {
+        return lockName != null && !lockName.isBlank();
+    }
+
+    void started() {
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 같은 Job 을 같은 Job Parameter 로 요청했는지 확인합니다.
+     */
+    boolean isSameRequest(String jobName, JobParameters jobParameters) {
+        return this.jobName.equals(jobName) && this.jobParameters.equals(jobParameters);
+    }
+
+    /**
+     * 응답 DTO 로 바꿉니다.
+     *
+     * @return 대기 중이면 QUEUED, 실행 중이면 RUNNING 상태의 DTO 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobDispatchDto toDto() {
+        return new JobDispatchDto(dispatchNo, jobName, jobParameters.toString(), priority, heavy,
+                                  startedAt == null ? "QUEUED" : "RUNNING", requestedAt, startedAt);
+    }
+
+}
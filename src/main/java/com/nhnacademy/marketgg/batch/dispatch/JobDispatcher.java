@@ -0,0 +1,228 @@
+package com.nhnacademy.marketgg.batch.dispatch;
+
+import com.nhnacademy.marketgg.batch.config.JobDispatchProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.JobDispatchDto;
+import com.nhnacademy.marketgg.batch.exception.JobLockedException;
+import com.nhnacademy.marketgg.batch.exception.JobQueueFullException;
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.lock.SchedulerLock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * JobLauncher 앞에서 Job 실행 요청을 우선순위 순서로 대기시키고, 동시 실행 수 제한 안에서 실행하는 클래스입니다.
+ * Scheduler 와 /batch/jobs 로 요청한 Job 은 모두 이 클래스를 거쳐 실행됩니다.
+ *
+ * <p>대기 중인 요청은 우선순위가 높은 순서, 같으면 먼저 요청한 순서로 확인합니다.
+ * 전체 동시 실행 수, Job 별 동시 실행 수, 무거운(heavy) Job 동시 실행 수 중 하나라도 넘으면 그 요청은 건너뛰고 다음 요청을 확인합니다.
+ * 그래서 무거운 Job 은 하나씩 실행되고, 가벼운 Job 은 무거운 Job 뒤에서 기다리지 않습니다.</p>
+ *
+ * <p>실행 중인 Job 수를 이 클래스가 직접 제한하므로 Job 마다 Thread 를 하나 만들어 실행합니다.
+ * 같은 Job 을 같은 Job Parameter 로 다시 요청하면 새로 대기시키지 않고 대기 중이거나 실행 중인 요청을 반환합니다.
+ * 대기열과 동시 실행 수는 인스턴스 안에서만 적용됩니다.</p>
+ *
+ * <p>잠금 이름(lockName)을 설정한 Job 은 실행을 시작할 때 scheduler_locks 잠금을 얻고, 끝나면 풉니다.
+ * 다른 인스턴스가 잠금을 가지고 있으면 Job 을 실행하지 않고 JobLockedException 으로 완료합니다.
+ * 같은 인스턴스에서 같은 잠금을 쓰는 Job 이 실행 중이면 대기열에서 기다렸다가, 그 Job 이 끝나면 잠금을 이어받아 실행합니다.
+ * 잠금은 Job 이 실행되는 동안 계속 연장하므로 대기열에서 기다린 시간이나 Job 실행 시간 때문에 만료되지 않습니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class JobDispatcher {
+
+    private static final Comparator<JobDispatch> DISPATCH_ORDER =
+        Comparator.comparingInt(JobDispatch::getPriority)
+                  .reversed()
+                  .thenComparingLong(JobDispatch::getDispatchNo);
+
+    private final JobLauncher jobLauncher;
+    private final BeanFactory beanFactory;
+    private final JobDispatchProperties properties;
+    private final ThreadFactory threadFactory;
+    private final SchedulerLock schedulerLock;
+    private final ScheduledExecutorService lockRenewer;
+
+    private final NavigableSet<JobDispatch> queue = new TreeSet<>(DISPATCH_ORDER);
+    private final List<JobDispatch> running = new ArrayList<>();
+    private long sequence;
+
+    public JobDispatcher(JobLauncher jobLauncher, BeanFactory beanFactory, JobDispatchProperties properties,
+                         TaskExecutorFactory taskExecutorFactory, SchedulerLock schedulerLock) {
+        this.jobLauncher = jobLauncher;
+        this.beanFactory = beanFactory;
+        this.properties = properties;
+        this.threadFactory = taskExecutorFactory.threadFactory("job-dispatch-");
+        this.schedulerLock = schedulerLock;
+        this.lockRenewer = Executors.newSingleThreadScheduledExecutor(taskExecutorFactory.threadFactory("job-lock-"));
+    }
+
+    /**
+     * Job 실행을 요청합니다. 동시 실행 수에 여유가 있으면 바로 실행하고, 없으면 대기열에 넣습니다.
+     *
+     * @param jobName       - Job Bean 이름입니다.
+     * @param jobParameters - Job Parameter 입니다.
+     * @return Job 실행 요청을 반환합니다. 같은 요청이 이미 있으면 그 요청을 반환합니다.
+     * @throws NoSuchJobException    - Job Bean 이 없을 때 던집니다.
+     * @throws JobQueueFullException - 대기열이 가득 찼을 때 던집니다.
+     * @since 1.0.0
+     */
+    public synchronized JobDispatch submit(String jobName, JobParameters jobParameters) throws NoSuchJobException {
+        Optional<JobDispatch> existing = Stream.concat(running.stream(), queue.stream())
+                                               .filter(dispatch -> dispatch.isSameRequest(jobName, jobParameters))
+                                               .findFirst();
+        if (existing.isPresent()) {
+            log.info("이미 요청된 Job 입니다. {} {}", jobName, jobParameters);
+            return existing.get();
+        }
+
+        if (!beanFactory.containsBean(jobName) || !beanFactory.isTypeMatch(jobName, Job.class)) {
+            throw new NoSuchJobException("존재하지 않는 Job 입니다: " + jobName);
+        }
+        if (queue.size() >= properties.getQueueCapacity()) {
+            throw new JobQueueFullException(properties.getQueueCapacity());
+        }
+
+        JobDispatch dispatch = new JobDispatch(++sequence, jobName, beanFactory.getBean(jobName, Job.class),
+                                               jobParameters, properties.find(jobName));
+        queue.add(dispatch);
+        log.info("Job 실행 대기: {} {} (대기 {}, 실행 중 {})", jobName, jobParameters, queue.size(), running.size());
+
+        dispatch();
+        return dispatch;
+    }
+
+    /**
+     * 실행 중인 요청과 대기 중인 요청을 조회합니다.
+     *
+     * @return 실행 중인 요청, 대기 중인 요청을 실행할 순서대로 반환합니다.
+     * @since 1.0.0
+     */
+    public synchronized List<JobDispatchDto> findAll() {
+        return Stream.concat(running.stream(), queue.stream())
+                     .map(JobDispatch::toDto)
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * 종료할 때 대기 중인 요청을 취소합니다. 실행 중인 Job 은 끝날 때까지 기다립니다.
+     */
+    @PreDestroy
+    public synchronized void cancelQueued() {
+        queue.forEach(dispatch -> dispatch.getFuture().cancel(false));
+        queue.clear();
+    }
+
+    /**
+     * 종료할 때 잠금 연장을 멈춥니다. 실행 중이던 Job 의 잠금은 만료 시간(lockLease) 뒤에 풀립니다.
+     */
+    @PreDestroy
+    public void stopLockRenewal() {
+        lockRenewer.shutdownNow();
+    }
+
+    private synchronized void dispatch() {
+        Iterator<JobDispatch> iterator = queue.iterator();
+        while (iterator.hasNext() && running.size() < properties.getMaxConcurrentJobs()) {
+            JobDispatch next = iterator.next();
+            if (!canStart(next)) {
+                continue;
+            }
+
+            iterator.remove();
+            next.started();
+            running.add(next);
+            threadFactory.newThread(() -> run(next)).start();
+        }
+    }
+
+    private boolean canStart(JobDispatch dispatch) {
+        long sameJob = running.stream()
+                              .filter(job -> job.getJobName().equals(dispatch.getJobName()))
+                              .count();
+        if (sameJob >= dispatch.getMaxConcurrent()) {
+            return false;
+        }
+        if (dispatch.isLocked()
+            && running.stream().anyMatch(job -> dispatch.getLockName().equals(job.getLockName()))) {
+            return false;
+        }
+
+        return !dispatch.isHeavy()
+            || running.stream().filter(JobDispatch::isHeavy).count() < properties.getMaxConcurrentHeavyJobs();
+    }
+
+    private void run(JobDispatch dispatch) {
+        boolean locked = false;
+        ScheduledFuture<?> renewal = null;
+        try {
+            if (dispatch.isLocked()) {
+                locked = schedulerLock.lockForInstance(dispatch.getLockName(), dispatch.getLockLease());
+                if (!locked) {
+                    log.info("다른 인스턴스가 실행 중이므로 건너뜁니다: {} {}", dispatch.getJobName(), dispatch.getLockName());
+                    dispatch.getFuture().completeExceptionally(new JobLockedException(dispatch.getLockName()));
+                    return;
+                }
+                renewal = renewLock(dispatch);
+            }
+
+            log.info("Job 실행 시작: {} {}", dispatch.getJobName(), dispatch.getJobParameters());
+            JobExecution execution = jobLauncher.run(dispatch.getJob(), dispatch.getJobParameters());
+            log.info("Job 실행 종료: {} {}", dispatch.getJobName(), execution.getStatus());
+            dispatch.getFuture().complete(execution);
+        } catch (Exception e) {
+            log.error("Job 을 실행하지 못했습니다. {} {}", dispatch.getJobName(), dispatch.getJobParameters(), e);
+            dispatch.getFuture().completeExceptionally(e);
+        } finally {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            if (locked) {
+                schedulerLock.unlock(dispatch.getLockName(), dispatch.getLockAtLeastFor());
+            }
+            synchronized (this) {
+                running.remove(dispatch);
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * Job 이 실행되는 동안 잠금 만료 시간의 1/3 마다 잠금을 연장합니다.
+     */
+    private ScheduledFuture<?> renewLock(JobDispatch dispatch) {
+        long period = Math.max(dispatch.getLockLease().toMillis() / 3L, 1L);
+        return lockRenewer.scheduleAtFixedRate(() -> {
+            try {
+                if (!schedulerLock.extend(dispatch.getLockName(), dispatch.getLockLease())) {
+                    log.warn("Job 실행 중 잠금이 만료되었습니다: {} {}", dispatch.getJobName(), dispatch.getLockName());
+                }
+            } catch (RuntimeException e) {
+                log.warn("잠금을 연장하지 못했습니다: {} {}", dispatch.getLockName(), e.getMessage());
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+}
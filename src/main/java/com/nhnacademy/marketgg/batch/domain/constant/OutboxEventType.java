@@ -0,0 +1,14 @@
+package com.nhnacademy.marketgg.batch.domain.constant;
+
+/**
+ * Outbox 이벤트 종류 Enum 클래스입니다.
+ * 이벤트의 reference_no 는 종류에 따라 등급 번호 또는 쿠폰 번호입니다.
+ *
+ * @version 1.0.0
+ */
+public enum OutboxEventType {
+
+    GRADE_CHANGED,
+    COUPON_ISSUED
+
+}
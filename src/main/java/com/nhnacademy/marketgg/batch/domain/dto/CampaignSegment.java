@@ -0,0 +1,61 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 캠페인 쿠폰을 받을 회원 조건입니다. Job Parameter(segment)로 JSON 을 전달하며, 지정한 조건을 모두 만족하는 회원이 대상입니다.
+ * 일 수 조건은 Job Parameter(baseDate) 를 기준으로 계산합니다. 탈퇴한 회원과 이미 같은 쿠폰을 받은 회원은 항상 제외합니다.
+ *
+ * <pre>
+ * {"gender": "F", "notOrderedWithinDays": 60}
+ * {"memberGradeNos": [1, 2], "minAge": 20, "maxAge": 29, "orderedWithinDays": 30}
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@ToString
+public class CampaignSegment {
+
+    /**
+     * 성별(M, F) 입니다.
+     */
+    private Character gender;
+
+    /**
+     * 회원 등급 번호 목록입니다. 목록의 등급 중 하나이면 대상입니다.
+     */
+    private List<Long> memberGradeNos;
+
+    /**
+     * 생일 월(1 ~ 12) 입니다.
+     */
+    private Integer birthMonth;
+
+    /**
+     * 기준일의 만 나이 최소값, 최대값입니다.
+     */
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    /**
+     * 기준일까지 최근 N 일 안에 가입한 회원입니다.
+     */
+    private Integer joinedWithinDays;
+
+    /**
+     * 기준일까지 최근 N 일 안에 주문한 적이 있는 회원입니다.
+     */
+    private Integer orderedWithinDays;
+
+    /**
+     * 기준일까지 최근 N 일 안에 주문한 적이 없는 회원입니다.
+     */
+    private Integer notOrderedWithinDays;
+
+}
@@ -0,0 +1,35 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Job 실행 대기열에 있거나 실행 중인 Job 요청 응답 DTO 입니다.
+ *
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@Getter
+public class JobDispatchDto {
+
+    private long dispatchNo;
+
+    private String jobName;
+
+    private String jobParameters;
+
+    private int priority;
+
+    private boolean heavy;
+
+    /**
+     * QUEUED 또는 RUNNING 입니다.
+     */
+    private String status;
+
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime startedAt;
+
+}
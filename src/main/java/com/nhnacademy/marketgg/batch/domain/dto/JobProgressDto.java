@@ -0,0 +1,38 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * Job 진행 상황 응답 DTO 입니다.
+ *
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@Getter
+public class JobProgressDto {
+
+    private Long jobExecutionId;
+
+    private String jobName;
+
+    private BatchStatus status;
+
+    private long total;
+
+    private long processed;
+
+    private Double percent;
+
+    private double itemsPerSecond;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime estimatedEndTime;
+
+    private List<StepProgressDto> steps;
+
+}
@@ -2,9 +2,11 @@ package com.nhnacademy.marketgg.batch.domain.dto;
 
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 @Setter
 @Getter
+@ToString
 public class MemberDto {
 
     private Long memberNo;
@@ -0,0 +1,26 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 회원 번호와 등급 번호만 담은 회원 조회 DTO 입니다.
+ *
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@ToString
+public class MemberGradeDto {
+
+    private Long memberNo;
+
+    private Long memberGradeNo;
+
+    /**
+     * 등급 초기화 전 등급 번호입니다. 등급 변경 이벤트를 실제로 등급이 바뀐 회원에게만 남기는 데 사용합니다.
+     */
+    private Long previousGradeNo;
+
+}
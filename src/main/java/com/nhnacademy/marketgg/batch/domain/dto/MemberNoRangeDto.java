@@ -0,0 +1,25 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 조건에 맞는 회원 번호의 최소값, 최대값입니다. 조건에 맞는 회원이 없으면 두 값 모두 null 입니다.
+ *
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class MemberNoRangeDto {
+
+    private Long minMemberNo;
+
+    private Long maxMemberNo;
+
+    public boolean isEmpty() {
+        return minMemberNo == null || maxMemberNo == null;
+    }
+
+}
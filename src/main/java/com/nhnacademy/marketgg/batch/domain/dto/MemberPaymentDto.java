@@ -3,6 +3,7 @@ package com.nhnacademy.marketgg.batch.domain.dto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 /**
  * 회원 총 구매 금액 조회 결과 DTO 입니다.
@@ -13,6 +14,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @Setter
 @Getter
+@ToString
 public class MemberPaymentDto {
 
     private Long memberNo;
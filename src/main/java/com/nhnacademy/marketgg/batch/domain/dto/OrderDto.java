@@ -0,0 +1,26 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 등급 승급에 필요한 주문 번호, 회원 번호, 금액, 주문 시각만 담은 주문 조회 DTO 입니다.
+ *
+ * @version 1.0.0
+ */
+@Setter
+@Getter
+@ToString
+public class OrderDto {
+
+    private Long orderNo;
+
+    private Long memberNo;
+
+    private Long totalAmount;
+
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import com.nhnacademy.marketgg.batch.domain.constant.OutboxEventType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Outbox 이벤트 DTO 입니다.
+ *
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+@ToString
+public class OutboxEvent {
+
+    private Long eventNo;
+
+    private OutboxEventType eventType;
+
+    private Long memberNo;
+
+    private Long referenceNo;
+
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent gradeChanged(Long memberNo, Long gradeNo) {
+        return new OutboxEvent(null, OutboxEventType.GRADE_CHANGED, memberNo, gradeNo, null);
+    }
+
+    public static OutboxEvent couponIssued(Long memberNo, Long couponNo) {
+        return new OutboxEvent(null, OutboxEventType.COUPON_ISSUED, memberNo, couponNo, null);
+    }
+
+    /**
+     * 같은 이벤트를 한 번만 저장하기 위한 키입니다.
+     * 쿠폰은 회원마다 한 번만 지급되므로(given_coupons 의 PK) 쿠폰 지급 이벤트에만 키가 있습니다.
+     * INSERT IGNORE 로 이미 지급한 쿠폰을 건너뛴 Chunk 를 다시 저장해도 이벤트는 한 번만 남습니다.
+     *
+     * @return 쿠폰 지급 이벤트이면 이벤트 키를, 아니면 null 을 반환합니다.
+     * @since 1.0.0
+     */
+    public String getEventKey() {
+        if (eventType != OutboxEventType.COUPON_ISSUED) {
+            return null;
+        }
+        return eventType.name() + ":" + referenceNo + ":" + memberNo;
+    }
+
+}
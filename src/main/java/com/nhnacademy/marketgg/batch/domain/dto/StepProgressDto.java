@@ -0,0 +1,35 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * Step 진행 상황 응답 DTO 입니다.
+ * 전체 데이터 수를 모르면 total 은 -1, percent 는 null 이고, 처리 속도를 모르면 estimatedEndTime 은 null 입니다.
+ * itemsPerSecond 는 실행 중이면 최근 30초 동안의 처리 속도, 종료되었으면 전체 평균이고, 종료된 Step 의 estimatedEndTime 은 실제 종료 시각입니다.
+ *
+ * @version 1.0.0
+ */
+@AllArgsConstructor
+@Getter
+public class StepProgressDto {
+
+    private String stepName;
+
+    private BatchStatus status;
+
+    private long total;
+
+    private long processed;
+
+    private Double percent;
+
+    private double itemsPerSecond;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime estimatedEndTime;
+
+}
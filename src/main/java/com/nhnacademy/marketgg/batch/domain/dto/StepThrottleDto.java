@@ -0,0 +1,26 @@
+package com.nhnacademy.marketgg.batch.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Step 쓰기 속도 제한 요청, 응답 DTO 입니다.
+ * 값이 0 이면 제한하지 않습니다. rateRatio 는 Commit 지연 시간에 따라 자동으로 줄어든 비율이며 요청에서는 사용하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StepThrottleDto {
+
+    private String stepName;
+
+    private double rowsPerSecond;
+
+    private double chunksPerSecond;
+
+    private double rateRatio;
+
+}
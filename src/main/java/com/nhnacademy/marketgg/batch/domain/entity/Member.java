@@ -26,7 +26,7 @@ public class Member {
     @Column(name = "member_no")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_grade_no")
     private MemberGrade memberGrade;
 
@@ -0,0 +1,38 @@
+package com.nhnacademy.marketgg.batch.domain.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 대상 조건(주문 여부)을 조회하기 위한 주문 Entity 입니다. Batch 에서 사용하는 컬럼만 매핑합니다.
+ * ORDER 는 JPQL 예약어이므로 Entity 이름을 Orders 로 지정합니다.
+ */
+@Table(name = "orders")
+@Entity(name = "Orders")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Order {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "order_no")
+    private Long id;
+
+    @Column(name = "member_no")
+    private Long memberNo;
+
+    @Column(name = "total_amount")
+    private Long totalAmount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+}
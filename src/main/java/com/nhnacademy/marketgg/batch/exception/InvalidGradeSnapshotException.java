@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.exception;
+
+public class InvalidGradeSnapshotException extends IllegalStateException {
+
+    private static final String ERROR = "회원 등급 스냅샷 파일이 올바르지 않습니다: ";
+
+    /**
+     * 예외처리 시, 지정한 메세지에 원인을 덧붙여 보냅니다.
+     *
+     * @param reason - 스냅샷 파일이 올바르지 않은 이유입니다.
+     * @since 1.0.0
+     */
+    public InvalidGradeSnapshotException(String reason) {
+        super(ERROR + reason);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.exception;
+
+public class JobLockedException extends IllegalStateException {
+
+    private static final String ERROR = "다른 인스턴스가 실행 중이므로 Job 을 건너뜁니다. 잠금: ";
+
+    /**
+     * 예외처리 시, 지정한 메세지에 잠금 이름을 덧붙여 보냅니다.
+     *
+     * @param lockName - 다른 인스턴스가 가지고 있는 잠금 이름입니다.
+     * @since 1.0.0
+     */
+    public JobLockedException(String lockName) {
+        super(ERROR + lockName);
+    }
+
+}
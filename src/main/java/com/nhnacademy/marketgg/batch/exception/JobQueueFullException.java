@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.exception;
+
+public class JobQueueFullException extends IllegalStateException {
+
+    private static final String ERROR = "Job 실행 대기열이 가득 찼습니다. 대기열 크기: ";
+
+    /**
+     * 예외처리 시, 지정한 메세지에 대기열 크기를 덧붙여 보냅니다.
+     *
+     * @param queueCapacity - 대기열 크기입니다.
+     * @since 1.0.0
+     */
+    public JobQueueFullException(int queueCapacity) {
+        super(ERROR + queueCapacity);
+    }
+
+}
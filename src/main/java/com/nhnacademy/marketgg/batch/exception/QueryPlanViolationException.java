@@ -0,0 +1,20 @@
+package com.nhnacademy.marketgg.batch.exception;
+
+import com.nhnacademy.marketgg.batch.preflight.QueryPlanViolation;
+import java.util.List;
+
+public class QueryPlanViolationException extends IllegalStateException {
+
+    private static final String ERROR = "Reader 쿼리의 실행 계획에 문제가 있어 Job 을 시작하지 않습니다: ";
+
+    /**
+     * 예외처리 시, 지정한 메세지에 실행 계획 문제를 덧붙여 보냅니다.
+     *
+     * @param violations - FAIL 정책인 쿼리에서 찾은 실행 계획 문제입니다.
+     * @since 1.0.0
+     */
+    public QueryPlanViolationException(List<QueryPlanViolation> violations) {
+        super(ERROR + violations);
+    }
+
+}
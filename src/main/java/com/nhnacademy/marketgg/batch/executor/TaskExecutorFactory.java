@@ -0,0 +1,106 @@
+package com.nhnacademy.marketgg.batch.executor;
+
+import com.nhnacademy.marketgg.batch.config.ExecutorProperties;
+import com.nhnacademy.marketgg.batch.config.ExecutorProperties.ThreadType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정한 Thread 종류(PLATFORM, VIRTUAL)에 맞는 TaskExecutor 와 ThreadFactory 를 만드는 클래스입니다.
+ * Scheduler, @Async, 병렬 Step 의 Executor 는 모두 이 클래스로 만듭니다.
+ *
+ * <p>PLATFORM 은 크기가 제한된 Thread Pool 이고, 대기열이 가득 차면 요청한 Thread 가 직접 실행합니다.
+ * VIRTUAL 은 작업마다 Virtual Thread 를 만들고, Pool 크기만큼만 동시에 실행하도록 제한합니다.
+ * 병렬 Step 의 작업은 대부분 DB 응답을 기다리므로 Connection Pool 크기가 실제 동시 실행 수의 상한이 됩니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskExecutorFactory {
+
+    private final ThreadType threadType;
+    private final Method ofVirtual;
+
+    public TaskExecutorFactory(ExecutorProperties properties) {
+        Method method = null;
+        if (properties.getThreadType() == ThreadType.VIRTUAL) {
+            method = findOfVirtual();
+        }
+        this.ofVirtual = method;
+        this.threadType = method == null ? ThreadType.PLATFORM : ThreadType.VIRTUAL;
+        log.info("TaskExecutor Thread 종류: {}", threadType);
+    }
+
+    public ThreadType getThreadType() {
+        return threadType;
+    }
+
+    /**
+     * 동시 실행 수가 제한된 TaskExecutor 를 만듭니다.
+     * Bean 으로 등록하면 Spring 이 초기화와 종료를 관리합니다.
+     *
+     * @param threadNamePrefix - Thread 이름 접두사입니다.
+     * @param size             - Pool 크기 또는 최대 동시 실행 수 입니다.
+     * @param queueCapacity    - PLATFORM 의 작업 대기열 크기입니다.
+     * @return TaskExecutor 를 반환합니다.
+     * @since 1.0.0
+     */
+    public AsyncTaskExecutor create(String threadNamePrefix, int size, int queueCapacity) {
+        if (threadType == ThreadType.VIRTUAL) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadFactory(threadNamePrefix));
+            taskExecutor.setConcurrencyLimit(size);
+            return taskExecutor;
+        }
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(size);
+        taskExecutor.setMaxPoolSize(size);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setThreadNamePrefix(threadNamePrefix);
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        return taskExecutor;
+    }
+
+    /**
+     * 설정한 종류의 Thread 를 만드는 ThreadFactory 를 만듭니다.
+     *
+     * @param threadNamePrefix - Thread 이름 접두사입니다.
+     * @return ThreadFactory 를 반환합니다.
+     * @since 1.0.0
+     */
+    public ThreadFactory threadFactory(String threadNamePrefix) {
+        if (threadType == ThreadType.VIRTUAL) {
+            try {
+                // Thread.ofVirtual().name(prefix, 1).factory()
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = ofVirtual.invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class)
+                                     .invoke(builder, threadNamePrefix, 1L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual Thread Factory 를 만들 수 없습니다.", e);
+            }
+        }
+        return new CustomizableThreadFactory(threadNamePrefix);
+    }
+
+    private static Method findOfVirtual() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            log.warn("Virtual Thread 를 지원하지 않는 JDK({}) 입니다. PLATFORM Thread 를 사용합니다.",
+                     System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+}
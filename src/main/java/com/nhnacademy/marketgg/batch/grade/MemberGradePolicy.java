@@ -0,0 +1,85 @@
+package com.nhnacademy.marketgg.batch.grade;
+
+import com.nhnacademy.marketgg.batch.domain.constant.CouponName;
+import java.util.Optional;
+
+/**
+ * 구매 금액으로 회원 등급을 정하는 기준입니다.
+ * 매월 등급 갱신 Job 과 월중 등급 승급 Job 이 같은 기준을 사용합니다.
+ *
+ * <p>등급 번호는 member_grades 의 번호이며, 번호가 작을수록 높은 등급입니다. (GVIP 1, VIP 2, MEMBER 3)</p>
+ *
+ * @version 1.0.0
+ */
+public final class MemberGradePolicy {
+
+    public static final long GVIP = 1L;
+    public static final long VIP = 2L;
+    public static final long MEMBER = 3L;
+
+    private static final long VIP_THRESHOLD = 300_000L;
+    private static final long GVIP_THRESHOLD = 500_000L;
+
+    private MemberGradePolicy() {
+    }
+
+    /**
+     * 구매 금액에 해당하는 등급을 구합니다.
+     *
+     * @param totalAmount - 기간 동안의 총 구매 금액입니다.
+     * @return 300,000 원 미만이면 MEMBER, 500,000 원 미만이면 VIP, 그 이상이면 GVIP 를 반환합니다.
+     * @since 1.0.0
+     */
+    public static long gradeOf(long totalAmount) {
+        return gradeOf(totalAmount, 1);
+    }
+
+    /**
+     * 여러 달의 구매 금액 합계에 해당하는 등급을 구합니다.
+     * 등급 기준 금액은 한 달 기준이므로 기준 금액에 개월 수를 곱해 비교합니다. 합계를 나누지 않으므로 금액이 버려지지 않습니다.
+     *
+     * @param totalAmount - months 개월 동안의 총 구매 금액입니다.
+     * @param months      - 구매 금액을 합한 개월 수 입니다.
+     * @return 월 평균이 300,000 원 미만이면 MEMBER, 500,000 원 미만이면 VIP, 그 이상이면 GVIP 를 반환합니다.
+     * @since 1.0.0
+     */
+    public static long gradeOf(long totalAmount, int months) {
+        if (totalAmount < VIP_THRESHOLD * months) {
+            return MEMBER;
+        }
+        if (totalAmount < GVIP_THRESHOLD * months) {
+            return VIP;
+        }
+        return GVIP;
+    }
+
+    /**
+     * grade 가 current 보다 높은 등급인지 확인합니다.
+     *
+     * @param grade   - 비교할 등급 번호입니다.
+     * @param current - 현재 등급 번호입니다.
+     * @return grade 가 더 높은 등급이면 true 를 반환합니다.
+     * @since 1.0.0
+     */
+    public static boolean isHigher(long grade, long current) {
+        return grade < current;
+    }
+
+    /**
+     * 등급이 되었을 때 지급하는 등급 쿠폰을 구합니다.
+     *
+     * @param grade - 등급 번호입니다.
+     * @return 등급 쿠폰이 없는 등급(MEMBER)이면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public static Optional<CouponName> couponOf(long grade) {
+        if (grade == GVIP) {
+            return Optional.of(CouponName.GVIP);
+        }
+        if (grade == VIP) {
+            return Optional.of(CouponName.VIP);
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.nhnacademy.marketgg.batch.grade;
+
+import com.nhnacademy.marketgg.batch.promotion.WatermarkStore;
+import java.sql.Date;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원의 기간 구매 금액 합계(member_rolling_spend)를 월별 구매 금액(member_monthly_spend)으로 갱신합니다.
+ *
+ * <p>새 달의 구매 금액만 주문으로 집계해 월별 구매 금액에 저장하고, 기간 합계에 새 달을 더하고 기간에서 빠지는 달을 뺍니다.
+ * 그래서 기간이 몇 개월이든 실행할 때마다 한 달치 주문만 읽습니다.</p>
+ *
+ * <p>기간에 포함된 마지막 달은 batch_watermark 에 저장하며, 호출한 트랜잭션에서 집계와 함께 Commit 됩니다.
+ * 같은 달로 다시 실행하면 아무것도 하지 않고, 처음 실행하거나 실행하지 못한 달이 있으면 기간 전체를 주문으로 다시 집계합니다.</p>
+ *
+ * <p>기간에서 빠진 달의 월별 구매 금액은 더 이상 쓰지 않으므로 기간을 옮길 때 지웁니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class MemberSpendWindow {
+
+    private static final String WATERMARK_PREFIX = "memberGrade.spendWindow.";
+
+    private static final String DELETE_MONTH = "delete from member_monthly_spend where spend_month = ?";
+
+    private static final String DELETE_EXPIRED_MONTHS = "delete from member_monthly_spend where spend_month < ?";
+
+    private static final String INSERT_MONTH =
+        "insert into member_monthly_spend (member_no, spend_month, total_amount, updated_at) "
+            + "select member_no, ?, sum(total_amount), now() from orders "
+            + "where created_at >= ? and created_at < ? group by member_no";
+
+    private static final String ADD_MONTH =
+        "update member_rolling_spend set total_amount = total_amount + "
+            + "(select s.total_amount from member_monthly_spend s "
+            + "where s.member_no = member_rolling_spend.member_no and s.spend_month = ?), updated_at = now() "
+            + "where member_no in (select member_no from member_monthly_spend where spend_month = ?)";
+
+    private static final String SUBTRACT_MONTH =
+        "update member_rolling_spend set total_amount = total_amount - "
+            + "(select s.total_amount from member_monthly_spend s "
+            + "where s.member_no = member_rolling_spend.member_no and s.spend_month = ?), updated_at = now() "
+            + "where member_no in (select member_no from member_monthly_spend where spend_month = ?)";
+
+    private static final String INSERT_NEW_MEMBERS =
+        "insert into member_rolling_spend (member_no, total_amount, updated_at) "
+            + "select s.member_no, s.total_amount, now() from member_monthly_spend s "
+            + "where s.spend_month = ? "
+            + "and not exists (select 1 from member_rolling_spend r where r.member_no = s.member_no)";
+
+    private static final String INSERT_WINDOW =
+        "insert into member_rolling_spend (member_no, total_amount, updated_at) "
+            + "select member_no, sum(total_amount), now() from member_monthly_spend "
+            + "where spend_month >= ? and spend_month <= ? group by member_no";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WatermarkStore watermarkStore;
+
+    public MemberSpendWindow(DataSource dataSource, WatermarkStore watermarkStore) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.watermarkStore = watermarkStore;
+    }
+
+    /**
+     * 기간의 마지막 달을 newMonth 로 옮깁니다.
+     *
+     * @param newMonth     - 기간에 새로 들어오는 달의 1일입니다.
+     * @param windowMonths - 기간 개월 수 입니다.
+     * @return 주문으로 집계한 달 수를 반환합니다. 이미 옮겼으면 0, 기간 전체를 다시 집계했으면 windowMonths 입니다.
+     * @since 1.0.0
+     */
+    public int advance(LocalDate newMonth, int windowMonths) {
+        String watermarkName = WATERMARK_PREFIX + windowMonths;
+        long lastMonth = watermarkStore.find(watermarkName);
+        long month = monthNo(newMonth);
+
+        if (lastMonth >= month) {
+            log.info("구매 금액 기간이 이미 {} 까지 집계되었습니다.", newMonth);
+            return 0;
+        }
+
+        LocalDate firstMonth = newMonth.minusMonths(windowMonths - 1L);
+        int aggregated;
+        if (lastMonth == month - 1) {
+            aggregateMonth(newMonth);
+            Date expiredMonth = Date.valueOf(newMonth.minusMonths(windowMonths));
+            jdbcTemplate.update(SUBTRACT_MONTH, expiredMonth, expiredMonth);
+            jdbcTemplate.update(ADD_MONTH, Date.valueOf(newMonth), Date.valueOf(newMonth));
+            jdbcTemplate.update(INSERT_NEW_MEMBERS, Date.valueOf(newMonth));
+            jdbcTemplate.update("delete from member_rolling_spend where total_amount <= 0");
+            aggregated = 1;
+        } else {
+            log.info("구매 금액 기간 {} 개월을 주문으로 다시 집계합니다. 마지막 집계 달: {}", windowMonths, lastMonth);
+            for (LocalDate target = firstMonth; !target.isAfter(newMonth); target = target.plusMonths(1L)) {
+                aggregateMonth(target);
+            }
+            jdbcTemplate.update("delete from member_rolling_spend");
+            jdbcTemplate.update(INSERT_WINDOW, Date.valueOf(firstMonth), Date.valueOf(newMonth));
+            aggregated = windowMonths;
+        }
+
+        jdbcTemplate.update(DELETE_EXPIRED_MONTHS, Date.valueOf(firstMonth));
+        watermarkStore.advance(watermarkName, month);
+        return aggregated;
+    }
+
+    /**
+     * 한 달의 구매 금액을 주문으로 다시 집계해 월별 구매 금액을 바꿉니다.
+     * 등급 승급 Job 이 더해 둔 금액도 주문 기준 금액으로 바뀝니다.
+     */
+    private void aggregateMonth(LocalDate month) {
+        jdbcTemplate.update(DELETE_MONTH, Date.valueOf(month));
+        jdbcTemplate.update(INSERT_MONTH, Date.valueOf(month), Date.valueOf(month),
+                            Date.valueOf(month.plusMonths(1L)));
+    }
+
+    /**
+     * Watermark 에 저장할 달 번호입니다. 0 은 아직 집계하지 않았다는 뜻이므로 0 이 되지 않습니다.
+     */
+    static long monthNo(LocalDate month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.nhnacademy.marketgg.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chunk 의 한 단계(읽기, 처리, 저장)를 기록하는 JFR 이벤트입니다.
+ * 이벤트의 시작, 종료 시각으로 단계별 소요 시간이 기록됩니다.
+ *
+ * @version 1.0.0
+ */
+@Category({"MarketGG", "Batch"})
+@StackTrace(false)
+public abstract class ChunkPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Step Name")
+    String stepName;
+
+    @Label("Item Count")
+    int itemCount;
+
+    public void setStepName(String stepName) {
+        this.stepName = stepName;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+}
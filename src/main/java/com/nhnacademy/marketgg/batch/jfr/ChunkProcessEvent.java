@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Chunk 처리 단계 JFR 이벤트입니다.
+ *
+ * @version 1.0.0
+ */
+@Name("com.nhnacademy.marketgg.batch.ChunkProcess")
+@Label("Chunk Process")
+@Description("읽은 데이터를 Processor 로 처리하는 단계입니다.")
+public class ChunkProcessEvent extends ChunkPhaseEvent {
+
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Chunk 읽기 단계 JFR 이벤트입니다.
+ *
+ * @version 1.0.0
+ */
+@Name("com.nhnacademy.marketgg.batch.ChunkRead")
+@Label("Chunk Read")
+@Description("Chunk 를 채울 데이터를 Reader 로 읽는 단계입니다.")
+public class ChunkReadEvent extends ChunkPhaseEvent {
+
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.batch.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Chunk 저장 단계 JFR 이벤트입니다.
+ *
+ * @version 1.0.0
+ */
+@Name("com.nhnacademy.marketgg.batch.ChunkWrite")
+@Label("Chunk Write")
+@Description("처리한 데이터를 Writer 로 저장하는 단계입니다. Commit 시간은 포함하지 않습니다.")
+public class ChunkWriteEvent extends ChunkPhaseEvent {
+
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.marketgg.batch.jfr;
+
+import com.nhnacademy.marketgg.batch.config.JfrProperties;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 실행되는 동안 JFR 녹화를 하는 클래스입니다.
+ * JDK 설정(default, profile)에 Chunk 단계 이벤트를 더해 녹화하고, 종료 시 파일로 저장합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "marketgg.batch.jfr", name = {"enabled", "recording"}, havingValue = "true")
+@Component
+public class JfrRecordingManager {
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+
+    /**
+     * JFR 녹화를 시작합니다.
+     *
+     * @throws IOException    - 녹화 파일 경로를 사용할 수 없을 때 발생합니다.
+     * @throws ParseException - JDK 설정 이름이 잘못되었을 때 발생합니다.
+     * @since 1.0.0
+     */
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        Path destination = Paths.get(properties.getRecordingFile()).toAbsolutePath();
+
+        recording = new Recording(Configuration.getConfiguration(properties.getRecordingSettings()));
+        recording.setName("marketgg-batch");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getRecordingMaxAge());
+        recording.setDestination(destination);
+        recording.enable(ChunkReadEvent.class);
+        recording.enable(ChunkProcessEvent.class);
+        recording.enable(ChunkWriteEvent.class);
+        recording.start();
+
+        log.info("JFR 녹화 시작: settings={}, file={}", properties.getRecordingSettings(), destination);
+    }
+
+    /**
+     * JFR 녹화를 멈추고 녹화 파일에 저장합니다.
+     *
+     * @since 1.0.0
+     */
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.stop();
+            recording.close();
+            log.info("JFR 녹화 저장: {}", properties.getRecordingFile());
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.marketgg.batch.launcher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeFormatter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job 별 기본 Job Parameter 를 생성하는 클래스입니다.
+ * Scheduler 와 단발성 실행(run-once) 모드가 같은 기준으로 Job Parameter 를 만들도록 합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class JobParametersFactory {
+
+    public static final String MEMBER_GRADE_JOB = "memberGradeJob";
+    public static final String BIRTHDAY_COUPON_JOB = "birthdayCouponJob";
+    public static final String CAMPAIGN_COUPON_JOB = "campaignCouponJob";
+    public static final String GRADE_PROMOTION_JOB = "gradePromotionJob";
+
+    /**
+     * Job 이름에 맞는 기본 Job Parameter 를 생성합니다.
+     *
+     * @param jobName - Job Bean 이름입니다.
+     * @param today   - 실행 기준 날짜입니다.
+     * @return 기본 Job Parameter 를 반환합니다. 기본값이 없는 Job 은 빈 Job Parameter 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobParameters defaultJobParameters(String jobName, LocalDate today) {
+        switch (jobName) {
+            case MEMBER_GRADE_JOB:
+                return memberGradeJobParameters(today);
+            case BIRTHDAY_COUPON_JOB:
+                return birthdayCouponJobParameters(today);
+            case CAMPAIGN_COUPON_JOB:
+                return campaignCouponJobParameters(today);
+            case GRADE_PROMOTION_JOB:
+                return gradePromotionJobParameters(LocalDateTime.now());
+            default:
+                return new JobParameters();
+        }
+    }
+
+    /**
+     * 지난 달 1일부터 이번 달 1일 전까지를 조회 기간으로 하는 회원 등급 Job Parameter 를 생성합니다.
+     *
+     * @param today - 실행 기준 날짜입니다.
+     * @return 조회 기간(startDate, endDate)을 담은 Job Parameter 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobParameters memberGradeJobParameters(LocalDate today) {
+        LocalDate startOfDay = today.minusMonths(1L).withDayOfMonth(1);
+        LocalDate endOfDay = today.withDayOfMonth(1);
+
+        return new JobParametersBuilder()
+            .addString("startDate", startOfDay.format(DateTimeFormatter.ISO_DATE))
+            .addString("endDate", endOfDay.format(DateTimeFormatter.ISO_DATE))
+            .toJobParameters();
+    }
+
+    /**
+     * 오늘 생일인 회원에게 쿠폰을 지급하는 생일 쿠폰 Job Parameter 를 생성합니다.
+     *
+     * @param today - 실행 기준 날짜입니다.
+     * @return 발급일(issueDate)과 생일(MM-dd)을 담은 Job Parameter 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobParameters birthdayCouponJobParameters(LocalDate today) {
+        return new JobParametersBuilder()
+            .addString("issueDate", today.format(DateTimeFormatter.ISO_DATE))
+            .addString("birthday", today.format(DateTimeFormatter.ofPattern("MM-dd")))
+            .toJobParameters();
+    }
+
+    /**
+     * 캠페인 쿠폰 Job 의 기본 Job Parameter 를 생성합니다. 쿠폰 번호(couponNo)와 회원 조건(segment)은 실행할 때 전달합니다.
+     *
+     * @param today - 실행 기준 날짜입니다.
+     * @return 회원 조건의 일 수 기준일(baseDate)을 담은 Job Parameter 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobParameters campaignCouponJobParameters(LocalDate today) {
+        return new JobParametersBuilder()
+            .addString("baseDate", today.format(DateTimeFormatter.ISO_DATE))
+            .toJobParameters();
+    }
+
+    /**
+     * 월중 등급 승급 Job Parameter 를 생성합니다.
+     *
+     * @param now - 실행 시각입니다. 이 시각 이전에 생성된 주문을 처리합니다.
+     * @return 초 단위로 자른 실행 시각(runAt)을 담은 Job Parameter 를 반환합니다.
+     * @since 1.0.0
+     */
+    public JobParameters gradePromotionJobParameters(LocalDateTime now) {
+        return new JobParametersBuilder()
+            .addString("runAt", now.truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+            .toJobParameters();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.marketgg.batch.launcher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.converter.DefaultJobParametersConverter;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단발성 실행(run-once) 모드에서 지정한 Job 을 한 번 실행하고 종료 코드를 남기는 Runner 입니다.
+ * 컨테이너 cron 에서 {@code --job.name=memberGradeJob startDate=2022-07-01 endDate=2022-08-01} 처럼 실행합니다.
+ * Job Parameter 를 생략하면 Scheduler 와 같은 기본값을 사용합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Profile(RunOnceJobRunner.PROFILE)
+@Component
+@RequiredArgsConstructor
+public class RunOnceJobRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String PROFILE = "runonce";
+
+    private static final String JOB_NAME_OPTION = "job.name";
+    private static final int EXIT_FAILED = 1;
+    private static final int EXIT_INVALID_ARGUMENT = 2;
+
+    private final ApplicationContext applicationContext;
+    private final JobLauncher jobLauncher;
+    private final JobParametersFactory jobParametersFactory;
+
+    private int exitCode = 0;
+
+    /**
+     * 실행 인자로 전달된 Job 을 동기 방식으로 실행합니다.
+     * Job 이름이 없으면 아무 Job 도 실행하지 않고 종료합니다. (CDS Archive 생성용 실행)
+     *
+     * @param args - 실행 인자입니다. {@code --job.name} 옵션과 key=value 형식의 Job Parameter 를 받습니다.
+     * @since 1.0.0
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> jobNames = args.getOptionValues(JOB_NAME_OPTION);
+        if (jobNames == null || jobNames.isEmpty()) {
+            log.info("실행할 Job 이 지정되지 않아 종료합니다.");
+            return;
+        }
+
+        String jobName = jobNames.get(0);
+        if (!applicationContext.containsBean(jobName)) {
+            log.error("존재하지 않는 Job 입니다: {}", jobName);
+            exitCode = EXIT_INVALID_ARGUMENT;
+            return;
+        }
+
+        Job job = applicationContext.getBean(jobName, Job.class);
+        JobParameters jobParameters = createJobParameters(jobName, args.getNonOptionArgs());
+
+        log.info("단발성 Job 실행 시작: {} {}", jobName, jobParameters);
+        JobExecution execution = jobLauncher.run(job, jobParameters);
+        log.info("단발성 Job 실행 종료: {} {}", jobName, execution.getStatus());
+
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            exitCode = EXIT_FAILED;
+        }
+    }
+
+    private JobParameters createJobParameters(String jobName, List<String> nonOptionArgs) {
+        Properties properties = new Properties();
+        for (String arg : nonOptionArgs) {
+            int index = arg.indexOf('=');
+            if (index > 0) {
+                properties.setProperty(arg.substring(0, index), arg.substring(index + 1));
+            }
+        }
+
+        JobParameters given = new DefaultJobParametersConverter().getJobParameters(properties);
+
+        return new JobParametersBuilder(jobParametersFactory.defaultJobParameters(jobName, LocalDate.now()))
+            .addJobParameters(given)
+            .toJobParameters();
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.jfr.ChunkPhaseEvent;
+import com.nhnacademy.marketgg.batch.jfr.ChunkProcessEvent;
+import com.nhnacademy.marketgg.batch.jfr.ChunkReadEvent;
+import com.nhnacademy.marketgg.batch.jfr.ChunkWriteEvent;
+import java.util.List;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * Chunk 의 읽기, 처리, 저장 단계마다 JFR 이벤트를 남기는 Listener 입니다.
+ * 단계의 경계는 Chunk 시작 → 첫 처리 시작 → 저장 시작 → 저장 종료 입니다.
+ * Processor 가 없는 Step 은 읽기 단계가 저장 시작까지 이어집니다.
+ *
+ * <p>Listener 는 Step 을 실행하는 Thread 에서 호출되므로 진행 중인 이벤트를 Thread 별로 보관하고,
+ * 모든 Step 이 하나의 인스턴스를 함께 사용합니다.</p>
+ *
+ * @version 1.0.0
+ */
+public class ChunkPhaseJfrListener implements ChunkListener, ItemReadListener<Object>,
+    ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    private final ThreadLocal<ChunkPhases> current = ThreadLocal.withInitial(ChunkPhases::new);
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkPhases phases = current.get();
+        phases.stepName = context.getStepContext().getStepName();
+        phases.start(new ChunkReadEvent());
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        current.get().itemCount++;
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        ChunkPhases phases = current.get();
+        if (phases.event instanceof ChunkReadEvent) {
+            phases.start(new ChunkProcessEvent());
+        }
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        current.get().itemCount++;
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception e) {
+        current.get().itemCount++;
+    }
+
+    @Override
+    public void beforeWrite(List<?> items) {
+        ChunkPhases phases = current.get();
+        phases.start(new ChunkWriteEvent());
+        phases.itemCount = items.size();
+    }
+
+    @Override
+    public void afterWrite(List<?> items) {
+        current.get().end();
+    }
+
+    @Override
+    public void onWriteError(Exception exception, List<?> items) {
+        current.get().end();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        current.get().end();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        current.get().end();
+    }
+
+    @Override
+    public void beforeRead() {
+        // 읽기 단계는 Chunk 시작부터 기록합니다.
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        // 읽기 오류도 읽기 단계 소요 시간에 포함됩니다.
+    }
+
+    /**
+     * Thread 에서 진행 중인 Chunk 단계 이벤트입니다.
+     */
+    private static final class ChunkPhases {
+
+        private String stepName;
+        private ChunkPhaseEvent event;
+        private int itemCount;
+
+        /**
+         * 진행 중인 단계를 끝내고 다음 단계를 시작합니다.
+         */
+        private void start(ChunkPhaseEvent next) {
+            end();
+            if (next.isEnabled()) {
+                next.begin();
+                event = next;
+            }
+            itemCount = 0;
+        }
+
+        private void end() {
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setStepName(stepName);
+                    event.setItemCount(itemCount);
+                    event.commit();
+                }
+                event = null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.progress.JobProgressRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job 의 시작과 종료를 JobProgressRegistry 에 기록하는 Listener 입니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class JobProgressListener implements JobExecutionListener {
+
+    private final JobProgressRegistry registry;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        registry.jobStarted(jobExecution);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        registry.jobFinished(jobExecution);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+
+/**
+ * 처리하지 못하고 건너뛴 데이터를 로그로 남기는 Listener 입니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class LoggingSkipListener implements SkipListener<Object, Object> {
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.warn("읽기 중 건너뛴 데이터가 있습니다: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        log.warn("처리 중 건너뛴 데이터: {}, 원인: {}", item, t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        log.warn("저장 중 건너뛴 데이터: {}, 원인: {}", item, t.getMessage());
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.config.PerformanceHistoryProperties;
+import com.nhnacademy.marketgg.batch.performance.StepPerformance;
+import com.nhnacademy.marketgg.batch.performance.StepPerformanceBaseline;
+import com.nhnacademy.marketgg.batch.performance.StepPerformanceHistory;
+import com.nhnacademy.marketgg.batch.progress.JobProgressRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job 이 끝나면 완료된 Step 마다 성능 기록을 저장하고, 같은 Step 의 최근 기록과 비교해 성능 저하를 알리는 Listener 입니다.
+ * 성능 저하가 있으면 WARN 로그를 남기고 marketgg.batch.step.performance.regression 카운터를 올립니다.
+ * 기록 저장에 실패해도 Job 결과는 바뀌지 않습니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceHistoryListener implements JobExecutionListener {
+
+    public static final String REGRESSION_METRIC = "marketgg.batch.step.performance.regression";
+
+    private final PerformanceHistoryProperties properties;
+    private final StepPerformanceHistory history;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        // 성능 기록은 Job 이 끝난 뒤에만 저장합니다.
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String jobName = jobExecution.getJobInstance().getJobName();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStatus() != BatchStatus.COMPLETED || stepExecution.getEndTime() == null) {
+                continue;
+            }
+
+            try {
+                record(jobName, stepExecution);
+            } catch (DataAccessException e) {
+                log.warn("Step 성능 기록을 저장하지 못했습니다. step={}", stepExecution.getStepName(), e);
+            }
+        }
+    }
+
+    private void record(String jobName, StepExecution stepExecution) {
+        StepPerformance measured = measure(jobName, stepExecution);
+        List<String> regressions = compare(measured);
+
+        history.save(measured.toBuilder()
+                             .regression(!regressions.isEmpty())
+                             .build());
+        if (regressions.isEmpty()) {
+            return;
+        }
+
+        log.warn("Step 성능이 최근 실행보다 나빠졌습니다. step={}, metrics={}, itemsPerSecond={}, chunkP95Millis={}",
+                 measured.getStepName(), regressions, measured.getItemsPerSecond(), measured.getChunkP95Millis());
+        regressions.forEach(metric -> Metrics.counter(REGRESSION_METRIC, "step", measured.getStepName(), "metric", metric)
+                                             .increment());
+    }
+
+    /**
+     * 처리한 데이터가 적거나 최근 기록이 충분하지 않으면 비교하지 않습니다.
+     */
+    private List<String> compare(StepPerformance measured) {
+        if (measured.getItemCount() < properties.getMinItemCount()) {
+            return Collections.emptyList();
+        }
+
+        Optional<StepPerformanceBaseline> baseline =
+            history.findBaseline(measured.getStepName(), properties.getBaselineRuns(), properties.getMinItemCount());
+
+        return baseline.filter(b -> b.getRuns() >= properties.getMinBaselineRuns())
+                       .map(b -> b.regressions(measured, properties.getRegressionThreshold()))
+                       .orElse(Collections.emptyList());
+    }
+
+    private static StepPerformance measure(String jobName, StepExecution stepExecution) {
+        long itemCount = JobProgressRegistry.processedCount(stepExecution);
+        long durationMillis = Math.max(1L, Duration.between(stepExecution.getStartTime().toInstant(),
+                                                            stepExecution.getEndTime().toInstant())
+                                                   .toMillis());
+        ExecutionContext context = stepExecution.getExecutionContext();
+
+        return StepPerformance.builder()
+                              .jobName(jobName)
+                              .stepName(stepExecution.getStepName())
+                              .jobExecutionId(stepExecution.getJobExecutionId())
+                              .stepExecutionId(stepExecution.getId())
+                              .itemCount(itemCount)
+                              .durationMillis(durationMillis)
+                              .itemsPerSecond(itemCount * 1000D / durationMillis)
+                              .chunkCount(context.containsKey(StepPerformanceListener.CHUNK_COUNT)
+                                              ? context.getInt(StepPerformanceListener.CHUNK_COUNT) : null)
+                              .chunkP50Millis(doubleOrNull(context, StepPerformanceListener.CHUNK_P50_MILLIS))
+                              .chunkP95Millis(doubleOrNull(context, StepPerformanceListener.CHUNK_P95_MILLIS))
+                              .chunkP99Millis(doubleOrNull(context, StepPerformanceListener.CHUNK_P99_MILLIS))
+                              .dbTimeRatio(doubleOrNull(context, StepPerformanceListener.DB_TIME_RATIO))
+                              .createdAt(LocalDateTime.ofInstant(stepExecution.getEndTime().toInstant(),
+                                                                 ZoneId.systemDefault()))
+                              .build();
+    }
+
+    private static Double doubleOrNull(ExecutionContext context, String key) {
+        return context.containsKey(key) ? context.getDouble(key) : null;
+    }
+
+}
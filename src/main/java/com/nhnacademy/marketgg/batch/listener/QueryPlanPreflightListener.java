@@ -0,0 +1,31 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.preflight.QueryPlanVerifier;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/**
+ * Job 이 Step 을 실행하기 전에 Job 의 Reader 쿼리 실행 계획을 확인하는 Listener 입니다.
+ * FAIL 정책인 쿼리에 문제가 있으면 예외를 던져 Step 을 하나도 실행하지 않고 Job 을 실패시킵니다.
+ *
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class QueryPlanPreflightListener implements JobExecutionListener {
+
+    private final QueryPlanVerifier verifier;
+    private final List<String> queryNames;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        verifier.verify(queryNames, jobExecution.getJobParameters());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        // 실행 계획은 Job 을 시작할 때만 확인합니다.
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Step 의 Commit 된 Chunk 마다 지연 시간과 DB 작업 시간을 재고, Step 이 끝나면 요약을 Step ExecutionContext 에 남기는 Listener 입니다.
+ * DB 작업 시간은 읽기, 저장, 저장 후 Commit 까지 걸린 시간의 합이며 Processor 안의 조회는 포함하지 않습니다.
+ * 모든 Step 이 하나의 인스턴스를 함께 사용하므로 측정값은 Step 을 실행하는 Thread 별로 보관합니다.
+ *
+ * @version 1.0.0
+ */
+public class StepPerformanceListener implements StepExecutionListener, ChunkListener,
+    ItemReadListener<Object>, ItemWriteListener<Object> {
+
+    public static final String CHUNK_COUNT = "performance.chunkCount";
+    public static final String CHUNK_P50_MILLIS = "performance.chunkP50Millis";
+    public static final String CHUNK_P95_MILLIS = "performance.chunkP95Millis";
+    public static final String CHUNK_P99_MILLIS = "performance.chunkP99Millis";
+    public static final String DB_TIME_RATIO = "performance.dbTimeRatio";
+
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private final ThreadLocal<StepTimings> current = new ThreadLocal<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        current.set(new StepTimings());
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StepTimings timings = current.get();
+        if (timings != null) {
+            timings.chunkStart = System.nanoTime();
+            timings.chunkDbNanos = 0L;
+            timings.writeEnd = 0L;
+        }
+    }
+
+    @Override
+    public void beforeRead() {
+        StepTimings timings = current.get();
+        if (timings != null) {
+            timings.readStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        endRead();
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        endRead();
+    }
+
+    @Override
+    public void beforeWrite(List<?> items) {
+        StepTimings timings = current.get();
+        if (timings != null) {
+            endRead();
+            timings.writeStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterWrite(List<?> items) {
+        StepTimings timings = current.get();
+        if (timings != null) {
+            timings.writeEnd = System.nanoTime();
+            timings.chunkDbNanos += timings.writeEnd - timings.writeStart;
+        }
+    }
+
+    @Override
+    public void onWriteError(Exception exception, List<?> items) {
+        // 실패한 Chunk 는 Rollback 되므로 afterChunkError 에서 버립니다.
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepTimings timings = current.get();
+        if (timings == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (timings.writeEnd > 0L) {
+            timings.chunkDbNanos += now - timings.writeEnd;
+        }
+        timings.add(now - timings.chunkStart);
+        timings.dbNanos += timings.chunkDbNanos;
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // Rollback 된 Chunk 의 측정값은 기록하지 않습니다.
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StepTimings timings = current.get();
+        current.remove();
+        if (timings == null || timings.count == 0) {
+            return null;
+        }
+
+        long[] latencies = Arrays.copyOf(timings.latencies, timings.count);
+        Arrays.sort(latencies);
+        long chunkNanos = Arrays.stream(latencies).sum();
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putInt(CHUNK_COUNT, timings.count);
+        context.putDouble(CHUNK_P50_MILLIS, percentile(latencies, 0.50D) / NANOS_PER_MILLI);
+        context.putDouble(CHUNK_P95_MILLIS, percentile(latencies, 0.95D) / NANOS_PER_MILLI);
+        context.putDouble(CHUNK_P99_MILLIS, percentile(latencies, 0.99D) / NANOS_PER_MILLI);
+        context.putDouble(DB_TIME_RATIO, chunkNanos == 0L ? 0D : Math.min(1D, (double) timings.dbNanos / chunkNanos));
+
+        return null;
+    }
+
+    /**
+     * 정렬된 값에서 nearest-rank 방식으로 백분위 값을 구합니다.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private void endRead() {
+        StepTimings timings = current.get();
+        if (timings != null && timings.readStart > 0L) {
+            timings.chunkDbNanos += System.nanoTime() - timings.readStart;
+            timings.readStart = 0L;
+        }
+    }
+
+    private static class StepTimings {
+
+        private long[] latencies = new long[64];
+        private int count;
+        private long dbNanos;
+
+        private long chunkStart;
+        private long chunkDbNanos;
+        private long readStart;
+        private long writeStart;
+        private long writeEnd;
+
+        private void add(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+    }
+
+}
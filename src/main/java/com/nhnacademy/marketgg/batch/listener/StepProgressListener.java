@@ -0,0 +1,76 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.progress.JobProgressRegistry;
+import com.nhnacademy.marketgg.batch.progress.StepProgress;
+import com.nhnacademy.marketgg.batch.progress.StepWorkCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * Step 시작 시 전체 데이터 수를 계산하고, Chunk 가 Commit 될 때마다 처리한 데이터 수를 JobProgressRegistry 에 기록하는 Listener 입니다.
+ * Step 마다 전체 데이터 수를 계산하는 방법이 다르므로 Step 마다 따로 생성합니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class StepProgressListener implements StepExecutionListener, ChunkListener {
+
+    private final JobProgressRegistry registry;
+    private final StepWorkCounter workCounter;
+
+    /**
+     * 같은 Step Bean 이 여러 Job 실행에서 동시에 사용될 수 있으므로 진행 상황은 Step 을 실행하는 Thread 별로 보관합니다.
+     */
+    private final ThreadLocal<StepProgress> current = new ThreadLocal<>();
+
+    public StepProgressListener(JobProgressRegistry registry, StepWorkCounter workCounter) {
+        this.registry = registry;
+        this.workCounter = workCounter;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        StepProgress stepProgress = registry.stepStarted(stepExecution);
+        current.set(stepProgress);
+
+        try {
+            stepProgress.setTotal(workCounter.count(stepExecution));
+        } catch (RuntimeException e) {
+            log.warn("{} 의 전체 데이터 수를 계산하지 못했습니다: {}", stepExecution.getStepName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepProgress stepProgress = current.get();
+        if (stepProgress != null) {
+            StepExecution stepExecution = context.getStepContext().getStepExecution();
+            stepProgress.update(JobProgressRegistry.processedCount(stepExecution), System.nanoTime());
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StepProgress stepProgress = current.get();
+        if (stepProgress != null) {
+            registry.stepFinished(stepExecution, stepProgress);
+            current.remove();
+        }
+        return null;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        // 처리한 데이터 수는 Commit 이후(afterChunk)에만 기록합니다.
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // Rollback 된 Chunk 는 처리한 데이터 수에 포함하지 않습니다.
+    }
+
+}
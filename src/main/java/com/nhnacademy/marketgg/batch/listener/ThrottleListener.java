@@ -0,0 +1,119 @@
+package com.nhnacademy.marketgg.batch.listener;
+
+import com.nhnacademy.marketgg.batch.throttle.StepThrottle;
+import com.nhnacademy.marketgg.batch.throttle.ThrottleRegistry;
+import java.util.List;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatListener;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Step 의 쓰기 속도 제한만큼 Chunk 트랜잭션 밖에서 기다리는 Listener 입니다.
+ * Step 의 반복(stepOperations)에 등록되어 Chunk 트랜잭션을 시작하기 전에 Chunk 하나만큼,
+ * Commit 이 끝난 뒤 저장한 데이터 수만큼 기다리므로 기다리는 동안 DB Connection 과 Lock 을 잡고 있지 않습니다.
+ * 저장이 끝난 뒤 Commit 까지 걸린 시간을 재서 자동 조절에 사용합니다.
+ *
+ * @version 1.0.0
+ */
+public class ThrottleListener implements RepeatListener, ChunkListener, ItemWriteListener<Object> {
+
+    private final ThrottleRegistry registry;
+
+    /**
+     * 같은 Listener 를 여러 Step 이 함께 사용하므로 실행 중인 Step 의 제한, 저장 종료 시각, 저장한 데이터 수는 Thread 별로 보관합니다.
+     */
+    private final ThreadLocal<StepThrottle> current = new ThreadLocal<>();
+    private final ThreadLocal<Long> writtenAt = new ThreadLocal<>();
+    private final ThreadLocal<Integer> writtenCount = new ThreadLocal<>();
+
+    public ThrottleListener(ThrottleRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void open(RepeatContext context) {
+        current.set(registry.get(throttleName(StepSynchronizationManager.getContext().getStepName())));
+    }
+
+    @Override
+    public void before(RepeatContext context) {
+        StepThrottle throttle = current.get();
+        if (throttle != null) {
+            throttle.acquireChunk();
+        }
+    }
+
+    @Override
+    public void after(RepeatContext context, RepeatStatus result) {
+        StepThrottle throttle = current.get();
+        Integer written = writtenCount.get();
+        if (throttle != null && written != null) {
+            throttle.acquireRows(written);
+        }
+        writtenCount.remove();
+    }
+
+    @Override
+    public void onError(RepeatContext context, Throwable e) {
+        writtenCount.remove();
+    }
+
+    @Override
+    public void close(RepeatContext context) {
+        current.remove();
+        writtenAt.remove();
+        writtenCount.remove();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        // 기다리는 것은 Chunk 트랜잭션 밖(before)에서 합니다.
+    }
+
+    @Override
+    public void beforeWrite(List<?> items) {
+        // 기다리는 것은 Commit 뒤(after)에서 합니다.
+    }
+
+    @Override
+    public void afterWrite(List<?> items) {
+        writtenAt.set(System.nanoTime());
+        // 건너뛸 데이터를 찾으려고 한 건씩 다시 저장하면 여러 번 호출되므로 저장한 수를 더합니다.
+        Integer written = writtenCount.get();
+        writtenCount.set(written == null ? items.size() : written + items.size());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepThrottle throttle = current.get();
+        Long written = writtenAt.get();
+        if (throttle != null && written != null) {
+            throttle.recordCommitLatency(System.nanoTime() - written);
+        }
+        writtenAt.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        writtenAt.remove();
+        writtenCount.remove();
+    }
+
+    /**
+     * Partition Worker Step(이름:partitionN)은 Worker Step 이름의 제한을 함께 사용하므로 전체 구간의 합계가 제한됩니다.
+     */
+    private static String throttleName(String stepName) {
+        int partitionSeparator = stepName.indexOf(':');
+        return partitionSeparator < 0 ? stepName : stepName.substring(0, partitionSeparator);
+    }
+
+    @Override
+    public void onWriteError(Exception exception, List<?> items) {
+        // 실패한 저장은 Commit 지연 시간에 포함하지 않습니다.
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.nhnacademy.marketgg.batch.lock;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 인스턴스가 같은 Scheduler 를 동시에 실행하지 않도록 DB 테이블(scheduler_locks)로 잠금을 관리하는 클래스입니다.
+ * 잠금은 만료 시간(lease)을 가지므로, 잠금을 가진 인스턴스가 비정상 종료되어도 만료 후 다른 인스턴스가 가져갈 수 있습니다.
+ * 인스턴스 간 시계 차이에 영향을 받지 않도록 시간은 모두 DB 기준으로 계산합니다.
+ * 테이블 DDL 은 {@code db/scheduler-lock.sql} 에 있습니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String UPDATE_LOCK =
+        "update scheduler_locks " +
+            "set locked_until = timestampadd(second, ?, current_timestamp), locked_at = current_timestamp, locked_by = ? " +
+            "where lock_name = ? and locked_until <= current_timestamp";
+
+    private static final String UPDATE_EXPIRED_OR_OWN_LOCK =
+        "update scheduler_locks " +
+            "set locked_until = timestampadd(second, ?, current_timestamp), locked_at = current_timestamp, locked_by = ? " +
+            "where lock_name = ? and (locked_until <= current_timestamp or locked_by = ?)";
+
+    private static final String INSERT_LOCK =
+        "insert into scheduler_locks (lock_name, locked_until, locked_at, locked_by) " +
+            "values (?, timestampadd(second, ?, current_timestamp), current_timestamp, ?)";
+
+    private static final String EXTEND_LOCK =
+        "update scheduler_locks " +
+            "set locked_until = timestampadd(second, ?, current_timestamp) " +
+            "where lock_name = ? and locked_by = ? and locked_until > current_timestamp";
+
+    private static final String RELEASE_LOCK =
+        "update scheduler_locks " +
+            "set locked_until = greatest(timestampadd(second, ?, locked_at), current_timestamp) " +
+            "where lock_name = ? and locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lockedBy;
+
+    public SchedulerLock(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.lockedBy = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행합니다. 다른 인스턴스가 잠금을 가지고 있으면 작업을 건너뜁니다.
+     *
+     * @param lockName       - 잠금 이름입니다. 같은 이름의 작업은 동시에 하나의 인스턴스에서만 실행됩니다.
+     * @param lockAtMostFor  - 잠금을 유지하는 최대 시간입니다. 인스턴스가 비정상 종료되면 이 시간 이후 잠금이 풀립니다.
+     * @param lockAtLeastFor - 작업이 일찍 끝나도 잠금을 유지하는 최소 시간입니다.
+     *                       다른 인스턴스의 같은 시각 실행이 조금 늦게 도착해도 중복 실행되지 않도록 합니다.
+     * @param task           - 실행할 작업입니다.
+     * @return 작업을 실행했으면 true, 잠금을 얻지 못해 건너뛰었으면 false 를 반환합니다.
+     * @since 1.0.0
+     */
+    public boolean executeWithLock(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        if (!lock(lockName, lockAtMostFor)) {
+            log.info("다른 인스턴스가 실행 중이므로 건너뜁니다: {}", lockName);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(lockName, lockAtLeastFor);
+        }
+    }
+
+    /**
+     * 잠금을 얻습니다. 잠금이 만료되었거나 없을 때만 얻을 수 있으므로, 같은 인스턴스에서도 이미 가진 잠금은 다시 얻지 못합니다.
+     *
+     * @param lockName      - 잠금 이름입니다.
+     * @param lockAtMostFor - 잠금 만료 시간입니다. extend 로 연장하지 않으면 이 시간 뒤에 잠금이 풀립니다.
+     * @return 잠금을 얻었으면 true 를 반환합니다.
+     * @since 1.0.0
+     */
+    public boolean lock(String lockName, Duration lockAtMostFor) {
+        if (jdbcTemplate.update(UPDATE_LOCK, lockAtMostFor.getSeconds(), lockedBy, lockName) > 0) {
+            return true;
+        }
+
+        return insert(lockName, lockAtMostFor);
+    }
+
+    /**
+     * 잠금을 얻습니다. lock 과 달리 이 인스턴스가 가진 잠금도 다시 얻으므로, 이 인스턴스가 풀었지만 lockAtLeastFor 때문에
+     * 유지 중인 잠금을 이어서 사용할 수 있습니다. 이 인스턴스 안에서 같은 잠금을 동시에 사용하지 않는 것은 호출하는 쪽이 보장해야 합니다.
+     *
+     * @param lockName      - 잠금 이름입니다.
+     * @param lockAtMostFor - 잠금 만료 시간입니다. extend 로 연장하지 않으면 이 시간 뒤에 잠금이 풀립니다.
+     * @return 잠금을 얻었으면 true, 다른 인스턴스가 가지고 있으면 false 를 반환합니다.
+     * @since 1.0.0
+     */
+    public boolean lockForInstance(String lockName, Duration lockAtMostFor) {
+        int updated = jdbcTemplate.update(UPDATE_EXPIRED_OR_OWN_LOCK, lockAtMostFor.getSeconds(), lockedBy, lockName,
+                                          lockedBy);
+        if (updated > 0) {
+            return true;
+        }
+
+        return insert(lockName, lockAtMostFor);
+    }
+
+    private boolean insert(String lockName, Duration lockAtMostFor) {
+        try {
+            return jdbcTemplate.update(INSERT_LOCK, lockName, lockAtMostFor.getSeconds(), lockedBy) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 가지고 있는 잠금의 만료 시간을 지금부터 lockAtMostFor 뒤로 연장합니다.
+     *
+     * @param lockName      - 잠금 이름입니다.
+     * @param lockAtMostFor - 지금부터 잠금을 유지할 시간입니다.
+     * @return 연장했으면 true, 잠금이 이미 만료되었거나 다른 인스턴스가 가져갔으면 false 를 반환합니다.
+     * @since 1.0.0
+     */
+    public boolean extend(String lockName, Duration lockAtMostFor) {
+        return jdbcTemplate.update(EXTEND_LOCK, lockAtMostFor.getSeconds(), lockName, lockedBy) > 0;
+    }
+
+    /**
+     * 잠금을 풉니다. 잠금을 얻은 시각부터 lockAtLeastFor 가 지나지 않았으면 그때까지 유지합니다.
+     *
+     * @param lockName       - 잠금 이름입니다.
+     * @param lockAtLeastFor - 잠금을 얻은 시각부터 잠금을 유지하는 최소 시간입니다.
+     * @since 1.0.0
+     */
+    public void unlock(String lockName, Duration lockAtLeastFor) {
+        jdbcTemplate.update(RELEASE_LOCK, lockAtLeastFor.getSeconds(), lockName, lockedBy);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.config.OutboxProperties;
+import com.nhnacademy.marketgg.batch.domain.constant.OutboxEventType;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
+import com.nhnacademy.marketgg.batch.grade.MemberGradePolicy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등급 초기화 전 등급을 기록해 두고, 등급 업데이트가 끝난 뒤 실제로 등급이 바뀐 회원에게만 등급 변경 이벤트를 남기는 클래스입니다.
+ * 초기화 Step 이 일반 등급으로 내린 회원의 이전 등급을 member_grade_previous 에 저장하고,
+ * 등급 업데이트 Step 이 처리한 회원의 이전 등급을 꺼내 지웁니다. 남은 회원은 초기화로만 등급이 바뀐 회원입니다.
+ * 테이블 DDL 은 {@code db/outbox.sql} 에 있습니다. Outbox 를 사용하지 않으면 Writer 를 그대로 반환합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class GradeChangeTracker {
+
+    private static final String INSERT_PREVIOUS =
+        "insert ignore into member_grade_previous (job_instance_id, member_no, member_grade_no) "
+            + "values (:jobInstanceId, :memberNo, :memberGradeNo)";
+
+    private static final String SELECT_PREVIOUS =
+        "select member_no, member_grade_no from member_grade_previous "
+            + "where job_instance_id = :jobInstanceId and member_no in (:memberNos)";
+
+    private static final String DELETE_PREVIOUS =
+        "delete from member_grade_previous where job_instance_id = :jobInstanceId and member_no in (:memberNos)";
+
+    private static final String INSERT_RESET_EVENTS =
+        "insert into batch_outbox_events (event_type, member_no, reference_no, created_at) "
+            + "select :eventType, member_no, :gradeNo, now() from member_grade_previous "
+            + "where job_instance_id = :jobInstanceId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxProperties properties;
+
+    public GradeChangeTracker(DataSource dataSource, OutboxProperties properties) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 초기화 Writer 가 등급을 내린 뒤 같은 트랜잭션에서 회원의 이전 등급(previousGradeNo)을 기록하도록 합니다.
+     * 재시작으로 초기화 Step 을 다시 실행하면 이미 기록한 회원은 건너뛰므로 처음 기록한 등급이 남습니다.
+     *
+     * @param writer        - 등급을 초기화하는 Writer 입니다.
+     * @param jobInstanceId - 이전 등급을 기록할 Job Instance 의 번호입니다.
+     * @return 이전 등급 기록이 덧붙은 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    public ItemWriter<MemberGradeDto> recordingPrevious(ItemWriter<MemberGradeDto> writer, long jobInstanceId) {
+        if (!properties.isEnabled()) {
+            return writer;
+        }
+        return items -> {
+            writer.write(items);
+
+            MapSqlParameterSource[] params = items.stream()
+                                                  .map(member -> new MapSqlParameterSource()
+                                                      .addValue("jobInstanceId", jobInstanceId)
+                                                      .addValue("memberNo", member.getMemberNo())
+                                                      .addValue("memberGradeNo", member.getPreviousGradeNo()))
+                                                  .toArray(MapSqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_PREVIOUS, params);
+        };
+    }
+
+    /**
+     * 등급 업데이트 Writer 에 넘기기 전에 Chunk 회원의 이전 등급을 한 번에 조회해 previousGradeNo 에 채우고 기록을 지웁니다.
+     * 기록이 없는 회원은 초기화 전에도 일반 등급이었던 회원입니다.
+     *
+     * @param writer        - 새 등급을 저장하는 Writer 입니다.
+     * @param jobInstanceId - 이전 등급을 기록한 Job Instance 의 번호입니다.
+     * @return 이전 등급 조회가 덧붙은 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    public ItemWriter<MemberGradeDto> loadingPrevious(ItemWriter<MemberGradeDto> writer, long jobInstanceId) {
+        if (!properties.isEnabled()) {
+            return writer;
+        }
+        return items -> {
+            if (!items.isEmpty()) {
+                List<Long> memberNos = items.stream()
+                                            .map(MemberGradeDto::getMemberNo)
+                                            .collect(Collectors.toList());
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("jobInstanceId", jobInstanceId)
+                    .addValue("memberNos", memberNos);
+
+                Map<Long, Long> previousGrades = new HashMap<>(memberNos.size());
+                jdbcTemplate.query(SELECT_PREVIOUS, params, rs -> {
+                    previousGrades.put(rs.getLong("member_no"), rs.getLong("member_grade_no"));
+                });
+                for (MemberGradeDto member : items) {
+                    member.setPreviousGradeNo(
+                        previousGrades.getOrDefault(member.getMemberNo(), MemberGradePolicy.MEMBER));
+                }
+                jdbcTemplate.update(DELETE_PREVIOUS, params);
+            }
+
+            writer.write(items);
+        };
+    }
+
+    /**
+     * 등급 업데이트 Step 이 처리하지 않아 기록이 남은 회원, 즉 초기화로만 일반 등급이 된 회원의 등급 변경 이벤트를 저장하고 기록을 지웁니다.
+     *
+     * @param jobInstanceId - 이전 등급을 기록한 Job Instance 의 번호입니다.
+     * @return 저장한 이벤트 수를 반환합니다.
+     * @since 1.0.0
+     */
+    public int publishResetOnly(long jobInstanceId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("eventType", OutboxEventType.GRADE_CHANGED.name())
+            .addValue("gradeNo", MemberGradePolicy.MEMBER)
+            .addValue("jobInstanceId", jobInstanceId);
+
+        int published = jdbcTemplate.update(INSERT_RESET_EVENTS, params);
+        jdbcTemplate.update("delete from member_grade_previous where job_instance_id = :jobInstanceId", params);
+        return published;
+    }
+
+    /**
+     * 끝까지 실행되지 않은 이전 Job Instance 가 남긴 기록을 지웁니다.
+     *
+     * @param jobInstanceId - 지금 실행 중인 Job Instance 의 번호입니다.
+     * @since 1.0.0
+     */
+    public void clearOtherJobs(long jobInstanceId) {
+        jdbcTemplate.update("delete from member_grade_previous where job_instance_id <> :jobInstanceId",
+                            new MapSqlParameterSource("jobInstanceId", jobInstanceId));
+    }
+
+}
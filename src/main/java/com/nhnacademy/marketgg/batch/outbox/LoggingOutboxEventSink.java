@@ -0,0 +1,21 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트를 로그로만 남기는 기본 OutboxEventSink 입니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        log.info("Outbox 이벤트 {} 건 발행: {} ~ {}", events.size(),
+                 events.get(0).getEventNo(), events.get(events.size() - 1).getEventNo());
+    }
+
+}
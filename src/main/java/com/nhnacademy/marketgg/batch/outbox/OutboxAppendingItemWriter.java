@@ -0,0 +1,46 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 데이터를 저장한 뒤 같은 Chunk 트랜잭션 안에서 Outbox 이벤트를 함께 저장하는 Writer 입니다.
+ * 이벤트로 바꿀 필요가 없는 데이터는 변환 함수가 null 을 반환하면 건너뜁니다.
+ *
+ * @param <T> - 저장할 데이터 타입입니다.
+ * @version 1.0.0
+ */
+public class OutboxAppendingItemWriter<T> implements ItemWriter<T> {
+
+    private final ItemWriter<T> delegate;
+    private final ItemWriter<OutboxEvent> eventWriter;
+    private final Function<? super T, OutboxEvent> toEvent;
+
+    public OutboxAppendingItemWriter(ItemWriter<T> delegate, ItemWriter<OutboxEvent> eventWriter,
+                                     Function<? super T, OutboxEvent> toEvent) {
+        this.delegate = delegate;
+        this.eventWriter = eventWriter;
+        this.toEvent = toEvent;
+    }
+
+    @Override
+    public void write(List<? extends T> items) throws Exception {
+        delegate.write(items);
+
+        List<OutboxEvent> events = new ArrayList<>(items.size());
+        for (T item : items) {
+            OutboxEvent event = toEvent.apply(item);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        if (!events.isEmpty()) {
+            eventWriter.write(events);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox 설정 파일입니다.
+ *
+ * @version 1.0.0
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventSink.class)
+    public OutboxEventSink outboxEventSink() {
+        return new LoggingOutboxEventSink();
+    }
+
+}
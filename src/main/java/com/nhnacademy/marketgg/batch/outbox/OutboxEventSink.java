@@ -0,0 +1,23 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.util.List;
+
+/**
+ * OutboxRelay 가 이벤트를 발행하는 대상입니다.
+ * 메시지 브로커 등 실제 발행 방식에 맞게 구현해 Bean 으로 등록하면 기본 구현(LoggingOutboxEventSink)을 대신합니다.
+ *
+ * @version 1.0.0
+ */
+public interface OutboxEventSink {
+
+    /**
+     * 이벤트를 발행 순서(event_no)대로 한 번에 발행합니다.
+     * 예외 없이 반환되면 모두 발행된 것으로 기록되고, 예외가 발생하면 다음 주기에 다시 발행합니다.
+     *
+     * @param events - 발행할 이벤트 목록입니다.
+     * @since 1.0.0
+     */
+    void publish(List<OutboxEvent> events);
+
+}
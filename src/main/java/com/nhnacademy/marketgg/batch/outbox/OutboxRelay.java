@@ -0,0 +1,105 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.config.OutboxProperties;
+import com.nhnacademy.marketgg.batch.domain.constant.OutboxEventType;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.launcher.RunOnceJobRunner;
+import com.nhnacademy.marketgg.batch.lock.SchedulerLock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 테이블에 쌓인 이벤트를 주기적으로 모아서 발행하는 클래스입니다.
+ * 여러 인스턴스에서 실행되어도 잠금을 얻은 하나의 인스턴스만 발행합니다.
+ * 발행 후 published_at 을 기록하므로, 기록 전에 장애가 나면 같은 이벤트가 다시 발행될 수 있습니다. (at-least-once)
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Profile("!" + RunOnceJobRunner.PROFILE)
+@ConditionalOnProperty(prefix = "marketgg.batch.outbox", name = "enabled", havingValue = "true")
+@Component
+public class OutboxRelay {
+
+    private static final String SELECT_PENDING =
+        "select event_no, event_type, member_no, reference_no, created_at from batch_outbox_events " +
+            "where published_at is null order by event_no limit ?";
+
+    private static final String MARK_PUBLISHED =
+        "update batch_outbox_events set published_at = now() where event_no in (:eventNos)";
+
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10L);
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) ->
+        new OutboxEvent(rs.getLong("event_no"), OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getLong("member_no"), rs.getLong("reference_no"),
+                        rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxEventSink sink;
+    private final SchedulerLock schedulerLock;
+    private final OutboxProperties properties;
+
+    public OutboxRelay(DataSource dataSource, OutboxEventSink sink, SchedulerLock schedulerLock,
+                       OutboxProperties properties) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.sink = sink;
+        this.schedulerLock = schedulerLock;
+        this.properties = properties;
+    }
+
+    /**
+     * 발행되지 않은 이벤트를 잠금을 얻은 경우에만 발행합니다.
+     *
+     * @since 1.0.0
+     */
+    @Scheduled(fixedDelayString = "${marketgg.batch.outbox.relay-interval-millis:5000}")
+    public void scheduleRelay() {
+        schedulerLock.executeWithLock("outboxRelay", LOCK_AT_MOST_FOR, Duration.ZERO, this::relay);
+    }
+
+    /**
+     * 발행되지 않은 이벤트를 relayBatchSize 개씩 조회해 모두 발행합니다.
+     *
+     * @return 발행한 이벤트 수를 반환합니다.
+     * @since 1.0.0
+     */
+    public int relay() {
+        JdbcTemplate template = jdbcTemplate.getJdbcTemplate();
+        int published = 0;
+
+        while (true) {
+            List<OutboxEvent> events = template.query(SELECT_PENDING, ROW_MAPPER, properties.getRelayBatchSize());
+            if (events.isEmpty()) {
+                break;
+            }
+
+            sink.publish(events);
+
+            List<Long> eventNos = events.stream().map(OutboxEvent::getEventNo).collect(Collectors.toList());
+            jdbcTemplate.update(MARK_PUBLISHED, new MapSqlParameterSource("eventNos", eventNos));
+            published += events.size();
+
+            if (events.size() < properties.getRelayBatchSize()) {
+                break;
+            }
+        }
+
+        if (published > 0) {
+            log.info("Outbox 이벤트 {} 건 발행 완료", published);
+        }
+        return published;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.config.OutboxProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import com.nhnacademy.marketgg.batch.writer.OutboxEventItemWriter;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step 의 Writer 에 Outbox 이벤트 저장을 덧붙이는 클래스입니다.
+ * Outbox 를 사용하지 않으면 Writer 를 그대로 반환합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class OutboxWriterFactory {
+
+    private final OutboxProperties properties;
+    private final OutboxEventItemWriter eventWriter;
+
+    public OutboxWriterFactory(DataSource dataSource, OutboxProperties properties) {
+        this.properties = properties;
+        this.eventWriter = new OutboxEventItemWriter(dataSource, properties.getRowsPerStatement());
+    }
+
+    /**
+     * Writer 가 데이터를 저장한 뒤 같은 트랜잭션에서 Outbox 이벤트를 함께 저장하도록 합니다.
+     *
+     * @param writer  - 데이터를 저장하는 Writer 입니다.
+     * @param toEvent - 저장한 데이터를 이벤트로 바꾸는 함수입니다. null 을 반환하면 이벤트를 남기지 않습니다.
+     * @param <T>     - 저장할 데이터 타입입니다.
+     * @return 이벤트 저장이 덧붙은 Writer 를 반환합니다.
+     * @since 1.0.0
+     */
+    public <T> ItemWriter<T> withEvents(ItemWriter<T> writer, Function<? super T, OutboxEvent> toEvent) {
+        if (!properties.isEnabled()) {
+            return writer;
+        }
+        return new OutboxAppendingItemWriter<>(writer, eventWriter, toEvent);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.marketgg.batch.performance;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Step 실행 한 번의 성능 기록입니다. batch_step_performance 테이블의 한 행과 같습니다.
+ * Chunk 지연 시간과 DB 시간 비율은 Chunk Step 에만 있으며, Tasklet Step 이나 Partition Manager Step 은 null 입니다.
+ *
+ * @version 1.0.0
+ */
+@Builder(toBuilder = true)
+@Getter
+public class StepPerformance {
+
+    private final String jobName;
+
+    private final String stepName;
+
+    private final Long jobExecutionId;
+
+    private final Long stepExecutionId;
+
+    private final long itemCount;
+
+    private final long durationMillis;
+
+    private final double itemsPerSecond;
+
+    private final Integer chunkCount;
+
+    private final Double chunkP50Millis;
+
+    private final Double chunkP95Millis;
+
+    private final Double chunkP99Millis;
+
+    private final Double dbTimeRatio;
+
+    private final boolean regression;
+
+    private final LocalDateTime createdAt;
+
+}
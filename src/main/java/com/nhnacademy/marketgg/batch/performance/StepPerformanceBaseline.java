@@ -0,0 +1,54 @@
+package com.nhnacademy.marketgg.batch.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 같은 Step 의 최근 성능 기록 평균입니다. 새 실행이 이 평균보다 크게 나빠졌는지 판단합니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class StepPerformanceBaseline {
+
+    public static final String THROUGHPUT = "throughput";
+    public static final String CHUNK_P95 = "chunkP95";
+
+    /**
+     * 평균에 사용한 기록 수 입니다.
+     */
+    private final int runs;
+
+    private final double itemsPerSecond;
+
+    /**
+     * Chunk 지연 시간 p95 평균입니다. 기록이 없으면 null 입니다.
+     */
+    private final Double chunkP95Millis;
+
+    /**
+     * 새 실행에서 나빠진 지표를 찾습니다.
+     * 처리 속도는 평균의 (1 - threshold) 배보다 낮을 때, Chunk 지연 시간 p95 는 평균의 (1 + threshold) 배보다 높을 때 나빠진 것으로 봅니다.
+     *
+     * @param performance - 새 Step 실행의 성능 기록입니다.
+     * @param threshold   - 허용하는 변화 비율입니다. 0.3 이면 30% 까지는 나빠져도 허용합니다.
+     * @return 나빠진 지표 이름(THROUGHPUT, CHUNK_P95) 목록을 반환합니다. 없으면 빈 목록입니다.
+     * @since 1.0.0
+     */
+    public List<String> regressions(StepPerformance performance, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        if (performance.getItemsPerSecond() < itemsPerSecond * (1D - threshold)) {
+            regressions.add(THROUGHPUT);
+        }
+        if (chunkP95Millis != null && performance.getChunkP95Millis() != null
+            && performance.getChunkP95Millis() > chunkP95Millis * (1D + threshold)) {
+            regressions.add(CHUNK_P95);
+        }
+
+        return regressions;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.marketgg.batch.performance;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * batch_step_performance 테이블에 Step 성능 기록을 저장하고, 같은 Step 의 최근 기록 평균을 조회합니다.
+ * 기록은 Job 이름이 아니라 Step 이름으로 찾습니다. 등급 갱신 Job 은 실행할 때마다 Job 이름이 달라지기 때문입니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class StepPerformanceHistory {
+
+    private static final String INSERT =
+        "insert into batch_step_performance (job_name, step_name, job_execution_id, step_execution_id, item_count, "
+            + "duration_millis, items_per_second, chunk_count, chunk_p50_millis, chunk_p95_millis, chunk_p99_millis, "
+            + "db_time_ratio, regression, created_at) "
+            + "values (:jobName, :stepName, :jobExecutionId, :stepExecutionId, :itemCount, :durationMillis, "
+            + ":itemsPerSecond, :chunkCount, :chunkP50Millis, :chunkP95Millis, :chunkP99Millis, :dbTimeRatio, "
+            + ":regression, :createdAt)";
+
+    private static final String SELECT_BASELINE =
+        "select count(*) as runs, avg(items_per_second) as items_per_second, avg(chunk_p95_millis) as chunk_p95_millis "
+            + "from (select items_per_second, chunk_p95_millis from batch_step_performance "
+            + "      where step_name = :stepName and item_count >= :minItemCount "
+            + "      order by performance_no desc limit :runs) recent";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StepPerformanceHistory(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Step 성능 기록을 저장합니다.
+     *
+     * @param performance - 저장할 성능 기록입니다.
+     * @since 1.0.0
+     */
+    public void save(StepPerformance performance) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("jobName", performance.getJobName())
+            .addValue("stepName", performance.getStepName())
+            .addValue("jobExecutionId", performance.getJobExecutionId())
+            .addValue("stepExecutionId", performance.getStepExecutionId())
+            .addValue("itemCount", performance.getItemCount())
+            .addValue("durationMillis", performance.getDurationMillis())
+            .addValue("itemsPerSecond", performance.getItemsPerSecond())
+            .addValue("chunkCount", performance.getChunkCount())
+            .addValue("chunkP50Millis", performance.getChunkP50Millis())
+            .addValue("chunkP95Millis", performance.getChunkP95Millis())
+            .addValue("chunkP99Millis", performance.getChunkP99Millis())
+            .addValue("dbTimeRatio", performance.getDbTimeRatio())
+            .addValue("regression", performance.isRegression())
+            .addValue("createdAt", Timestamp.valueOf(performance.getCreatedAt()));
+
+        jdbcTemplate.update(INSERT, params);
+    }
+
+    /**
+     * 같은 Step 의 최근 기록 평균을 조회합니다. 처리한 데이터가 minItemCount 보다 적은 기록은 제외합니다.
+     *
+     * @param stepName     - Step 이름입니다.
+     * @param runs         - 평균에 사용할 최근 기록 수 입니다.
+     * @param minItemCount - 평균에 포함할 기록의 최소 처리 데이터 수 입니다.
+     * @return 기록이 없으면 빈 Optional 을 반환합니다.
+     * @since 1.0.0
+     */
+    public Optional<StepPerformanceBaseline> findBaseline(String stepName, int runs, long minItemCount) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("stepName", stepName)
+            .addValue("minItemCount", minItemCount)
+            .addValue("runs", runs);
+
+        StepPerformanceBaseline baseline = jdbcTemplate.queryForObject(SELECT_BASELINE, params, (rs, rowNum) -> {
+            double chunkP95Millis = rs.getDouble("chunk_p95_millis");
+            boolean noChunkP95 = rs.wasNull();
+            return new StepPerformanceBaseline(rs.getInt("runs"), rs.getDouble("items_per_second"),
+                                               noChunkP95 ? null : chunkP95Millis);
+        });
+
+        return Optional.ofNullable(baseline)
+                       .filter(b -> b.getRuns() > 0);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.marketgg.batch.preflight;
+
+/**
+ * Reader 쿼리의 실행 계획에 문제가 있을 때 Job 을 어떻게 처리할지 정하는 정책입니다.
+ *
+ * @version 1.0.0
+ */
+public enum PlanPolicy {
+
+    /**
+     * 실행 계획을 확인하지 않습니다.
+     */
+    IGNORE,
+
+    /**
+     * WARN 로그를 남기고 Job 을 그대로 실행합니다.
+     */
+    WARN,
+
+    /**
+     * Step 을 실행하지 않고 Job 을 실패시킵니다.
+     */
+    FAIL
+
+}
@@ -0,0 +1,143 @@
+package com.nhnacademy.marketgg.batch.preflight;
+
+import com.nhnacademy.marketgg.batch.config.QueryPlanProperties;
+import com.nhnacademy.marketgg.batch.exception.QueryPlanViolationException;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job 시작 전에 Reader 쿼리를 EXPLAIN 해서 큰 테이블의 full scan, filesort 를 찾습니다.
+ * 인덱스가 없으면 Job 이 몇 시간씩 걸리고 나서야 알 수 있으므로, Step 을 실행하기 전에 WARN 로그를 남기거나 Job 을 실패시킵니다.
+ *
+ * <p>EXPLAIN 결과 형식이 DB 마다 다르므로 MySQL(MariaDB) 에서만 확인하고, 다른 DB 에서는 확인하지 않습니다.
+ * 파생 테이블(&lt;derivedN&gt;)처럼 쿼리 안에서 만든 임시 결과는 인덱스를 만들 수 없으므로 확인하지 않습니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class QueryPlanVerifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryPlanProperties properties;
+    private final Map<String, ReaderQuery> readerQueries;
+    private Boolean supported;
+
+    public QueryPlanVerifier(DataSource dataSource, QueryPlanProperties properties,
+                             Map<String, ReaderQuery> readerQueries) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+        this.readerQueries = readerQueries;
+    }
+
+    /**
+     * Reader 쿼리의 실행 계획을 확인합니다.
+     * WARN 정책인 쿼리의 문제는 로그로 남기고, FAIL 정책인 쿼리에 문제가 있으면 예외를 던집니다.
+     * EXPLAIN 을 실행하지 못하면 Job 을 막지 않고 로그만 남깁니다.
+     *
+     * @param queryNames    - 확인할 Reader 쿼리 Bean 이름입니다. 등록되지 않은 이름은 건너뜁니다.
+     * @param jobParameters - 파라미터 값을 만들 Job Parameter 입니다.
+     * @throws QueryPlanViolationException - FAIL 정책인 쿼리에 문제가 있을 때 던집니다.
+     * @since 1.0.0
+     */
+    public void verify(List<String> queryNames, JobParameters jobParameters) {
+        if (!properties.isEnabled() || !isSupported()) {
+            return;
+        }
+
+        List<QueryPlanViolation> failures = new ArrayList<>();
+        for (String queryName : queryNames) {
+            ReaderQuery query = readerQueries.get(queryName);
+            if (query == null) {
+                continue;
+            }
+            PlanPolicy policy = properties.getPolicies().getOrDefault(queryName, query.getPolicy());
+            if (policy == PlanPolicy.IGNORE) {
+                continue;
+            }
+
+            List<QueryPlanViolation> violations;
+            try {
+                violations = explain(queryName, query, jobParameters);
+            } catch (DataAccessException | IllegalArgumentException e) {
+                log.warn("Reader 쿼리의 실행 계획을 확인하지 못했습니다. query={}", queryName, e);
+                continue;
+            }
+
+            for (QueryPlanViolation violation : violations) {
+                log.warn("Reader 쿼리가 인덱스를 사용하지 않습니다. {} policy={}", violation, policy);
+            }
+            if (policy == PlanPolicy.FAIL) {
+                failures.addAll(violations);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new QueryPlanViolationException(failures);
+        }
+    }
+
+    private List<QueryPlanViolation> explain(String queryName, ReaderQuery query, JobParameters jobParameters) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + query.getSql(),
+                                                                   query.getArguments().apply(jobParameters));
+
+        return violations(queryName, plan, properties.getLargeTableRows());
+    }
+
+    /**
+     * MySQL EXPLAIN 결과에서 큰 테이블의 full scan, filesort 를 찾습니다.
+     *
+     * @param queryName      - Reader 쿼리 이름입니다.
+     * @param plan           - EXPLAIN 결과 행입니다.
+     * @param largeTableRows - 이 값보다 적은 행을 읽는 테이블은 확인하지 않습니다.
+     * @return 찾은 실행 계획 문제를 반환합니다.
+     */
+    static List<QueryPlanViolation> violations(String queryName, List<Map<String, Object>> plan, long largeTableRows) {
+        List<QueryPlanViolation> violations = new ArrayList<>();
+        for (Map<String, Object> row : plan) {
+            String table = String.valueOf(row.get("table"));
+            long rows = row.get("rows") instanceof Number ? ((Number) row.get("rows")).longValue() : 0L;
+            if (table.startsWith("<") || rows < largeTableRows) {
+                continue;
+            }
+
+            if ("ALL".equals(row.get("type"))) {
+                violations.add(new QueryPlanViolation(queryName, table, QueryPlanViolation.FULL_SCAN, rows));
+            }
+            if (String.valueOf(row.get("Extra")).contains("Using filesort")) {
+                violations.add(new QueryPlanViolation(queryName, table, QueryPlanViolation.FILESORT, rows));
+            }
+        }
+
+        return violations;
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                                                                       DatabaseMetaData::getDatabaseProductName);
+                supported = "MySQL".equalsIgnoreCase(productName) || "MariaDB".equalsIgnoreCase(productName);
+            } catch (MetaDataAccessException e) {
+                log.warn("DB 종류를 확인하지 못해 Reader 쿼리의 실행 계획을 확인하지 않습니다.", e);
+                supported = false;
+            }
+            if (!supported) {
+                log.info("MySQL 이 아니므로 Reader 쿼리의 실행 계획을 확인하지 않습니다.");
+            }
+        }
+
+        return supported;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.marketgg.batch.preflight;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실행 계획에서 찾은 문제 하나입니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class QueryPlanViolation {
+
+    /**
+     * 인덱스 없이 테이블 전체를 읽습니다. (EXPLAIN type = ALL)
+     */
+    public static final String FULL_SCAN = "full scan";
+
+    /**
+     * 인덱스 순서로 읽지 못해 따로 정렬합니다. (EXPLAIN Extra = Using filesort)
+     */
+    public static final String FILESORT = "filesort";
+
+    private final String queryName;
+
+    private final String table;
+
+    private final String problem;
+
+    /**
+     * 옵티마이저가 예상한 읽을 행 수 입니다.
+     */
+    private final long rows;
+
+    @Override
+    public String toString() {
+        return queryName + ": " + problem + " on " + table + " (rows=" + rows + ")";
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.marketgg.batch.preflight;
+
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+/**
+ * Job 시작 전에 실행 계획을 확인할 Reader 쿼리입니다.
+ * Step 설정 클래스가 Reader 와 같은 쿼리로 Bean 을 등록하고, QueryPlanVerifier 가 Bean 이름으로 찾아 EXPLAIN 합니다.
+ * 실행 계획은 파라미터 값에 따라 달라지므로 실행할 Job 의 Job Parameter 로 파라미터 값을 만듭니다.
+ *
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReaderQuery {
+
+    private final String sql;
+    private final Function<JobParameters, Object[]> arguments;
+    private final PlanPolicy policy;
+
+    /**
+     * ? 로 파라미터를 표시한 쿼리입니다.
+     *
+     * @param sql       - Reader 가 실행하는 쿼리입니다.
+     * @param arguments - Job Parameter 로 ? 에 순서대로 넣을 값을 만듭니다.
+     * @param policy    - 설정(marketgg.batch.query-plan.policies)이 없을 때 사용할 정책입니다.
+     * @return Reader 쿼리를 반환합니다.
+     * @since 1.0.0
+     */
+    public static ReaderQuery of(String sql, Function<JobParameters, Object[]> arguments, PlanPolicy policy) {
+        return new ReaderQuery(sql, arguments, policy);
+    }
+
+    /**
+     * JdbcPagingItemReader 가 첫 페이지를 읽을 때 실행하는 쿼리입니다.
+     *
+     * @param queryProvider - Reader 에 설정한 PagingQueryProvider 입니다.
+     * @param pageSize      - Reader 의 페이지 크기입니다.
+     * @param parameters    - Job Parameter 로 Reader 의 parameterValues 와 같은 값을 만듭니다.
+     * @param policy        - 설정(marketgg.batch.query-plan.policies)이 없을 때 사용할 정책입니다.
+     * @return Reader 쿼리를 반환합니다.
+     * @since 1.0.0
+     */
+    public static ReaderQuery firstPage(PagingQueryProvider queryProvider, int pageSize,
+                                        Function<JobParameters, Map<String, Object>> parameters,
+                                        PlanPolicy policy) {
+
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(queryProvider.generateFirstPageQuery(pageSize));
+
+        return new ReaderQuery(NamedParameterUtils.substituteNamedParameters(parsedSql, null),
+                               jobParameters -> NamedParameterUtils.buildValueArray(
+                                   parsedSql, new MapSqlParameterSource(parameters.apply(jobParameters)), null),
+                               policy);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.nhnacademy.marketgg.batch.progress;
+
+import com.nhnacademy.marketgg.batch.domain.dto.JobProgressDto;
+import com.nhnacademy.marketgg.batch.domain.dto.StepProgressDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * 실행 중인 Job 하나의 진행 상황입니다.
+ * Job 의 진행률과 예상 종료 시각은 지금까지 시작된 Step 을 기준으로 계산합니다.
+ * 아직 시작되지 않은 Step 의 처리량은 앞 Step 의 결과에 따라 달라지므로 포함하지 않습니다.
+ *
+ * @version 1.0.0
+ */
+public class JobProgress {
+
+    private final Long jobExecutionId;
+    private final String jobName;
+    private final LocalDateTime startTime;
+    private final Map<String, StepProgress> steps = new ConcurrentHashMap<>();
+
+    private volatile BatchStatus status = BatchStatus.STARTED;
+    private volatile LocalDateTime endTime;
+
+    public JobProgress(Long jobExecutionId, String jobName, LocalDateTime startTime) {
+        this.jobExecutionId = jobExecutionId;
+        this.jobName = jobName;
+        this.startTime = startTime;
+    }
+
+    public Long getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    public void addStep(StepProgress stepProgress) {
+        steps.put(stepProgress.getStepName(), stepProgress);
+    }
+
+    public StepProgress getStep(String stepName) {
+        return steps.get(stepName);
+    }
+
+    public void finish(BatchStatus status, LocalDateTime endTime) {
+        this.status = status;
+        this.endTime = endTime;
+    }
+
+    public boolean isRunning() {
+        return endTime == null;
+    }
+
+    JobProgressDto toDto(LocalDateTime now, long nanos) {
+        List<StepProgressDto> stepDtos = steps.values()
+                                              .stream()
+                                              .map(step -> step.toDto(now, nanos))
+                                              .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                                              .collect(Collectors.toList());
+
+        boolean totalKnown = stepDtos.stream().allMatch(step -> step.getTotal() != StepProgress.UNKNOWN_TOTAL);
+        long total = totalKnown ? stepDtos.stream().mapToLong(StepProgressDto::getTotal).sum()
+            : StepProgress.UNKNOWN_TOTAL;
+        long processed = stepDtos.stream().mapToLong(StepProgressDto::getProcessed).sum();
+        double itemsPerSecond = stepDtos.stream()
+                                        .filter(step -> step.getStatus() == BatchStatus.STARTED)
+                                        .mapToDouble(StepProgressDto::getItemsPerSecond)
+                                        .sum();
+        if (!isRunning()) {
+            double seconds = Duration.between(startTime, endTime).toMillis() / 1000.0;
+            itemsPerSecond = seconds > 0 ? processed / seconds : 0.0;
+        }
+
+        // Split Flow 의 Step 은 동시에 실행되므로 가장 늦게 끝나는 Step 을 기준으로 합니다.
+        LocalDateTime estimatedEndTime = endTime;
+        if (isRunning()) {
+            List<LocalDateTime> runningEnds = stepDtos.stream()
+                                                      .filter(step -> step.getStatus() == BatchStatus.STARTED)
+                                                      .map(StepProgressDto::getEstimatedEndTime)
+                                                      .collect(Collectors.toList());
+            estimatedEndTime = runningEnds.isEmpty() || runningEnds.contains(null) ? null
+                : runningEnds.stream().filter(Objects::nonNull).max(LocalDateTime::compareTo).orElse(null);
+        }
+
+        return new JobProgressDto(jobExecutionId, jobName, status, total, processed,
+                                  StepProgress.percent(total, processed), itemsPerSecond, startTime,
+                                  estimatedEndTime, stepDtos);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.marketgg.batch.progress;
+
+import com.nhnacademy.marketgg.batch.domain.dto.JobProgressDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job, Step 진행 상황을 메모리에 보관하는 클래스입니다.
+ * Listener 가 Chunk Commit 시점에 값을 갱신하므로, 조회할 때 BATCH_* 메타데이터 테이블을 조회하지 않습니다.
+ * 종료된 Job 은 최근 {@value #FINISHED_JOBS_TO_KEEP} 개까지만 보관합니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class JobProgressRegistry {
+
+    private static final int FINISHED_JOBS_TO_KEEP = 10;
+
+    private final Map<Long, JobProgress> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Job 실행을 등록합니다.
+     *
+     * @param jobExecution - 시작하는 Job 의 실행 정보입니다.
+     * @since 1.0.0
+     */
+    public void jobStarted(JobExecution jobExecution) {
+        jobs.computeIfAbsent(jobExecution.getId(),
+                             id -> new JobProgress(id, jobExecution.getJobInstance().getJobName(),
+                                                   LocalDateTime.now()));
+    }
+
+    public void jobFinished(JobExecution jobExecution) {
+        JobProgress jobProgress = jobs.get(jobExecution.getId());
+        if (jobProgress != null) {
+            jobProgress.finish(jobExecution.getStatus(), LocalDateTime.now());
+        }
+        evictFinishedJobs();
+    }
+
+    /**
+     * Step 실행을 등록합니다. Job Listener 가 없는 Job 의 Step 이면 Job 도 함께 등록합니다.
+     *
+     * @param stepExecution - 시작하는 Step 의 실행 정보입니다.
+     * @return 등록한 Step 진행 상황을 반환합니다.
+     * @since 1.0.0
+     */
+    public StepProgress stepStarted(StepExecution stepExecution) {
+        jobStarted(stepExecution.getJobExecution());
+
+        StepProgress stepProgress = new StepProgress(stepExecution.getStepName(), LocalDateTime.now(),
+                                                     System.nanoTime());
+        jobs.get(stepExecution.getJobExecutionId()).addStep(stepProgress);
+        return stepProgress;
+    }
+
+    public void stepFinished(StepExecution stepExecution, StepProgress stepProgress) {
+        stepProgress.finish(stepExecution.getStatus(), processedCount(stepExecution), LocalDateTime.now());
+    }
+
+    /**
+     * Step 이 처리를 마친 데이터 수입니다. 저장, 필터링, 건너뛴 데이터를 모두 포함합니다.
+     *
+     * @param stepExecution - Step 의 실행 정보입니다.
+     * @return 처리를 마친 데이터 수를 반환합니다.
+     * @since 1.0.0
+     */
+    public static long processedCount(StepExecution stepExecution) {
+        return (long) stepExecution.getWriteCount() + stepExecution.getFilterCount() + stepExecution.getSkipCount();
+    }
+
+    /**
+     * 보관 중인 Job 의 진행 상황을 최근 시작한 순서로 조회합니다.
+     *
+     * @return Job 진행 상황 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    public List<JobProgressDto> findAll() {
+        LocalDateTime now = LocalDateTime.now();
+        long nanos = System.nanoTime();
+
+        return jobs.values()
+                   .stream()
+                   .map(job -> job.toDto(now, nanos))
+                   .sorted(Comparator.comparing(JobProgressDto::getJobExecutionId).reversed())
+                   .collect(Collectors.toList());
+    }
+
+    public Optional<JobProgressDto> find(Long jobExecutionId) {
+        return Optional.ofNullable(jobs.get(jobExecutionId))
+                       .map(job -> job.toDto(LocalDateTime.now(), System.nanoTime()));
+    }
+
+    private void evictFinishedJobs() {
+        List<Long> finished = new ArrayList<>();
+        jobs.forEach((id, job) -> {
+            if (!job.isRunning()) {
+                finished.add(id);
+            }
+        });
+
+        finished.sort(Comparator.reverseOrder());
+        finished.stream().skip(FINISHED_JOBS_TO_KEEP).forEach(jobs::remove);
+    }
+
+}
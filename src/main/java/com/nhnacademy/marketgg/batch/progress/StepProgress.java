@@ -0,0 +1,131 @@
+package com.nhnacademy.marketgg.batch.progress;
+
+import com.nhnacademy.marketgg.batch.domain.dto.StepProgressDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * 실행 중인 Step 하나의 진행 상황입니다.
+ * Chunk 가 Commit 될 때마다 처리한 데이터 수를 기록하고, 최근 구간의 처리 속도로 남은 시간을 계산합니다.
+ *
+ * @version 1.0.0
+ */
+public class StepProgress {
+
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    /**
+     * 현재 처리 속도를 계산할 때 사용하는 최근 구간의 길이입니다.
+     */
+    private static final long RATE_WINDOW_NANOS = Duration.ofSeconds(30L).toNanos();
+
+    private final String stepName;
+    private final LocalDateTime startTime;
+    private final long startNanos;
+    private final Deque<long[]> samples = new ArrayDeque<>();
+
+    private long total = UNKNOWN_TOTAL;
+    private long processed;
+    private BatchStatus status = BatchStatus.STARTED;
+    private LocalDateTime endTime;
+
+    public StepProgress(String stepName, LocalDateTime startTime, long startNanos) {
+        this.stepName = stepName;
+        this.startTime = startTime;
+        this.startNanos = startNanos;
+        this.samples.addLast(new long[] {startNanos, 0L});
+    }
+
+    public String getStepName() {
+        return stepName;
+    }
+
+    public synchronized void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Commit 된 Chunk 까지 처리한 데이터 수를 기록합니다.
+     *
+     * @param processed - Step 시작 후 처리를 마친(저장, 필터, 건너뛰기) 데이터 수입니다.
+     * @param nanos     - 기록 시점의 System.nanoTime() 값입니다.
+     * @since 1.0.0
+     */
+    public synchronized void update(long processed, long nanos) {
+        this.processed = processed;
+        samples.addLast(new long[] {nanos, processed});
+        while (samples.size() > 2 && nanos - samples.peekFirst()[0] > RATE_WINDOW_NANOS) {
+            samples.removeFirst();
+        }
+    }
+
+    public synchronized void finish(BatchStatus status, long processed, LocalDateTime endTime) {
+        this.status = status;
+        this.processed = processed;
+        this.endTime = endTime;
+    }
+
+    synchronized boolean isRunning() {
+        return endTime == null;
+    }
+
+    synchronized long getTotal() {
+        return total;
+    }
+
+    synchronized long getProcessed() {
+        return processed;
+    }
+
+    /**
+     * 최근 구간의 처리 속도(건/초)를 계산합니다. 종료된 Step 은 전체 평균 속도를 반환합니다.
+     */
+    synchronized double itemsPerSecond(long nanos) {
+        if (!isRunning()) {
+            double seconds = Duration.between(startTime, endTime).toMillis() / 1000.0;
+            return seconds > 0 ? processed / seconds : 0.0;
+        }
+
+        long[] oldest = samples.peekFirst();
+        double seconds = (nanos - oldest[0]) / 1_000_000_000.0;
+        return seconds > 0 ? (processed - oldest[1]) / seconds : 0.0;
+    }
+
+    /**
+     * 남은 데이터 수를 현재 처리 속도로 나누어 예상 종료 시각을 계산합니다.
+     *
+     * @return 예상 종료 시각을 반환하고, 전체 데이터 수나 처리 속도를 모르면 null 을 반환합니다.
+     */
+    synchronized LocalDateTime estimatedEndTime(LocalDateTime now, long nanos) {
+        if (!isRunning()) {
+            return endTime;
+        }
+
+        double rate = itemsPerSecond(nanos);
+        if (total == UNKNOWN_TOTAL || rate <= 0.0) {
+            return null;
+        }
+
+        long remaining = Math.max(total - processed, 0L);
+        return now.plusNanos((long) (remaining / rate * 1_000_000_000L));
+    }
+
+    synchronized StepProgressDto toDto(LocalDateTime now, long nanos) {
+        return new StepProgressDto(stepName, status, total, processed, percent(total, processed),
+                                   itemsPerSecond(nanos), startTime, estimatedEndTime(now, nanos));
+    }
+
+    static Double percent(long total, long processed) {
+        if (total == UNKNOWN_TOTAL) {
+            return null;
+        }
+        if (total == 0L) {
+            return 100.0;
+        }
+        return Math.min(processed * 100.0 / total, 100.0);
+    }
+
+}
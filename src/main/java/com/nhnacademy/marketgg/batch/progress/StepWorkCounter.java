@@ -0,0 +1,28 @@
+package com.nhnacademy.marketgg.batch.progress;
+
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * Step 이 처리할 전체 데이터 수를 Step 시작 시점에 한 번 계산합니다.
+ * 보통 Reader 와 같은 조건의 count 쿼리로 구현합니다.
+ *
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface StepWorkCounter {
+
+    /**
+     * 전체 데이터 수를 알 수 없는 Step 에 사용합니다.
+     */
+    StepWorkCounter UNKNOWN = stepExecution -> StepProgress.UNKNOWN_TOTAL;
+
+    /**
+     * Step 이 처리할 전체 데이터 수를 계산합니다.
+     *
+     * @param stepExecution - 시작하는 Step 의 실행 정보입니다. Job Parameter 를 조회할 수 있습니다.
+     * @return 전체 데이터 수를 반환합니다.
+     * @since 1.0.0
+     */
+    long count(StepExecution stepExecution);
+
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.marketgg.batch.promotion;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * batch_watermark 테이블에 Job 이 마지막으로 처리한 위치를 저장합니다.
+ * advance 는 호출한 트랜잭션에 참여하므로, Chunk 트랜잭션에서 호출하면 처리한 데이터와 함께 Commit 되거나 Rollback 됩니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+public class WatermarkStore {
+
+    private static final String SELECT_LAST_NO = "select last_no from batch_watermark where name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WatermarkStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 마지막으로 처리한 위치를 조회합니다. 처음이면 0 으로 등록합니다.
+     *
+     * @param name - Watermark 이름입니다.
+     * @return 마지막으로 처리한 번호를 반환합니다.
+     * @since 1.0.0
+     */
+    public long find(String name) {
+        return find(name, () -> 0L);
+    }
+
+    /**
+     * 마지막으로 처리한 위치를 조회합니다. 처음이면 initialNo 가 계산한 위치로 등록합니다.
+     *
+     * @param name      - Watermark 이름입니다.
+     * @param initialNo - 처음 실행할 때 시작 위치를 계산합니다. Watermark 가 있으면 호출하지 않습니다.
+     * @return 마지막으로 처리한 번호를 반환합니다.
+     * @since 1.0.0
+     */
+    public long find(String name, LongSupplier initialNo) {
+        List<Long> lastNo = jdbcTemplate.queryForList(SELECT_LAST_NO, Long.class, name);
+        if (!lastNo.isEmpty()) {
+            return lastNo.get(0);
+        }
+
+        jdbcTemplate.update("insert ignore into batch_watermark (name, last_no, updated_at) values (?, ?, now())",
+                            name, initialNo.getAsLong());
+        return jdbcTemplate.queryForObject(SELECT_LAST_NO, Long.class, name);
+    }
+
+    /**
+     * 마지막으로 처리한 위치를 앞으로 옮깁니다. 이미 더 앞에 있으면 바꾸지 않습니다.
+     *
+     * @param name   - Watermark 이름입니다.
+     * @param lastNo - 마지막으로 처리한 번호입니다.
+     * @since 1.0.0
+     */
+    public void advance(String name, long lastNo) {
+        jdbcTemplate.update("update batch_watermark set last_no = ?, updated_at = now() where name = ? and last_no < ?",
+                            lastNo, name, lastNo);
+    }
+
+}
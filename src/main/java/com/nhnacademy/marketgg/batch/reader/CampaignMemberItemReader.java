@@ -0,0 +1,84 @@
+package com.nhnacademy.marketgg.batch.reader;
+
+import com.nhnacademy.marketgg.batch.repository.member.MemberRepository;
+import com.querydsl.core.types.Predicate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+/**
+ * 회원 번호 구간에서 조건에 맞는 회원 번호를 Keyset 방식으로 읽는 Reader 입니다.
+ * 마지막으로 읽은 회원 번호를 ExecutionContext 에 저장하므로, 재시작하면 Commit 된 Chunk 다음 회원부터 읽습니다.
+ *
+ * @version 1.0.0
+ */
+public class CampaignMemberItemReader extends ItemStreamSupport implements ItemStreamReader<Long> {
+
+    private static final String LAST_MEMBER_NO = "lastMemberNo";
+
+    private final MemberRepository memberRepository;
+    private final Predicate predicate;
+    private final long minMemberNo;
+    private final long maxMemberNo;
+    private final int pageSize;
+
+    private final Deque<Long> page = new ArrayDeque<>();
+    private long lastFetched;
+    private long lastRead;
+    private boolean exhausted;
+
+    /**
+     * 회원 번호 구간을 읽는 Reader 를 만듭니다.
+     *
+     * @param memberRepository - 회원 번호를 조회할 Repository 입니다.
+     * @param predicate        - 회원 조회 조건입니다.
+     * @param minMemberNo      - 구간의 첫 회원 번호입니다.
+     * @param maxMemberNo      - 구간의 마지막 회원 번호입니다.
+     * @param pageSize         - 한 번에 조회하는 회원 수 입니다.
+     */
+    public CampaignMemberItemReader(MemberRepository memberRepository, Predicate predicate,
+                                    long minMemberNo, long maxMemberNo, int pageSize) {
+        this.memberRepository = memberRepository;
+        this.predicate = predicate;
+        this.minMemberNo = minMemberNo;
+        this.maxMemberNo = maxMemberNo;
+        this.pageSize = pageSize;
+        setName("campaignMemberReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String key = getExecutionContextKey(LAST_MEMBER_NO);
+        lastRead = executionContext.containsKey(key) ? executionContext.getLong(key) : minMemberNo - 1;
+        lastFetched = lastRead;
+        exhausted = false;
+        page.clear();
+    }
+
+    @Override
+    public Long read() {
+        if (page.isEmpty() && !exhausted) {
+            List<Long> memberNos = memberRepository.findMemberNos(predicate, lastFetched, maxMemberNo, pageSize);
+            page.addAll(memberNos);
+            exhausted = memberNos.size() < pageSize;
+            if (!memberNos.isEmpty()) {
+                lastFetched = memberNos.get(memberNos.size() - 1);
+            }
+        }
+
+        Long memberNo = page.poll();
+        if (memberNo != null) {
+            lastRead = memberNo;
+        }
+        return memberNo;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_MEMBER_NO), lastRead);
+    }
+
+}
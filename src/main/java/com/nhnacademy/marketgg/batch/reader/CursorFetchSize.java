@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.batch.reader;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * 큰 결과를 Cursor 로 읽는 JdbcTemplate 에 fetch size 를 적용하는 클래스입니다.
+ *
+ * <p>MySQL Connector/J 는 URL 에 useCursorFetch=true 가 없으면 양수 fetch size 를 무시하고 결과 전체를 드라이버 메모리에 읽습니다.
+ * Integer.MIN_VALUE(STREAMING) 이면 URL 설정과 관계없이 행 단위로 Streaming 하므로 기본값으로 사용합니다.
+ * 음수 fetch size 를 허용하지 않는 다른 DB(H2 등)에서는 STREAMING 대신 드라이버 기본값을 사용합니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public final class CursorFetchSize {
+
+    public static final int STREAMING = Integer.MIN_VALUE;
+
+    private CursorFetchSize() {
+    }
+
+    /**
+     * JdbcTemplate 의 DataSource 에 맞게 fetch size 를 적용합니다.
+     * MySQL 에 양수 fetch size 를 설정했는데 URL 에 useCursorFetch=true 가 없으면 적용되지 않으므로 경고를 남깁니다.
+     *
+     * @param jdbcTemplate - Cursor 로 조회할 JdbcTemplate 입니다.
+     * @param fetchSize    - 설정한 fetch size 입니다. STREAMING 이면 MySQL 에서 행 단위로 Streaming 합니다.
+     * @since 1.0.0
+     */
+    public static void apply(JdbcTemplate jdbcTemplate, int fetchSize) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        String[] database = findDatabase(dataSource);
+        boolean mysql = database[0].toLowerCase().contains("mysql") || database[0].toLowerCase().contains("mariadb");
+
+        if (fetchSize == STREAMING && !mysql) {
+            return;
+        }
+        if (mysql && fetchSize > 0 && !database[1].contains("useCursorFetch=true")) {
+            log.warn("URL 에 useCursorFetch=true 가 없어 fetch size({})가 적용되지 않고 결과 전체를 메모리에 읽습니다. "
+                         + "Streaming 하려면 fetch size 를 {} 로 설정합니다.", fetchSize, STREAMING);
+        }
+        jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    private static String[] findDatabase(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, (DatabaseMetaData metaData) -> new String[] {
+                metaData.getDatabaseProductName(), String.valueOf(metaData.getURL())});
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 정보를 조회하지 못해 드라이버 기본 fetch size 를 사용합니다: {}", e.getMessage());
+            return new String[] {"", ""};
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.marketgg.batch.reader;
+
+import com.nhnacademy.marketgg.batch.domain.dto.MemberDto;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 회원 번호 Bitmap 을 회원 번호 순서대로 읽는 Reader 입니다.
+ *
+ * @version 1.0.0
+ */
+public class MemberBitmapItemReader extends AbstractItemCountingItemStreamItemReader<MemberDto> {
+
+    private final Roaring64NavigableMap bitmap;
+
+    private LongIterator iterator;
+
+    public MemberBitmapItemReader(Roaring64NavigableMap bitmap) {
+        this.bitmap = bitmap;
+        setName("memberBitmapReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        iterator = bitmap.getLongIterator();
+    }
+
+    @Override
+    protected MemberDto doRead() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        MemberDto memberDto = new MemberDto();
+        memberDto.setMemberNo(iterator.next());
+        return memberDto;
+    }
+
+    @Override
+    protected void doClose() {
+        iterator = null;
+    }
+
+}
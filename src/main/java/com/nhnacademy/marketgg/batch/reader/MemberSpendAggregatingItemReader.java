@@ -0,0 +1,113 @@
+package com.nhnacademy.marketgg.batch.reader;
+
+import com.nhnacademy.marketgg.batch.aggregation.LongLongHashMap;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberPaymentDto;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 조회 기간의 주문을 한 번 순서대로 읽으면서 회원별 총 구매 금액을 애플리케이션에서 집계하는 Reader 입니다.
+ * DB 에 GROUP BY 를 맡기고 Page 마다 다시 조회하는 대신, 주문 행을 Forward-only Cursor 로 한 번만 읽어
+ * LongLongHashMap 에 누적하고 회원 번호 순으로 반환합니다.
+ *
+ * <p>집계 결과는 회원당 long 두 개(16 byte)로 보관합니다.
+ * 재시작하면 같은 기간을 다시 집계한 뒤 이미 처리한 회원 수만큼 건너뜁니다.</p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class MemberSpendAggregatingItemReader extends AbstractItemCountingItemStreamItemReader<MemberPaymentDto> {
+
+    public static final String SELECT_ORDERS =
+        "select member_no, total_amount from orders where created_at >= ? and created_at < ?";
+
+    private static final int EXPECTED_MEMBERS = 1 << 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private long[] memberNos;
+    private long[] totalAmounts;
+    private int count;
+    private int next;
+
+    /**
+     * @param dataSource - 주문을 조회할 DataSource 입니다.
+     * @param startDate  - 조회 시작일(포함) 입니다.
+     * @param endDate    - 조회 종료일(미포함) 입니다.
+     * @param fetchSize  - Cursor 가 한 번에 가져오는 행 수 입니다. CursorFetchSize.STREAMING 이면 MySQL 에서 행 단위로 Streaming 합니다.
+     */
+    public MemberSpendAggregatingItemReader(DataSource dataSource, LocalDate startDate, LocalDate endDate,
+                                            int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.fetchSize = fetchSize;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        setName("memberSpendAggregatingReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        long start = System.nanoTime();
+        LongLongHashMap totals = new LongLongHashMap(EXPECTED_MEMBERS);
+        long[] rows = new long[1];
+
+        CursorFetchSize.apply(jdbcTemplate, fetchSize);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ORDERS, ResultSet.TYPE_FORWARD_ONLY,
+                                                               ResultSet.CONCUR_READ_ONLY);
+            ps.setTimestamp(1, Timestamp.valueOf(startDate.atStartOfDay()));
+            ps.setTimestamp(2, Timestamp.valueOf(endDate.atStartOfDay()));
+            return ps;
+        }, rs -> {
+            totals.addTo(rs.getLong(1), rs.getLong(2));
+            rows[0]++;
+        });
+
+        count = totals.size();
+        memberNos = new long[count];
+        totalAmounts = new long[count];
+        totals.copySorted(memberNos, totalAmounts);
+        next = 0;
+
+        log.info("주문 {} 건을 회원 {} 명으로 집계했습니다. ({} ms)", rows[0], count, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    @Override
+    protected MemberPaymentDto doRead() {
+        if (next >= count) {
+            return null;
+        }
+
+        MemberPaymentDto memberPaymentDto = new MemberPaymentDto();
+        memberPaymentDto.setMemberNo(memberNos[next]);
+        memberPaymentDto.setTotalAmount(totalAmounts[next]);
+        next++;
+        return memberPaymentDto;
+    }
+
+    /**
+     * 집계 결과는 배열이므로 재시작 위치까지 읽지 않고 바로 이동합니다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        next = Math.min(itemIndex, count);
+    }
+
+    @Override
+    protected void doClose() {
+        memberNos = null;
+        totalAmounts = null;
+        count = 0;
+        next = 0;
+    }
+
+}
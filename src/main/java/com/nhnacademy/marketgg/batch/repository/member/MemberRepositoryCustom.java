@@ -1,12 +1,33 @@
 package com.nhnacademy.marketgg.batch.repository.member;
 
-import com.nhnacademy.marketgg.batch.domain.entity.Member;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberNoRangeDto;
+import com.querydsl.core.types.Predicate;
 import java.util.List;
 import org.springframework.data.repository.NoRepositoryBean;
 
 @NoRepositoryBean
 public interface MemberRepositoryCustom {
 
-    List<Member> findAllMembersByBirthday(String birthday);
+    /**
+     * 조건에 맞는 회원 번호의 최소값, 최대값을 조회합니다.
+     *
+     * @param predicate - 회원 조회 조건입니다.
+     * @return 회원 번호 범위를 반환합니다.
+     * @since 1.0.0
+     */
+    MemberNoRangeDto findMemberNoRange(Predicate predicate);
+
+    /**
+     * 조건에 맞는 회원 번호를 afterMemberNo 다음부터 회원 번호 순으로 limit 개 조회합니다.
+     * OFFSET 대신 마지막으로 읽은 회원 번호로 다음 페이지를 조회하므로 뒤쪽 페이지도 PK 인덱스로 바로 찾습니다.
+     *
+     * @param predicate     - 회원 조회 조건입니다.
+     * @param afterMemberNo - 이 회원 번호보다 큰 회원부터 조회합니다.
+     * @param lastMemberNo  - 이 회원 번호까지 조회합니다.
+     * @param limit         - 최대 조회 수 입니다.
+     * @return 회원 번호 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    List<Long> findMemberNos(Predicate predicate, long afterMemberNo, long lastMemberNo, int limit);
 
 }
@@ -1,10 +1,10 @@
 package com.nhnacademy.marketgg.batch.repository.member;
 
+import com.nhnacademy.marketgg.batch.domain.dto.MemberNoRangeDto;
 import com.nhnacademy.marketgg.batch.domain.entity.Member;
 import com.nhnacademy.marketgg.batch.domain.entity.QMember;
-import com.querydsl.core.types.ConstantImpl;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringTemplate;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import java.util.List;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
@@ -17,13 +17,21 @@ public class MemberRepositoryImpl extends QuerydslRepositorySupport implements M
     QMember member = QMember.member;
 
     @Override
-    public List<Member> findAllMembersByBirthday(String birthday) {
-
-        StringTemplate dateFormat
-            = Expressions.stringTemplate("DATE_FORMAT({0}, {1})", member.birthDate, ConstantImpl.create("%m-%d"));
+    public MemberNoRangeDto findMemberNoRange(Predicate predicate) {
+        return from(member)
+            .select(Projections.constructor(MemberNoRangeDto.class, member.id.min(), member.id.max()))
+            .where(predicate)
+            .fetchOne();
+    }
 
+    @Override
+    public List<Long> findMemberNos(Predicate predicate, long afterMemberNo, long lastMemberNo, int limit) {
         return from(member)
-            .where(dateFormat.eq(birthday))
+            .select(member.id)
+            .where(predicate, member.id.gt(afterMemberNo), member.id.loe(lastMemberNo))
+            .orderBy(member.id.asc())
+            .limit(limit)
             .fetch();
     }
+
 }
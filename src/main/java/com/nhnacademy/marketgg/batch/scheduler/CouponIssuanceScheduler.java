@@ -1,53 +1,43 @@
 package com.nhnacademy.marketgg.batch.scheduler;
 
-import static com.nhnacademy.marketgg.batch.domain.constant.CouponName.BIRTHDAY;
-
-import com.nhnacademy.marketgg.batch.config.BatchJobConfig;
-import com.nhnacademy.marketgg.batch.domain.entity.Coupon;
-import com.nhnacademy.marketgg.batch.domain.entity.GivenCoupon;
-import com.nhnacademy.marketgg.batch.domain.entity.Member;
-import com.nhnacademy.marketgg.batch.exception.CouponNotFoundException;
-import com.nhnacademy.marketgg.batch.repository.coupon.CouponRepository;
-import com.nhnacademy.marketgg.batch.repository.givencoupon.GivenCouponRepository;
-import com.nhnacademy.marketgg.batch.repository.member.MemberRepository;
+import com.nhnacademy.marketgg.batch.config.GradePromotionProperties;
+import com.nhnacademy.marketgg.batch.dispatch.JobDispatcher;
+import com.nhnacademy.marketgg.batch.exception.JobLockedException;
+import com.nhnacademy.marketgg.batch.launcher.JobParametersFactory;
+import com.nhnacademy.marketgg.batch.launcher.RunOnceJobRunner;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 생일 쿠폰 발급과 매월 회원 등급 관리에 관한 Scheduler 를 설정한 클래스입니다.
+ * 단발성 실행(run-once) 모드에서는 등록되지 않습니다.
+ * Job 은 JobDispatcher 의 대기열을 거쳐 실행됩니다.
+ * 여러 인스턴스를 띄워도 JobDispatcher 가 실행을 시작할 때 Job 별 잠금을 얻은 하나의 인스턴스만 Job 을 실행합니다.
  *
  * @author 민아영
  * @version 1.0.0
  */
 @Slf4j
+@Profile("!" + RunOnceJobRunner.PROFILE)
 @Component
 @RequiredArgsConstructor
 public class CouponIssuanceScheduler {
 
-    private final JobLauncher jobLauncher;
-    private final BatchJobConfig jobConfig;
-
-    private final CouponRepository couponRepository;
-    private final MemberRepository memberRepository;
-    private final GivenCouponRepository givenCouponRepository;
+    private final JobDispatcher jobDispatcher;
+    private final JobParametersFactory jobParametersFactory;
+    private final GradePromotionProperties gradePromotionProperties;
 
     /**
-     * 매일 자정에 생일인 회원을 조회하여 생일 쿠픈을 지급하는 메소드입니다.
+     * 매일 자정에 생일인 회원을 조회하여 생일 쿠픈을 지급하는 Batch Job 을 실행하는 Scheduler 입니다.
      *
      * @author 민아영
      * @since 1.0.0
@@ -57,17 +47,9 @@ public class CouponIssuanceScheduler {
     public void scheduleBirthdayCoupon() {
         log.info("생일 쿠폰 스케줄러 시작 시간: {}", LocalDateTime.now());
 
-        Coupon birthdayCoupon = couponRepository.findCouponByName(BIRTHDAY.couponName())
-                                                .orElseThrow(CouponNotFoundException::new);
-
-        String todayDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("MM-dd"));
-        List<Member> members = memberRepository.findAllMembersByBirthday(todayDate);
+        JobParameters jobParameters = jobParametersFactory.birthdayCouponJobParameters(LocalDate.now());
+        run(JobParametersFactory.BIRTHDAY_COUPON_JOB, jobParameters);
 
-        for (Member member : members) {
-            log.info("오늘 생일인 회원: {}", member);
-            GivenCoupon givenCoupon = new GivenCoupon(birthdayCoupon, member);
-            givenCouponRepository.save(givenCoupon);
-        }
         log.info("스케줄러 끝 시간: {}", LocalDateTime.now());
     }
 
@@ -82,26 +64,42 @@ public class CouponIssuanceScheduler {
     public void scheduleMemberGradeCoupon() {
         log.info("등급 쿠폰 스케줄러 시작 시간: {}", LocalDateTime.now());
 
-        LocalDate previousMonth = LocalDate.now().minusMonths(1L);
-        LocalDate startOfDay = previousMonth.withDayOfMonth(1).atStartOfDay().toLocalDate();
-        LocalDate endOfDay = LocalDate.now().withDayOfMonth(1).atStartOfDay().toLocalDate();
+        JobParameters jobParameters = jobParametersFactory.memberGradeJobParameters(LocalDate.now());
+        run(JobParametersFactory.MEMBER_GRADE_JOB, jobParameters);
 
-        JobParameters jobParameters =
-            new JobParametersBuilder()
-                .addString("startDate", startOfDay.format(DateTimeFormatter.ISO_DATE))
-                .addString("endDate", endOfDay.format(DateTimeFormatter.ISO_DATE))
-                .toJobParameters();
+        log.info("등급 쿠폰 스케줄러 끝 시간: {}", LocalDateTime.now());
+    }
 
-        Job job = jobConfig.memberGradeJob();
+    /**
+     * 새 주문으로 이번 달 구매 금액이 기준을 넘은 회원을 승급시키는 Batch Job 을 실행하는 Scheduler 입니다.
+     * 매월 등급 갱신 Job 이 모든 회원의 등급을 초기화하는 동안 승급하면 승급이 사라지므로, 두 Job 은 같은 잠금 이름(memberGradeJob)을 사용합니다.
+     * 승급 Job 이 자정을 넘겨 실행되면, 승급 Job 을 실행하는 인스턴스의 등급 갱신 Job 이 대기열에서 기다렸다가 이어서 실행됩니다.
+     *
+     * @since 1.0.0
+     */
+    @Async
+    @Scheduled(cron = "${marketgg.batch.grade-promotion.cron:0 30 * * * *}", zone = "Asia/Seoul")
+    public void scheduleGradePromotion() {
+        if (!gradePromotionProperties.isEnabled()) {
+            return;
+        }
+
+        JobParameters jobParameters = jobParametersFactory.gradePromotionJobParameters(LocalDateTime.now());
+        run(JobParametersFactory.GRADE_PROMOTION_JOB, jobParameters);
+    }
 
+    private void run(String jobName, JobParameters jobParameters) {
         try {
-            jobLauncher.run(job, jobParameters);
-        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException
-                 | JobParametersInvalidException | JobRestartException e) {
+            jobDispatcher.submit(jobName, jobParameters).getFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JobLockedException) {
+                log.info(e.getCause().getMessage());
+                return;
+            }
+            log.error(e.getMessage());
+        } catch (NoSuchJobException | IllegalStateException e) {
             log.error(e.getMessage());
         }
-
-        log.info("등급 쿠폰 스케줄러 끝 시간: {}", LocalDateTime.now());
     }
 
 }
@@ -0,0 +1,126 @@
+package com.nhnacademy.marketgg.batch.snapshot;
+
+import com.nhnacademy.marketgg.batch.exception.InvalidGradeSnapshotException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+/**
+ * 회원 등급 스냅샷 파일을 Memory Map 으로 읽어 회원 번호로 등급을 조회하는 클래스입니다.
+ * 레코드가 회원 번호 순으로 정렬되어 있으므로 이진 탐색으로 조회하며, 조회할 때 객체를 만들지 않습니다.
+ * 파일을 연 뒤에는 읽기만 하므로 여러 Thread 에서 함께 사용할 수 있습니다.
+ *
+ * @version 1.0.0
+ */
+public final class GradeSnapshot {
+
+    /**
+     * 스냅샷에 회원이 없을 때 반환하는 값입니다.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private final ByteBuffer records;
+    private final int size;
+    private final long createdAt;
+
+    private GradeSnapshot(ByteBuffer records, int size, long createdAt) {
+        this.records = records;
+        this.size = size;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 스냅샷 파일을 Memory Map 으로 열고 Header 와 Checksum 을 검증합니다.
+     *
+     * @param file - 스냅샷 파일 경로입니다.
+     * @return 조회에 사용할 스냅샷을 반환합니다.
+     * @throws IOException - 파일을 읽을 수 없을 때 발생합니다.
+     * @throws InvalidGradeSnapshotException - 파일 형식이나 Checksum 이 맞지 않을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public static GradeSnapshot open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < GradeSnapshotFormat.HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new InvalidGradeSnapshotException("파일 크기 " + fileSize);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, fileSize);
+        }
+
+        if (buffer.getInt(0) != GradeSnapshotFormat.MAGIC) {
+            throw new InvalidGradeSnapshotException("MAGIC 불일치");
+        }
+        if (buffer.getShort(4) != GradeSnapshotFormat.VERSION
+            || buffer.getShort(6) != GradeSnapshotFormat.RECORD_SIZE) {
+            throw new InvalidGradeSnapshotException("지원하지 않는 버전 " + buffer.getShort(4));
+        }
+
+        long count = buffer.getLong(GradeSnapshotFormat.RECORD_COUNT_OFFSET);
+        if (count < 0 || GradeSnapshotFormat.HEADER_SIZE + count * GradeSnapshotFormat.RECORD_SIZE != buffer.capacity()) {
+            throw new InvalidGradeSnapshotException("레코드 수 " + count + " 와 파일 크기가 맞지 않습니다.");
+        }
+
+        ByteBuffer records = buffer.position(GradeSnapshotFormat.HEADER_SIZE).slice();
+        CRC32 crc = new CRC32();
+        crc.update(records.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(GradeSnapshotFormat.CHECKSUM_OFFSET)) {
+            throw new InvalidGradeSnapshotException("Checksum 불일치");
+        }
+
+        return new GradeSnapshot(records, (int) count, buffer.getLong(GradeSnapshotFormat.CREATED_AT_OFFSET));
+    }
+
+    /**
+     * 회원의 등급 번호를 조회합니다.
+     *
+     * @param memberNo - 회원 번호입니다.
+     * @return 회원 등급 번호를 반환하고, 스냅샷에 없는 회원이면 NOT_FOUND 를 반환합니다.
+     * @since 1.0.0
+     */
+    public int gradeOf(long memberNo) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midMemberNo = records.getLong(mid * GradeSnapshotFormat.RECORD_SIZE);
+
+            if (midMemberNo < memberNo) {
+                low = mid + 1;
+            } else if (midMemberNo > memberNo) {
+                high = mid - 1;
+            } else {
+                return records.getInt(mid * GradeSnapshotFormat.RECORD_SIZE + Long.BYTES);
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * 스냅샷에 저장된 회원 수를 반환합니다.
+     *
+     * @return 회원 수를 반환합니다.
+     * @since 1.0.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 스냅샷을 만든 시각을 반환합니다.
+     *
+     * @return 스냅샷 생성 시각을 반환합니다.
+     * @since 1.0.0
+     */
+    public Instant createdAt() {
+        return Instant.ofEpochMilli(createdAt);
+    }
+
+}
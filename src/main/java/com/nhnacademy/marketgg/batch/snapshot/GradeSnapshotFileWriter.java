@@ -0,0 +1,116 @@
+package com.nhnacademy.marketgg.batch.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 회원 번호 순으로 정렬된 회원 등급을 스냅샷 파일 형식(GradeSnapshotFormat)으로 저장하는 클래스입니다.
+ * 같은 디렉토리의 임시 파일에 레코드를 쓰고, publish 에서 Header 와 Checksum 을 기록한 뒤 대상 파일로 원자적으로 교체합니다.
+ * publish 전에 close 하면 임시 파일을 삭제하므로 기존 스냅샷 파일은 그대로 남습니다.
+ *
+ * @version 1.0.0
+ */
+public class GradeSnapshotFileWriter implements AutoCloseable {
+
+    private static final int BUFFER_RECORDS = 4096;
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(GradeSnapshotFormat.RECORD_SIZE * BUFFER_RECORDS);
+    private final CRC32 crc = new CRC32();
+
+    private long count;
+    private long lastMemberNo = Long.MIN_VALUE;
+    private boolean published;
+
+    /**
+     * 대상 파일과 같은 디렉토리에 임시 파일을 만듭니다.
+     *
+     * @param target - 스냅샷 파일 경로입니다.
+     * @throws IOException - 임시 파일을 만들지 못했을 때 발생합니다.
+     */
+    public GradeSnapshotFileWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        Files.createDirectories(this.target.getParent());
+        this.temp = Files.createTempFile(this.target.getParent(), this.target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+        this.channel.position(GradeSnapshotFormat.HEADER_SIZE);
+    }
+
+    /**
+     * 회원 등급 레코드를 추가합니다. 회원 번호는 이전 레코드보다 커야 합니다.
+     *
+     * @param memberNo - 회원 번호입니다.
+     * @param gradeNo  - 회원 등급 번호입니다.
+     * @throws IOException - 임시 파일에 쓰지 못했을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public void append(long memberNo, int gradeNo) throws IOException {
+        if (memberNo <= lastMemberNo) {
+            throw new IllegalStateException("회원 번호가 오름차순이 아닙니다: " + lastMemberNo + " 다음 " + memberNo);
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+
+        buffer.putLong(memberNo).putInt(gradeNo);
+        lastMemberNo = memberNo;
+        count++;
+    }
+
+    /**
+     * Header 를 기록하고 임시 파일을 스냅샷 파일로 교체합니다.
+     *
+     * @return 저장한 레코드 수를 반환합니다.
+     * @throws IOException - 파일을 쓰거나 교체하지 못했을 때 발생합니다.
+     * @since 1.0.0
+     */
+    public long publish() throws IOException {
+        flush();
+
+        ByteBuffer header = ByteBuffer.allocate(GradeSnapshotFormat.HEADER_SIZE);
+        header.putInt(GradeSnapshotFormat.MAGIC)
+              .putShort(GradeSnapshotFormat.VERSION)
+              .putShort((short) GradeSnapshotFormat.RECORD_SIZE)
+              .putLong(count)
+              .putLong(System.currentTimeMillis())
+              .putInt((int) crc.getValue())
+              .putInt(0)
+              .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        published = true;
+
+        return count;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (!published) {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.marketgg.batch.snapshot;
+
+/**
+ * 회원 등급 스냅샷 파일 형식입니다. 모든 값은 Big Endian 으로 기록합니다.
+ *
+ * <pre>
+ * Header (32 byte)
+ *   0  int   MAGIC ("MGGS")
+ *   4  short VERSION
+ *   6  short RECORD_SIZE
+ *   8  long  레코드 수
+ *  16  long  생성 시각 (epoch millis)
+ *  24  int   레코드 영역의 CRC32
+ *  28  int   예약 (0)
+ * Record (12 byte, 회원 번호 오름차순)
+ *   0  long  회원 번호
+ *   8  int   회원 등급 번호
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class GradeSnapshotFormat {
+
+    public static final int MAGIC = 0x4D474753;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = Long.BYTES + Integer.BYTES;
+
+    static final int RECORD_COUNT_OFFSET = 8;
+    static final int CREATED_AT_OFFSET = 16;
+    static final int CHECKSUM_OFFSET = 24;
+
+    private GradeSnapshotFormat() {
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.nhnacademy.marketgg.batch.throttle;
+
+import com.nhnacademy.marketgg.batch.domain.dto.StepThrottleDto;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Step 하나의 쓰기 속도 제한입니다. 초당 데이터 수와 초당 Chunk 수를 각각 Token Bucket 으로 제한합니다.
+ * Commit 지연 시간 기준이 있으면 기준을 넘을 때마다 제한 비율을 절반으로 줄이고, 기준 이내이면 10% 씩 되돌립니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class StepThrottle {
+
+    private static final double RECOVERY_STEP = 0.1D;
+
+    private final String stepName;
+    private final TokenBucket rows;
+    private final TokenBucket chunks;
+    private final Duration commitLatencyThreshold;
+    private final double minRateRatio;
+
+    private double rowsPerSecond;
+    private double chunksPerSecond;
+    private double rateRatio = 1D;
+
+    /**
+     * Step 의 쓰기 속도 제한을 만듭니다.
+     *
+     * @param stepName               - Step 이름입니다.
+     * @param rowsPerSecond          - 초당 저장하는 최대 데이터 수 입니다. 0 이면 제한하지 않습니다.
+     * @param chunksPerSecond        - 초당 처리하는 최대 Chunk 수 입니다. 0 이면 제한하지 않습니다.
+     * @param commitLatencyThreshold - 자동 조절 기준 Commit 지연 시간입니다. null 이면 자동으로 조절하지 않습니다.
+     * @param minRateRatio           - 자동 조절로 줄어들 수 있는 최소 비율입니다.
+     */
+    public StepThrottle(String stepName, double rowsPerSecond, double chunksPerSecond,
+                        Duration commitLatencyThreshold, double minRateRatio) {
+        long now = System.nanoTime();
+        this.stepName = stepName;
+        this.rowsPerSecond = rowsPerSecond;
+        this.chunksPerSecond = chunksPerSecond;
+        this.rows = new TokenBucket(rowsPerSecond, now);
+        this.chunks = new TokenBucket(chunksPerSecond, now);
+        this.commitLatencyThreshold = commitLatencyThreshold;
+        this.minRateRatio = minRateRatio;
+    }
+
+    public void acquireChunk() {
+        chunks.acquire(1);
+    }
+
+    public void acquireRows(int count) {
+        rows.acquire(count);
+    }
+
+    /**
+     * 설정한 제한 속도를 바꿉니다. 자동 조절 비율은 처음부터 다시 시작합니다.
+     *
+     * @param rowsPerSecond   - 초당 저장하는 최대 데이터 수 입니다. 0 이면 제한하지 않습니다.
+     * @param chunksPerSecond - 초당 처리하는 최대 Chunk 수 입니다. 0 이면 제한하지 않습니다.
+     * @since 1.0.0
+     */
+    public synchronized void setLimit(double rowsPerSecond, double chunksPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+        this.chunksPerSecond = chunksPerSecond;
+        this.rateRatio = 1D;
+        apply();
+    }
+
+    /**
+     * Chunk 저장이 끝난 뒤 Commit 까지 걸린 시간으로 제한 비율을 조절합니다.
+     *
+     * @param latencyNanos - Commit 지연 시간(ns) 입니다.
+     * @since 1.0.0
+     */
+    public synchronized void recordCommitLatency(long latencyNanos) {
+        if (commitLatencyThreshold == null) {
+            return;
+        }
+
+        double previous = rateRatio;
+        if (latencyNanos > commitLatencyThreshold.toNanos()) {
+            rateRatio = Math.max(minRateRatio, rateRatio / 2);
+        } else {
+            rateRatio = Math.min(1D, rateRatio + RECOVERY_STEP);
+        }
+
+        if (rateRatio != previous) {
+            if (rateRatio < previous) {
+                log.info("{} 의 Commit 지연 시간 {}ms 가 기준을 넘어 쓰기 속도를 {}% 로 줄입니다.",
+                         stepName, latencyNanos / 1_000_000, Math.round(rateRatio * 100));
+            }
+            apply();
+        }
+    }
+
+    /**
+     * 현재 제한 상태를 응답 DTO 로 변환합니다.
+     *
+     * @return Step 쓰기 속도 제한 DTO 를 반환합니다.
+     * @since 1.0.0
+     */
+    public synchronized StepThrottleDto toDto() {
+        return new StepThrottleDto(stepName, rowsPerSecond, chunksPerSecond, rateRatio);
+    }
+
+    private void apply() {
+        long now = System.nanoTime();
+        rows.setRate(rowsPerSecond * rateRatio, now);
+        chunks.setRate(chunksPerSecond * rateRatio, now);
+    }
+
+}
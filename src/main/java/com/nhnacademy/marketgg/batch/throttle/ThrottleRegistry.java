@@ -0,0 +1,74 @@
+package com.nhnacademy.marketgg.batch.throttle;
+
+import com.nhnacademy.marketgg.batch.config.ThrottleProperties;
+import com.nhnacademy.marketgg.batch.domain.dto.StepThrottleDto;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step 이름별 쓰기 속도 제한을 보관하는 클래스입니다.
+ * 처음 사용할 때 설정값으로 만들고, 이후에는 실행 중인 Step 에도 바뀐 제한이 바로 적용됩니다.
+ *
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ThrottleRegistry {
+
+    private final ThrottleProperties properties;
+    private final Map<String, StepThrottle> throttles = new ConcurrentHashMap<>();
+
+    /**
+     * Step 의 쓰기 속도 제한을 조회합니다.
+     *
+     * @param stepName - Step 이름입니다.
+     * @return Step 의 쓰기 속도 제한을 반환합니다.
+     * @since 1.0.0
+     */
+    public StepThrottle get(String stepName) {
+        return throttles.computeIfAbsent(stepName, this::create);
+    }
+
+    /**
+     * Step 의 쓰기 속도 제한을 바꿉니다.
+     *
+     * @param stepName        - Step 이름입니다.
+     * @param rowsPerSecond   - 초당 저장하는 최대 데이터 수 입니다. 0 이면 제한하지 않습니다.
+     * @param chunksPerSecond - 초당 처리하는 최대 Chunk 수 입니다. 0 이면 제한하지 않습니다.
+     * @return 바뀐 쓰기 속도 제한을 반환합니다.
+     * @since 1.0.0
+     */
+    public StepThrottleDto update(String stepName, double rowsPerSecond, double chunksPerSecond) {
+        StepThrottle throttle = get(stepName);
+        throttle.setLimit(rowsPerSecond, chunksPerSecond);
+
+        return throttle.toDto();
+    }
+
+    /**
+     * 지금까지 사용했거나 바꾼 모든 Step 의 쓰기 속도 제한을 조회합니다.
+     *
+     * @return Step 이름 순으로 정렬한 쓰기 속도 제한 목록을 반환합니다.
+     * @since 1.0.0
+     */
+    public List<StepThrottleDto> findAll() {
+        return throttles.values()
+                        .stream()
+                        .map(StepThrottle::toDto)
+                        .sorted(Comparator.comparing(StepThrottleDto::getStepName))
+                        .collect(Collectors.toList());
+    }
+
+    private StepThrottle create(String stepName) {
+        ThrottleProperties.Limit limit = properties.getSteps().getOrDefault(stepName, properties.getDefaults());
+
+        return new StepThrottle(stepName, limit.getRowsPerSecond(), limit.getChunksPerSecond(),
+                                properties.getCommitLatencyThreshold(), properties.getMinRateRatio());
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.nhnacademy.marketgg.batch.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량만큼 Token 이 채워지는 Token Bucket 입니다. 최대 1초 분량까지 모아 둘 수 있습니다.
+ * Token 보다 많이 요청하면 부족한 만큼 미리 빌려 쓰고, 빌린 Token 이 다시 채워질 때까지 기다립니다.
+ * 그래서 Chunk 크기가 초당 허용량보다 커도 평균 속도는 허용량을 넘지 않습니다.
+ *
+ * @version 1.0.0
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    private double ratePerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * 초당 허용량으로 Token Bucket 을 만듭니다.
+     *
+     * @param ratePerSecond - 초당 허용량입니다. 0 이하이면 제한하지 않습니다.
+     * @param nowNanos      - 현재 시각(System.nanoTime) 입니다.
+     */
+    public TokenBucket(double ratePerSecond, long nowNanos) {
+        this.ratePerSecond = ratePerSecond;
+        this.tokens = Math.max(ratePerSecond, 0D);
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Token 을 가져가고, 부족하면 채워질 때까지 기다립니다.
+     * 기다리는 중 Interrupt 되면 기다리지 않고 돌아가며 Interrupt 상태는 유지합니다.
+     *
+     * @param permits - 가져갈 Token 수 입니다.
+     * @since 1.0.0
+     */
+    public void acquire(int permits) {
+        long waitNanos = reserve(permits, System.nanoTime());
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Token 을 가져가고 기다려야 하는 시간을 계산합니다.
+     *
+     * @param permits  - 가져갈 Token 수 입니다.
+     * @param nowNanos - 현재 시각(System.nanoTime) 입니다.
+     * @return 기다려야 하는 시간(ns)을 반환합니다.
+     * @since 1.0.0
+     */
+    public synchronized long reserve(int permits, long nowNanos) {
+        if (ratePerSecond <= 0) {
+            return 0L;
+        }
+
+        refill(nowNanos);
+        tokens -= permits;
+
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / ratePerSecond * NANOS_PER_SECOND);
+    }
+
+    /**
+     * 초당 허용량을 바꿉니다. 이미 빌려 쓴 Token 은 유지합니다.
+     *
+     * @param ratePerSecond - 초당 허용량입니다. 0 이하이면 제한하지 않습니다.
+     * @param nowNanos      - 현재 시각(System.nanoTime) 입니다.
+     * @since 1.0.0
+     */
+    public synchronized void setRate(double ratePerSecond, long nowNanos) {
+        refill(nowNanos);
+        this.ratePerSecond = ratePerSecond;
+        this.tokens = Math.min(tokens, Math.max(ratePerSecond, 0D));
+    }
+
+    public synchronized double getRate() {
+        return ratePerSecond;
+    }
+
+    private void refill(long nowNanos) {
+        if (ratePerSecond > 0) {
+            tokens = Math.min(ratePerSecond, tokens + (nowNanos - lastRefillNanos) / NANOS_PER_SECOND * ratePerSecond);
+        }
+        lastRefillNanos = nowNanos;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.nhnacademy.marketgg.batch.writer;
+
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * 지급 쿠폰을 여러 행 VALUES 절을 가진 INSERT 문으로 저장하는 Writer 입니다.
+ *
+ * @version 1.0.0
+ */
+public class GivenCouponBulkItemWriter extends MultiRowInsertItemWriter<GivenCouponDto> {
+
+    private static final String INSERT_PREFIX =
+        "insert into given_coupons (coupon_no, member_no, created_at) values ";
+    private static final String INSERT_IGNORE_PREFIX =
+        "insert ignore into given_coupons (coupon_no, member_no, created_at) values ";
+    private static final String ROW_VALUES = "(?, ?, now())";
+
+    /**
+     * 값이 채워진 한 행의 최대 크기입니다. long 두 개(각 최대 20자)와 now(), 구분자를 더한 값입니다.
+     */
+    private static final int MAX_ROW_BYTES = 20 + 20 + 16;
+
+    /**
+     * 지급 쿠폰 대량 저장 Writer 를 생성합니다.
+     *
+     * @param dataSource       - 쿠폰을 저장할 DataSource 입니다.
+     * @param rowsPerStatement - INSERT 문 하나에 담는 최대 행 수입니다.
+     * @param maxPacketBytes   - INSERT 문 하나의 최대 크기(byte)입니다.
+     * @since 1.0.0
+     */
+    public GivenCouponBulkItemWriter(DataSource dataSource, int rowsPerStatement, long maxPacketBytes) {
+        this(dataSource, rowsPerStatement, maxPacketBytes, false);
+    }
+
+    /**
+     * 지급 쿠폰 대량 저장 Writer 를 생성합니다.
+     * ignoreDuplicates 이면 INSERT IGNORE 로 이미 지급한 쿠폰을 건너뛰므로, 같은 Chunk 를 다시 저장해도 실패하지 않습니다.
+     *
+     * @param dataSource       - 쿠폰을 저장할 DataSource 입니다.
+     * @param rowsPerStatement - INSERT 문 하나에 담는 최대 행 수입니다.
+     * @param maxPacketBytes   - INSERT 문 하나의 최대 크기(byte)입니다.
+     * @param ignoreDuplicates - 이미 지급한 쿠폰을 오류 없이 건너뛸지 여부입니다.
+     * @since 1.0.0
+     */
+    public GivenCouponBulkItemWriter(DataSource dataSource, int rowsPerStatement, long maxPacketBytes,
+                                     boolean ignoreDuplicates) {
+        super(dataSource, ignoreDuplicates ? INSERT_IGNORE_PREFIX : INSERT_PREFIX, ROW_VALUES, MAX_ROW_BYTES,
+              rowsPerStatement, maxPacketBytes);
+    }
+
+    @Override
+    protected int bind(PreparedStatement ps, int index, GivenCouponDto item) throws SQLException {
+        ps.setLong(index, item.getCouponNo());
+        ps.setLong(index + 1, item.getMemberNo());
+        return index + 2;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.nhnacademy.marketgg.batch.writer;
+
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.domain.dto.MemberGradeDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OrderDto;
+import com.nhnacademy.marketgg.batch.grade.MemberGradePolicy;
+import com.nhnacademy.marketgg.batch.promotion.WatermarkStore;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 새 주문을 회원의 월별 구매 금액에 더하고, 이번 달까지의 구매 금액으로 더 높은 등급이 된 회원을 승급시키는 Writer 입니다.
+ *
+ * <p>한 Chunk 트랜잭션에서 월별 구매 금액 갱신, 등급 승급, 등급 쿠폰 지급, Watermark 갱신을 함께 처리합니다.
+ * 그래서 실패한 Chunk 는 모두 Rollback 되고 다음 실행이 같은 주문부터 다시 처리하므로, 주문 금액이 두 번 더해지지 않습니다.</p>
+ *
+ * <p>등급은 올리기만 하고 내리지 않습니다. 등급을 내리는 것은 매월 등급 갱신 Job 이 합니다.
+ * 지난 달 주문은 승급에 사용하지 않으므로 월별 구매 금액에도 더하지 않습니다.
+ * 기간(ROLLING_WINDOW) 집계를 사용하면 매월 등급 갱신 Job 이 지난 달 구매 금액을 주문으로 다시 집계해 저장하는데,
+ * 그 뒤에 지난 달 금액이 바뀌면 기간에서 뺄 때 더한 금액과 달라지기 때문입니다.</p>
+ *
+ * @version 1.0.0
+ */
+public class GradePromotionItemWriter implements ItemWriter<OrderDto> {
+
+    private static final String UPSERT_SPEND =
+        "insert into member_monthly_spend (member_no, spend_month, total_amount, updated_at) "
+            + "values (:memberNo, :spendMonth, :totalAmount, now()) "
+            + "on duplicate key update total_amount = total_amount + values(total_amount), updated_at = now()";
+
+    private static final String SELECT_CANDIDATES =
+        "select s.member_no, sum(s.total_amount) as total_amount, m.member_grade_no "
+            + "from member_monthly_spend s join members m on m.member_no = s.member_no "
+            + "where s.member_no in (:memberNos) and s.spend_month >= :firstMonth and s.spend_month <= :spendMonth "
+            + "and m.deleted_at is null "
+            + "group by s.member_no, m.member_grade_no";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final WatermarkStore watermarkStore;
+    private final String watermarkName;
+    private final LocalDate currentMonth;
+    private final int gradeMonths;
+    private final Map<Long, Long> gradeCouponNos;
+    private final ItemWriter<MemberGradeDto> gradeWriter;
+    private final ItemWriter<GivenCouponDto> couponWriter;
+
+    /**
+     * 등급 승급 Writer 를 생성합니다.
+     *
+     * @param dataSource     - 구매 금액, 회원을 조회하고 저장할 DataSource 입니다.
+     * @param watermarkStore - 처리한 주문 번호를 저장합니다.
+     * @param watermarkName  - Watermark 이름입니다.
+     * @param currentMonth   - 승급에 사용할 달의 1일입니다. 이전 달 주문은 월별 구매 금액에 더하지 않습니다.
+     * @param gradeMonths    - 이번 달까지 몇 개월의 구매 금액 합계로 등급을 정할지 입니다. 매월 등급 갱신과 같은 기준을 사용합니다.
+     * @param gradeCouponNos - 등급 번호별 지급할 쿠폰 번호입니다. 없는 등급은 쿠폰을 지급하지 않습니다.
+     * @param gradeWriter    - 승급한 회원의 등급을 저장합니다. 현재 등급보다 높을 때만 바꿔야 합니다.
+     * @param couponWriter   - 승급한 회원의 등급 쿠폰을 저장합니다. 이미 받은 쿠폰은 건너뛰어야 합니다.
+     * @since 1.0.0
+     */
+    public GradePromotionItemWriter(DataSource dataSource, WatermarkStore watermarkStore, String watermarkName,
+                                    LocalDate currentMonth, int gradeMonths, Map<Long, Long> gradeCouponNos,
+                                    ItemWriter<MemberGradeDto> gradeWriter, ItemWriter<GivenCouponDto> couponWriter) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.watermarkStore = watermarkStore;
+        this.watermarkName = watermarkName;
+        this.currentMonth = currentMonth;
+        this.gradeMonths = gradeMonths;
+        this.gradeCouponNos = gradeCouponNos;
+        this.gradeWriter = gradeWriter;
+        this.couponWriter = couponWriter;
+    }
+
+    @Override
+    public void write(List<? extends OrderDto> orders) throws Exception {
+        Map<LocalDate, Map<Long, Long>> spends = new HashMap<>();
+        long lastOrderNo = 0L;
+        for (OrderDto order : orders) {
+            lastOrderNo = Math.max(lastOrderNo, order.getOrderNo());
+            LocalDate spendMonth = order.getCreatedAt().toLocalDate().withDayOfMonth(1);
+            if (spendMonth.isBefore(currentMonth)) {
+                continue;
+            }
+            spends.computeIfAbsent(spendMonth, month -> new HashMap<>())
+                  .merge(order.getMemberNo(), order.getTotalAmount(), Long::sum);
+        }
+
+        List<MapSqlParameterSource> upserts = new ArrayList<>();
+        spends.forEach((month, amounts) -> amounts.forEach((memberNo, amount) ->
+            upserts.add(new MapSqlParameterSource().addValue("memberNo", memberNo)
+                                                   .addValue("spendMonth", Date.valueOf(month))
+                                                   .addValue("totalAmount", amount))));
+        jdbcTemplate.batchUpdate(UPSERT_SPEND, upserts.toArray(new MapSqlParameterSource[0]));
+
+        Map<Long, Long> currentSpends = spends.get(currentMonth);
+        if (currentSpends != null) {
+            promote(new ArrayList<>(currentSpends.keySet()));
+        }
+
+        watermarkStore.advance(watermarkName, lastOrderNo);
+    }
+
+    private void promote(List<Long> memberNos) throws Exception {
+        List<MemberGradeDto> promotions = new ArrayList<>();
+        List<GivenCouponDto> coupons = new ArrayList<>();
+
+        MapSqlParameterSource params =
+            new MapSqlParameterSource().addValue("memberNos", memberNos)
+                                       .addValue("firstMonth", Date.valueOf(currentMonth.minusMonths(gradeMonths - 1L)))
+                                       .addValue("spendMonth", Date.valueOf(currentMonth));
+        jdbcTemplate.query(SELECT_CANDIDATES, params, rs -> {
+            long memberNo = rs.getLong("member_no");
+            long grade = MemberGradePolicy.gradeOf(rs.getLong("total_amount"), gradeMonths);
+            if (!MemberGradePolicy.isHigher(grade, rs.getLong("member_grade_no"))) {
+                return;
+            }
+
+            MemberGradeDto promotion = new MemberGradeDto();
+            promotion.setMemberNo(memberNo);
+            promotion.setMemberGradeNo(grade);
+            promotions.add(promotion);
+
+            Long couponNo = gradeCouponNos.get(grade);
+            if (couponNo != null) {
+                coupons.add(new GivenCouponDto(memberNo, couponNo));
+            }
+        });
+
+        if (!promotions.isEmpty()) {
+            gradeWriter.write(promotions);
+        }
+        if (!coupons.isEmpty()) {
+            couponWriter.write(coupons);
+        }
+    }
+
+}
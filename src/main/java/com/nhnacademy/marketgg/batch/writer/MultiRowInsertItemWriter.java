@@ -0,0 +1,97 @@
+package com.nhnacademy.marketgg.batch.writer;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Chunk 를 여러 행 VALUES 절을 가진 INSERT 문으로 저장하는 Writer 입니다.
+ * {@code insert into ... values (...), (...), ...} 형태로 Chunk 를 묶어 DB 왕복 횟수를 줄입니다.
+ * JDBC 드라이버의 batch rewrite 설정(rewriteBatchedStatements)에 의존하지 않습니다.
+ *
+ * <p>INSERT 문 하나의 행 수는 설정한 rowsPerStatement 와 최대 패킷 크기 중 작은 쪽으로 제한되어
+ * MySQL 의 max_allowed_packet 을 넘지 않습니다.</p>
+ *
+ * @param <T> - 저장할 데이터 타입입니다.
+ * @version 1.0.0
+ */
+public abstract class MultiRowInsertItemWriter<T> implements ItemWriter<T> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertPrefix;
+    private final String rowValues;
+    private final int rowsPerStatement;
+    private final String fullStatement;
+
+    /**
+     * 여러 행 INSERT Writer 를 생성합니다.
+     *
+     * @param dataSource       - 데이터를 저장할 DataSource 입니다.
+     * @param insertPrefix     - {@code insert into table (columns) values } 까지의 SQL 입니다.
+     * @param rowValues        - 한 행의 VALUES 절입니다. 예) {@code (?, ?, now())}
+     * @param maxRowBytes      - 값이 채워진 한 행의 최대 크기(byte)입니다.
+     * @param rowsPerStatement - INSERT 문 하나에 담는 최대 행 수입니다.
+     * @param maxPacketBytes   - INSERT 문 하나의 최대 크기(byte)입니다.
+     * @since 1.0.0
+     */
+    protected MultiRowInsertItemWriter(DataSource dataSource, String insertPrefix, String rowValues,
+                                       int maxRowBytes, int rowsPerStatement, long maxPacketBytes) {
+
+        Assert.isTrue(rowsPerStatement > 0, "rowsPerStatement 는 0 보다 커야 합니다.");
+
+        long rowsInPacket = (maxPacketBytes - insertPrefix.length()) / maxRowBytes;
+        Assert.isTrue(rowsInPacket > 0, "maxPacketBytes 가 너무 작습니다.");
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.insertPrefix = insertPrefix;
+        this.rowValues = rowValues;
+        this.rowsPerStatement = (int) Math.min(rowsPerStatement, rowsInPacket);
+        this.fullStatement = insertStatement(this.rowsPerStatement);
+    }
+
+    /**
+     * Chunk 를 rowsPerStatement 개씩 나누어 INSERT 문 하나로 저장합니다.
+     *
+     * @param items - 저장할 데이터 목록입니다.
+     * @since 1.0.0
+     */
+    @Override
+    public void write(List<? extends T> items) {
+        for (int from = 0; from < items.size(); from += rowsPerStatement) {
+            List<? extends T> rows = items.subList(from, Math.min(from + rowsPerStatement, items.size()));
+            String sql = rows.size() == rowsPerStatement ? fullStatement : insertStatement(rows.size());
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (T row : rows) {
+                    index = bind(ps, index, row);
+                }
+            });
+        }
+    }
+
+    /**
+     * 한 행의 값을 INSERT 문에 설정합니다.
+     *
+     * @param ps    - 값을 설정할 PreparedStatement 입니다.
+     * @param index - 이 행의 첫 번째 parameter 위치입니다.
+     * @param item  - 저장할 데이터입니다.
+     * @return 다음 행의 첫 번째 parameter 위치를 반환합니다.
+     * @throws SQLException - 값을 설정할 때 발생할 수 있는 에러입니다.
+     */
+    protected abstract int bind(PreparedStatement ps, int index, T item) throws SQLException;
+
+    private String insertStatement(int rows) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (rowValues.length() + 2));
+        sql.append(insertPrefix).append(rowValues);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", ").append(rowValues);
+        }
+        return sql.toString();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.marketgg.batch.writer;
+
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * Outbox 이벤트를 여러 행 VALUES 절을 가진 INSERT 문으로 저장하는 Writer 입니다.
+ * 이벤트 키(event_key)가 같은 이벤트가 이미 있으면 INSERT IGNORE 로 건너뜁니다.
+ *
+ * @version 1.0.0
+ */
+public class OutboxEventItemWriter extends MultiRowInsertItemWriter<OutboxEvent> {
+
+    private static final String INSERT_PREFIX =
+        "insert ignore into batch_outbox_events (event_type, member_no, reference_no, event_key, created_at) values ";
+    private static final String ROW_VALUES = "(?, ?, ?, ?, now())";
+
+    /**
+     * 값이 채워진 한 행의 최대 크기입니다.
+     * 이벤트 종류(최대 32자), long 두 개(각 최대 20자), 이벤트 키(최대 100자)와 now(), 구분자를 더한 값입니다.
+     */
+    private static final int MAX_ROW_BYTES = 34 + 20 + 20 + 102 + 20;
+
+    private static final long MAX_PACKET_BYTES = 1024L * 1024L;
+
+    public OutboxEventItemWriter(DataSource dataSource, int rowsPerStatement) {
+        super(dataSource, INSERT_PREFIX, ROW_VALUES, MAX_ROW_BYTES, rowsPerStatement, MAX_PACKET_BYTES);
+    }
+
+    @Override
+    protected int bind(PreparedStatement ps, int index, OutboxEvent item) throws SQLException {
+        ps.setString(index, item.getEventType().name());
+        ps.setLong(index + 1, item.getMemberNo());
+        ps.setLong(index + 2, item.getReferenceNo());
+        ps.setString(index + 3, item.getEventKey());
+        return index + 4;
+    }
+
+}
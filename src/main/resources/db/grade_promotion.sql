@@ -0,0 +1,20 @@
+-- 월중 등급 승급 Job(gradePromotionJob)이 사용하는 테이블입니다.
+
+-- Job 이 마지막으로 처리한 위치입니다. 처리한 데이터와 같은 Chunk 트랜잭션에서 갱신합니다.
+create table if not exists batch_watermark
+(
+    name       varchar(100) not null primary key,
+    last_no    bigint       not null,
+    updated_at timestamp    not null
+);
+
+-- 회원의 월별 구매 금액입니다. spend_month 는 해당 월의 1일입니다.
+create table if not exists member_monthly_spend
+(
+    member_no    bigint    not null,
+    spend_month  date      not null,
+    total_amount bigint    not null,
+    updated_at   timestamp not null,
+    primary key (member_no, spend_month),
+    index idx_member_monthly_spend_spend_month (spend_month, member_no)
+);
@@ -0,0 +1,26 @@
+-- 등급 변경, 쿠폰 지급 이벤트를 다른 서비스에 전달하기 위한 Outbox 테이블입니다.
+-- Batch Writer 가 Chunk 트랜잭션 안에서 이벤트를 추가하고, OutboxRelay 가 발행한 뒤 published_at 을 기록합니다.
+-- event_key 가 같은 이벤트는 한 번만 저장합니다. 키가 없는(null) 이벤트는 중복을 확인하지 않습니다.
+-- 이미 만든 테이블에는 event_key 컬럼과 uk_batch_outbox_events_event_key 를 alter table 로 추가합니다.
+create table if not exists batch_outbox_events
+(
+    event_no     bigint auto_increment primary key,
+    event_type   varchar(32)  not null,
+    member_no    bigint       not null,
+    reference_no bigint       not null,
+    created_at   timestamp    not null,
+    event_key    varchar(100) null,
+    published_at timestamp    null,
+    unique key uk_batch_outbox_events_event_key (event_key),
+    index idx_batch_outbox_events_published_at (published_at, event_no)
+);
+
+-- memberGradeJob 의 등급 초기화 Step 이 일반 등급으로 내린 회원의 이전 등급입니다.
+-- 등급 업데이트 Step 이 처리한 회원의 기록은 지우고, 남은 회원에게만 일반 등급 변경 이벤트를 저장한 뒤 지웁니다.
+create table if not exists member_grade_previous
+(
+    job_instance_id bigint not null,
+    member_no       bigint not null,
+    member_grade_no bigint not null,
+    primary key (job_instance_id, member_no)
+);
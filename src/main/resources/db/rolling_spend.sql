@@ -0,0 +1,10 @@
+-- 회원 등급 갱신 Job(memberGradeJob)의 구매 금액 기간(ROLLING_WINDOW) 집계가 사용하는 테이블입니다.
+-- 월별 구매 금액(member_monthly_spend)과 batch_watermark 는 grade_promotion.sql 에 있습니다.
+
+-- 회원의 기간 구매 금액 합계입니다. 기간에 들어온 달의 금액을 더하고, 기간에서 빠진 달의 금액을 뺍니다.
+create table if not exists member_rolling_spend
+(
+    member_no    bigint    not null primary key,
+    total_amount bigint    not null,
+    updated_at   timestamp not null
+);
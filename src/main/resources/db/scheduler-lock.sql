@@ -0,0 +1,8 @@
+-- 여러 인스턴스에서 같은 Scheduler 가 동시에 실행되지 않도록 하는 잠금 테이블입니다.
+create table if not exists scheduler_locks
+(
+    lock_name    varchar(64)  not null primary key,
+    locked_until timestamp    not null,
+    locked_at    timestamp    not null,
+    locked_by    varchar(255) not null
+);
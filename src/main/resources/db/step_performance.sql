@@ -0,0 +1,21 @@
+-- Step 실행마다 처리 속도, Chunk 지연 시간 분포, DB 시간 비율을 기록하는 테이블입니다.
+-- PerformanceHistoryListener 가 Job 이 끝난 뒤 완료된 Step 마다 한 행을 추가하고, 같은 Step 의 최근 기록과 비교합니다.
+create table if not exists batch_step_performance
+(
+    performance_no     bigint auto_increment primary key,
+    job_name           varchar(100) not null,
+    step_name          varchar(100) not null,
+    job_execution_id   bigint       not null,
+    step_execution_id  bigint       not null,
+    item_count         bigint       not null,
+    duration_millis    bigint       not null,
+    items_per_second   double       not null,
+    chunk_count        int          null,
+    chunk_p50_millis   double       null,
+    chunk_p95_millis   double       null,
+    chunk_p99_millis   double       null,
+    db_time_ratio      double       null,
+    regression         boolean      not null,
+    created_at         timestamp    not null,
+    index idx_batch_step_performance_step_name (step_name, performance_no)
+);
@@ -0,0 +1,60 @@
+package com.nhnacademy.marketgg.batch.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+    @Test
+    void accumulatesLikeTreeMapAndSortsKeys() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new TreeMap<>();
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(50_000);
+            long amount = random.nextInt(1_000_000);
+            map.addTo(key, amount);
+            expected.merge(key, amount, Long::sum);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+
+        long[] keys = new long[map.size()];
+        long[] values = new long[map.size()];
+        map.copySorted(keys, values);
+
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertThat(keys[i]).isEqualTo(entry.getKey());
+            assertThat(values[i]).isEqualTo(entry.getValue());
+            i++;
+        }
+    }
+
+    @Test
+    void keepsZeroAndNegativeKeys() {
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        map.addTo(0L, 5L);
+        map.addTo(-3L, 7L);
+        map.addTo(0L, 1L);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(0L, -1L)).isEqualTo(6L);
+        assertThat(map.get(-3L, -1L)).isEqualTo(7L);
+        assertThat(map.get(9L, -1L)).isEqualTo(-1L);
+
+        long[] keys = new long[2];
+        long[] values = new long[2];
+        map.copySorted(keys, values);
+
+        assertThat(keys).containsExactly(-3L, 0L);
+        assertThat(values).containsExactly(7L, 6L);
+    }
+
+}
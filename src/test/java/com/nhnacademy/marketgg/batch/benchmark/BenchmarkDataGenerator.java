@@ -0,0 +1,151 @@
+package com.nhnacademy.marketgg.batch.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벤치마크용 합성 데이터 생성기입니다.
+ * member_grades, coupons, members, orders 를 JDBC Batch Insert 로 빠르게 생성합니다.
+ * 주문 금액은 로그 정규 분포, 회원별 주문 수는 기하 분포를 따르도록 해 실제 구매 분포처럼 소수의 회원이 큰 금액을 사용합니다.
+ * 같은 seed 로 생성하면 항상 같은 데이터가 만들어집니다.
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class BenchmarkDataGenerator {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final double ORDER_AMOUNT_MEDIAN = 60_000D;
+    private static final double ORDER_AMOUNT_SIGMA = 0.9D;
+    private static final double NEXT_ORDER_PROBABILITY = 0.55D;
+    private static final long MEMBER_GRADE_NO = 3L;
+
+    private final DataSource dataSource;
+    private final Random random;
+
+    public BenchmarkDataGenerator(DataSource dataSource, long seed) {
+        this.dataSource = dataSource;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 등급, 쿠폰, 회원, 주문 데이터를 생성합니다.
+     *
+     * @param memberCount - 생성할 회원 수입니다.
+     * @param activeRatio - 조회 기간에 주문한 회원의 비율입니다.
+     * @param startDate   - 주문 생성 기간의 시작일입니다.
+     * @param endDate     - 주문 생성 기간의 종료일(미포함)입니다.
+     * @return 생성한 주문 수를 반환합니다.
+     */
+    public long generate(int memberCount, double activeRatio, LocalDate startDate, LocalDate endDate)
+        throws SQLException {
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            insertReferenceData(connection);
+            insertMembers(connection, memberCount);
+            long orderCount = insertOrders(connection, memberCount, activeRatio, startDate, endDate);
+
+            connection.commit();
+            return orderCount;
+        }
+    }
+
+    private void insertReferenceData(Connection connection) throws SQLException {
+        try (PreparedStatement grade = connection.prepareStatement(
+            "insert into member_grades (member_grade_no, grade) values (?, ?)");
+             PreparedStatement coupon = connection.prepareStatement(
+                 "insert into coupons (coupon_no, name, type, expired_date, minimum_money, discount_amount) "
+                     + "values (?, ?, '정액할인', 30, 10000, 5000)")) {
+
+            String[] grades = {"GVIP", "VIP", "MEMBER"};
+            for (int i = 0; i < grades.length; i++) {
+                grade.setLong(1, i + 1L);
+                grade.setString(2, grades[i]);
+                grade.addBatch();
+            }
+            grade.executeBatch();
+
+            String[] coupons = {"GVIP 쿠폰", "VIP 쿠폰", "생일 쿠폰"};
+            for (int i = 0; i < coupons.length; i++) {
+                coupon.setLong(1, i + 1L);
+                coupon.setString(2, coupons[i]);
+                coupon.addBatch();
+            }
+            coupon.executeBatch();
+        }
+    }
+
+    private void insertMembers(Connection connection, int memberCount) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        try (PreparedStatement statement = connection.prepareStatement(
+            "insert into members (member_no, member_grade_no, uuid, gender, birth_date, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?)")) {
+
+            for (int memberNo = 1; memberNo <= memberCount; memberNo++) {
+                statement.setLong(1, memberNo);
+                statement.setLong(2, MEMBER_GRADE_NO);
+                statement.setString(3, "benchmark-" + memberNo);
+                statement.setString(4, random.nextBoolean() ? "F" : "M");
+                statement.setObject(5, LocalDate.of(1960 + random.nextInt(45), 1, 1).plusDays(random.nextInt(365)));
+                statement.setTimestamp(6, createdAt);
+                statement.setTimestamp(7, createdAt);
+                statement.addBatch();
+
+                if (memberNo % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        log.info("회원 {} 명 생성", memberCount);
+    }
+
+    private long insertOrders(Connection connection, int memberCount, double activeRatio,
+                              LocalDate startDate, LocalDate endDate) throws SQLException {
+
+        long periodSeconds = java.time.Duration.between(startDate.atStartOfDay(), endDate.atStartOfDay()).getSeconds();
+        long orderCount = 0L;
+
+        try (PreparedStatement statement = connection.prepareStatement(
+            "insert into orders (member_no, total_amount, created_at) values (?, ?, ?)")) {
+
+            for (int memberNo = 1; memberNo <= memberCount; memberNo++) {
+                if (random.nextDouble() >= activeRatio) {
+                    continue;
+                }
+
+                do {
+                    long amount = Math.round(
+                        ORDER_AMOUNT_MEDIAN * Math.exp(ORDER_AMOUNT_SIGMA * random.nextGaussian()) / 100D) * 100L;
+                    LocalDateTime createdAt =
+                        startDate.atStartOfDay().plusSeconds((long) (random.nextDouble() * periodSeconds));
+
+                    statement.setLong(1, memberNo);
+                    statement.setLong(2, amount);
+                    statement.setTimestamp(3, Timestamp.valueOf(createdAt));
+                    statement.addBatch();
+
+                    if (++orderCount % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                } while (random.nextDouble() < NEXT_ORDER_PROBABILITY);
+            }
+            statement.executeBatch();
+        }
+        log.info("주문 {} 건 생성", orderCount);
+
+        return orderCount;
+    }
+
+}
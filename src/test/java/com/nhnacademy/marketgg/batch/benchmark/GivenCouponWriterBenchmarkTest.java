@@ -0,0 +1,94 @@
+package com.nhnacademy.marketgg.batch.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.writer.GivenCouponBulkItemWriter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지급 쿠폰 저장 Writer 의 처리량을 비교합니다.
+ * 기존 JdbcBatchItemWriter(행마다 INSERT)와 여러 행 VALUES INSERT Writer 로 같은 양의 쿠폰을 Chunk 단위 트랜잭션으로 저장합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("benchmark")
+@SpringBootTest
+class GivenCouponWriterBenchmarkTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${benchmark.members}")
+    private int rows;
+
+    @Test
+    void compareWriters() throws Exception {
+        JdbcBatchItemWriter<GivenCouponDto> batchWriter =
+            new JdbcBatchItemWriterBuilder<GivenCouponDto>()
+                .dataSource(dataSource)
+                .sql("insert into given_coupons (coupon_no, member_no, created_at) values (:couponNo, :memberNo, now())")
+                .beanMapped()
+                .build();
+        batchWriter.afterPropertiesSet();
+
+        GivenCouponBulkItemWriter bulkWriter = new GivenCouponBulkItemWriter(dataSource, 1000, 4L * 1024 * 1024);
+
+        double batchRate = measure("JdbcBatchItemWriter", batchWriter, 1L);
+        double bulkRate = measure("GivenCouponBulkItemWriter", bulkWriter, 2L);
+
+        log.info("\ngiven_coupons writer benchmark: rows={}, chunk={}\n{}: {} rows/sec\n{}: {} rows/sec",
+                 rows, CHUNK_SIZE, "JdbcBatchItemWriter", String.format("%.1f", batchRate),
+                 "GivenCouponBulkItemWriter", String.format("%.1f", bulkRate));
+
+        Long written = new JdbcTemplate(dataSource).queryForObject("select count(*) from given_coupons", Long.class);
+        assertThat(written).isEqualTo(rows * 2L);
+    }
+
+    private double measure(String name, ItemWriter<GivenCouponDto> writer, long couponNo) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<GivenCouponDto> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        long start = System.nanoTime();
+        for (long memberNo = 1; memberNo <= rows; memberNo++) {
+            chunk.add(new GivenCouponDto(memberNo, couponNo));
+            if (chunk.size() == CHUNK_SIZE || memberNo == rows) {
+                transactionTemplate.executeWithoutResult(status -> write(writer, chunk));
+                chunk.clear();
+            }
+        }
+        long millis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+        log.info("{}: {} rows in {}ms", name, rows, millis);
+
+        return rows * 1000D / millis;
+    }
+
+    private static void write(ItemWriter<GivenCouponDto> writer, List<GivenCouponDto> chunk) {
+        try {
+            writer.write(chunk);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.marketgg.batch.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 합성 데이터로 memberGradeJob 전체를 실행하고 Step 별 처리량, 실행 시간, 최대 Heap 사용량을 측정합니다.
+ * 기본 빌드에서는 실행되지 않으며 {@code mvn test -Pbenchmark -Dbenchmark.members=1000000} 으로 실행합니다.
+ * 결과는 로그와 {@code target/benchmark/member-grade-job.txt} 에 남깁니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("benchmark")
+@SpringBootTest
+class MemberGradeJobBenchmarkTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2022, 7, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2022, 8, 1);
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private Job memberGradeJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${benchmark.members}")
+    private int memberCount;
+
+    @Value("${benchmark.active-ratio}")
+    private double activeRatio;
+
+    @Value("${benchmark.seed}")
+    private long seed;
+
+    @Test
+    void memberGradeJob() throws Exception {
+        long generateStart = System.nanoTime();
+        long orderCount = new BenchmarkDataGenerator(dataSource, seed)
+            .generate(memberCount, activeRatio, START_DATE, END_DATE);
+        Duration generateTime = Duration.ofNanos(System.nanoTime() - generateStart);
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans()
+                                                           .stream()
+                                                           .filter(pool -> pool.getType() == MemoryType.HEAP)
+                                                           .collect(Collectors.toList());
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        JobExecution execution = jobLauncher.run(
+            memberGradeJob, new org.springframework.batch.core.JobParametersBuilder()
+                .addString("startDate", START_DATE.toString())
+                .addString("endDate", END_DATE.toString())
+                .toJobParameters());
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        String report = report(execution, orderCount, generateTime, peakHeap);
+        log.info("\n{}", report);
+        writeReport(report);
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    private String report(JobExecution execution, long orderCount, Duration generateTime, long peakHeap) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("memberGradeJob benchmark: members=%d, orders=%d, generate=%dms%n",
+                                    memberCount, orderCount, generateTime.toMillis()));
+        report.append(String.format("%-32s %10s %10s %10s %12s%n", "step", "read", "write", "millis", "items/sec"));
+
+        for (StepExecution step : execution.getStepExecutions()) {
+            long millis = elapsedMillis(step.getStartTime(), step.getEndTime());
+            report.append(String.format("%-32s %10d %10d %10d %12.1f%n", step.getStepName(), step.getReadCount(),
+                                        step.getWriteCount(), millis, itemsPerSecond(step.getReadCount(), millis)));
+        }
+
+        report.append(String.format("job: status=%s, wall=%dms, peakHeap=%dMB%n", execution.getStatus(),
+                                    elapsedMillis(execution.getStartTime(), execution.getEndTime()),
+                                    peakHeap / 1024 / 1024));
+        return report.toString();
+    }
+
+    private static long elapsedMillis(java.util.Date start, java.util.Date end) {
+        return end.getTime() - start.getTime();
+    }
+
+    private static double itemsPerSecond(long items, long millis) {
+        return millis == 0 ? items : items * 1000D / millis;
+    }
+
+    private static void writeReport(String report) throws IOException {
+        Path path = Paths.get("target", "benchmark", "member-grade-job.txt");
+        Files.createDirectories(path.getParent());
+        Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.nhnacademy.marketgg.batch.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.config.MemberBitmapProperties;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.batch.core.JobExecution;
+
+class GradeMemberBitmapStoreTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void spillsAllGradesWhenTotalSizeExceedsInlineBudget() {
+        MemberBitmapProperties properties = new MemberBitmapProperties();
+        properties.setSpillDirectory(spillDirectory.toString());
+        GradeMemberBitmapStore store = new GradeMemberBitmapStore(properties);
+
+        // 각 Bitmap 은 8KB 보다 작지만 합계는 8KB 보다 큽니다.
+        Roaring64NavigableMap gvip = sparse(0L, 2_500);
+        Roaring64NavigableMap vip = sparse(1L, 2_500);
+        assertThat(gvip.serializedSizeInBytes()).isLessThan(8 * 1024L);
+
+        JobExecution jobExecution = new JobExecution(1L);
+        store.publish(jobExecution, Map.of(1L, gvip, 2L, vip));
+
+        assertThat(jobExecution.getExecutionContext().containsKey("gradeMemberBitmap.1")).isFalse();
+        assertThat(jobExecution.getExecutionContext().containsKey("gradeMemberBitmap.2")).isFalse();
+        assertThat(store.find(jobExecution, 1L)).contains(gvip);
+        assertThat(store.find(jobExecution, 2L)).contains(vip);
+    }
+
+    @Test
+    void keepsSmallBitmapsInExecutionContext() {
+        GradeMemberBitmapStore store = new GradeMemberBitmapStore(new MemberBitmapProperties());
+
+        JobExecution jobExecution = new JobExecution(2L);
+        store.publish(jobExecution, Map.of(1L, sparse(0L, 10), 2L, sparse(1L, 10)));
+
+        assertThat(jobExecution.getExecutionContext().containsKey("gradeMemberBitmap.1")).isTrue();
+        assertThat(store.find(jobExecution, 2L)).contains(sparse(1L, 10));
+    }
+
+    private Roaring64NavigableMap sparse(long offset, int count) {
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        for (int i = 0; i < count; i++) {
+            bitmap.addLong(offset + i * 2L);
+        }
+        return bitmap;
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.nhnacademy.marketgg.batch.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.marketgg.batch.config.ExecutorProperties;
+import com.nhnacademy.marketgg.batch.config.JobDispatchProperties;
+import com.nhnacademy.marketgg.batch.config.JobDispatchProperties.JobLimit;
+import com.nhnacademy.marketgg.batch.domain.dto.JobDispatchDto;
+import com.nhnacademy.marketgg.batch.exception.JobLockedException;
+import com.nhnacademy.marketgg.batch.exception.JobQueueFullException;
+import com.nhnacademy.marketgg.batch.executor.TaskExecutorFactory;
+import com.nhnacademy.marketgg.batch.lock.SchedulerLock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.SimpleJob;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class JobDispatcherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private EmbeddedDatabase database;
+    private JobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JobLauncher jobLauncher = (job, jobParameters) -> {
+            try {
+                release.await(5L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new JobExecution(1L, jobParameters);
+        };
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        for (String name : List.of("heavyJob", "otherHeavyJob", "lightJob", "urgentJob", "lockedJob",
+                                   "sameLockJob")) {
+            beanFactory.addBean(name, new SimpleJob(name));
+        }
+
+        JobDispatchProperties properties = new JobDispatchProperties();
+        properties.setMaxConcurrentJobs(2);
+        properties.setMaxConcurrentHeavyJobs(1);
+        properties.setQueueCapacity(2);
+        properties.setJobs(Map.of("heavyJob", limit(5, true), "otherHeavyJob", limit(5, true),
+                                  "urgentJob", limit(10, false), "lockedJob", locked("gradeLock"),
+                                  "sameLockJob", locked("gradeLock")));
+
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                                                .generateUniqueName(true)
+                                                .addScript("db/scheduler-lock.sql")
+                                                .build();
+        dispatcher = new JobDispatcher(jobLauncher, beanFactory, properties,
+                                       new TaskExecutorFactory(new ExecutorProperties()), new SchedulerLock(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.stopLockRenewal();
+        database.shutdown();
+    }
+
+    @Test
+    void lightJobRunsWhileHeavyJobsWait() throws Exception {
+        dispatcher.submit("heavyJob", new JobParameters());
+        dispatcher.submit("otherHeavyJob", new JobParameters());
+        dispatcher.submit("lightJob", new JobParameters());
+
+        assertThat(statuses()).containsExactly("heavyJob=RUNNING", "lightJob=RUNNING", "otherHeavyJob=QUEUED");
+    }
+
+    @Test
+    void higherPriorityRunsFirstAndSameRequestIsNotQueuedTwice() throws Exception {
+        dispatcher.submit("heavyJob", new JobParameters());
+        dispatcher.submit("lightJob", new JobParameters());
+        JobDispatch queued = dispatcher.submit("lightJob", params(2L));
+        dispatcher.submit("urgentJob", new JobParameters());
+
+        assertThat(dispatcher.submit("lightJob", params(2L))).isSameAs(queued);
+        assertThat(statuses()).containsExactly("heavyJob=RUNNING", "lightJob=RUNNING",
+                                               "urgentJob=QUEUED", "lightJob=QUEUED");
+
+        release.countDown();
+        assertThat(queued.getFuture().get(5L, TimeUnit.SECONDS).getJobParameters()).isEqualTo(params(2L));
+    }
+
+    @Test
+    void rejectsUnknownJobAndFullQueue() throws Exception {
+        assertThatThrownBy(() -> dispatcher.submit("noJob", new JobParameters()))
+            .isInstanceOf(NoSuchJobException.class);
+
+        dispatcher.submit("heavyJob", new JobParameters());
+        dispatcher.submit("heavyJob", params(1L));
+        dispatcher.submit("heavyJob", params(2L));
+
+        assertThatThrownBy(() -> dispatcher.submit("heavyJob", params(3L)))
+            .isInstanceOf(JobQueueFullException.class);
+    }
+
+    @Test
+    void skipsJobWhenAnotherInstanceHoldsLock() throws Exception {
+        new JdbcTemplate(database).update(
+            "insert into scheduler_locks values ('gradeLock', timestampadd(minute, 5, current_timestamp), "
+                + "current_timestamp, 'other-instance')");
+        JobDispatch skipped = dispatcher.submit("lockedJob", new JobParameters());
+
+        assertThatThrownBy(() -> skipped.getFuture().get(5L, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(JobLockedException.class);
+    }
+
+    @Test
+    void jobWithSameLockWaitsForRunningJob() throws Exception {
+        dispatcher.submit("lockedJob", new JobParameters());
+        dispatcher.submit("sameLockJob", new JobParameters());
+
+        assertThat(statuses()).containsExactly("lockedJob=RUNNING", "sameLockJob=QUEUED");
+
+        release.countDown();
+        assertThat(dispatcher.submit("sameLockJob", new JobParameters()).getFuture().get(5L, TimeUnit.SECONDS))
+            .isNotNull();
+    }
+
+    private List<String> statuses() {
+        return dispatcher.findAll().stream()
+                         .map(job -> job.getJobName() + "=" + job.getStatus())
+                         .collect(Collectors.toList());
+    }
+
+    private static JobParameters params(long run) {
+        return new JobParametersBuilder().addLong("run", run).toJobParameters();
+    }
+
+    private static JobLimit locked(String lockName) {
+        JobLimit limit = new JobLimit();
+        limit.setLockName(lockName);
+        return limit;
+    }
+
+    private static JobLimit limit(int priority, boolean heavy) {
+        JobLimit limit = new JobLimit();
+        limit.setPriority(priority);
+        limit.setHeavy(heavy);
+        return limit;
+    }
+
+}
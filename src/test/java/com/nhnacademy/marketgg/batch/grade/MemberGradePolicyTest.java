@@ -0,0 +1,40 @@
+package com.nhnacademy.marketgg.batch.grade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.domain.constant.CouponName;
+import org.junit.jupiter.api.Test;
+
+class MemberGradePolicyTest {
+
+    @Test
+    void gradeIsDecidedByTotalAmount() {
+        assertThat(MemberGradePolicy.gradeOf(299_999L)).isEqualTo(MemberGradePolicy.MEMBER);
+        assertThat(MemberGradePolicy.gradeOf(300_000L)).isEqualTo(MemberGradePolicy.VIP);
+        assertThat(MemberGradePolicy.gradeOf(499_999L)).isEqualTo(MemberGradePolicy.VIP);
+        assertThat(MemberGradePolicy.gradeOf(500_000L)).isEqualTo(MemberGradePolicy.GVIP);
+    }
+
+    @Test
+    void multiMonthGradeComparesWithThresholdTimesMonths() {
+        assertThat(MemberGradePolicy.gradeOf(899_999L, 3)).isEqualTo(MemberGradePolicy.MEMBER);
+        assertThat(MemberGradePolicy.gradeOf(900_000L, 3)).isEqualTo(MemberGradePolicy.VIP);
+        assertThat(MemberGradePolicy.gradeOf(1_499_999L, 3)).isEqualTo(MemberGradePolicy.VIP);
+        assertThat(MemberGradePolicy.gradeOf(1_500_000L, 3)).isEqualTo(MemberGradePolicy.GVIP);
+    }
+
+    @Test
+    void smallerGradeNoIsHigherGrade() {
+        assertThat(MemberGradePolicy.isHigher(MemberGradePolicy.GVIP, MemberGradePolicy.VIP)).isTrue();
+        assertThat(MemberGradePolicy.isHigher(MemberGradePolicy.VIP, MemberGradePolicy.VIP)).isFalse();
+        assertThat(MemberGradePolicy.isHigher(MemberGradePolicy.MEMBER, MemberGradePolicy.VIP)).isFalse();
+    }
+
+    @Test
+    void onlyVipAndGvipHaveGradeCoupons() {
+        assertThat(MemberGradePolicy.couponOf(MemberGradePolicy.GVIP)).contains(CouponName.GVIP);
+        assertThat(MemberGradePolicy.couponOf(MemberGradePolicy.VIP)).contains(CouponName.VIP);
+        assertThat(MemberGradePolicy.couponOf(MemberGradePolicy.MEMBER)).isEmpty();
+    }
+
+}
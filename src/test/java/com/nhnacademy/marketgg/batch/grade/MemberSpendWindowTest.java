@@ -0,0 +1,84 @@
+package com.nhnacademy.marketgg.batch.grade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.promotion.WatermarkStore;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class MemberSpendWindowTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MemberSpendWindow window;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:spendwindow;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/grade_promotion.sql"),
+                                      new ClassPathResource("db/rolling_spend.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table orders (order_no bigint auto_increment primary key, member_no bigint, "
+                                + "total_amount bigint, created_at timestamp)");
+
+        window = new MemberSpendWindow(dataSource, new WatermarkStore(dataSource));
+
+        order(1L, 100L, "2026-05-10");
+        order(1L, 200L, "2026-06-10");
+        order(2L, 300L, "2026-06-20");
+        order(1L, 400L, "2026-07-01");
+        order(2L, 500L, "2026-08-31");
+        order(3L, 600L, "2026-08-01");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("drop all objects");
+    }
+
+    @Test
+    void addsNewMonthAndSubtractsExpiredMonth() {
+        assertThat(window.advance(LocalDate.of(2026, 7, 1), 3)).isEqualTo(3);
+        assertThat(rollingSpends()).isEqualTo(Map.of(1L, 700L, 2L, 300L));
+
+        // 등급 승급 Job 이 더해 둔 금액은 주문 기준 금액으로 바뀝니다.
+        jdbcTemplate.update("insert into member_monthly_spend values (2, '2026-08-01', 999, now())");
+
+        assertThat(window.advance(LocalDate.of(2026, 8, 1), 3)).isEqualTo(1);
+        assertThat(rollingSpends()).isEqualTo(Map.of(1L, 600L, 2L, 800L, 3L, 600L));
+        // 기간에서 빠진 5월은 지워집니다.
+        assertThat(jdbcTemplate.queryForObject("select min(spend_month) from member_monthly_spend", LocalDate.class))
+            .isEqualTo(LocalDate.of(2026, 6, 1));
+    }
+
+    @Test
+    void skipsSameMonthAndRebuildsAfterMissedMonth() {
+        window.advance(LocalDate.of(2026, 6, 1), 3);
+
+        assertThat(window.advance(LocalDate.of(2026, 6, 1), 3)).isZero();
+        assertThat(rollingSpends()).isEqualTo(Map.of(1L, 300L, 2L, 300L));
+
+        assertThat(window.advance(LocalDate.of(2026, 8, 1), 3)).isEqualTo(3);
+        assertThat(rollingSpends()).isEqualTo(Map.of(1L, 600L, 2L, 800L, 3L, 600L));
+    }
+
+    private void order(long memberNo, long amount, String date) {
+        jdbcTemplate.update("insert into orders (member_no, total_amount, created_at) values (?, ?, ?)",
+                            memberNo, amount, date + " 10:00:00");
+    }
+
+    private Map<Long, Long> rollingSpends() {
+        return jdbcTemplate.queryForList("select member_no, total_amount from member_rolling_spend").stream()
+                           .collect(Collectors.toMap(row -> ((Number) row.get("member_no")).longValue(),
+                                                     row -> ((Number) row.get("total_amount")).longValue()));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행된 이벤트를 메모리에 모아두는 테스트용 OutboxEventSink 입니다.
+ */
+class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final List<OutboxEvent> published = new ArrayList<>();
+    private int publishCalls;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        publishCalls++;
+        published.addAll(events);
+    }
+
+    List<OutboxEvent> getPublished() {
+        return published;
+    }
+
+    int getPublishCalls() {
+        return publishCalls;
+    }
+
+}
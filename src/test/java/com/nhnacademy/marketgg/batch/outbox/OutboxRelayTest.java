@@ -0,0 +1,110 @@
+package com.nhnacademy.marketgg.batch.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.config.OutboxProperties;
+import com.nhnacademy.marketgg.batch.domain.constant.OutboxEventType;
+import com.nhnacademy.marketgg.batch.domain.dto.GivenCouponDto;
+import com.nhnacademy.marketgg.batch.domain.dto.OutboxEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+class OutboxRelayTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OutboxProperties properties;
+    private InMemoryOutboxEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+                                                  .setName("outbox-relay;MODE=MySQL")
+                                                  .addScript("classpath:db/outbox.sql")
+                                                  .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        properties = new OutboxProperties();
+        properties.setEnabled(true);
+        properties.setRowsPerStatement(7);
+        properties.setRelayBatchSize(10);
+
+        sink = new InMemoryOutboxEventSink();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void relayPublishesEventsInOrderAndMarksThemPublished() throws Exception {
+        List<GivenCouponDto> coupons = new ArrayList<>();
+        for (long memberNo = 1; memberNo <= 25; memberNo++) {
+            coupons.add(new GivenCouponDto(memberNo, 3L));
+        }
+        List<GivenCouponDto> written = new ArrayList<>();
+        ItemWriter<GivenCouponDto> writer =
+            new OutboxWriterFactory(dataSource, properties)
+                .withEvents(written::addAll, coupon -> coupon.getMemberNo() % 5 == 0 ? null
+                    : OutboxEvent.couponIssued(coupon.getMemberNo(), coupon.getCouponNo()));
+
+        writer.write(coupons);
+
+        assertThat(written).hasSize(25);
+        assertThat(countUnpublished()).isEqualTo(20);
+
+        OutboxRelay relay = new OutboxRelay(dataSource, sink, null, properties);
+
+        assertThat(relay.relay()).isEqualTo(20);
+        assertThat(sink.getPublishCalls()).isEqualTo(2);
+        assertThat(sink.getPublished()).extracting(OutboxEvent::getEventType)
+                                       .containsOnly(OutboxEventType.COUPON_ISSUED);
+        assertThat(sink.getPublished()).extracting(OutboxEvent::getMemberNo)
+                                       .isSorted()
+                                       .doesNotContain(5L, 10L, 15L, 20L, 25L);
+        assertThat(countUnpublished()).isZero();
+
+        assertThat(relay.relay()).isZero();
+        assertThat(sink.getPublishCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void couponIssuedEventIsStoredOnceWhenChunkIsWrittenAgain() throws Exception {
+        ItemWriter<OutboxEvent> writer =
+            new OutboxWriterFactory(dataSource, properties).withEvents(events -> { }, event -> event);
+        List<OutboxEvent> events = List.of(OutboxEvent.couponIssued(1L, 3L), OutboxEvent.couponIssued(2L, 3L),
+                                           OutboxEvent.gradeChanged(1L, 2L));
+
+        writer.write(events);
+        writer.write(events);
+
+        assertThat(countUnpublished()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from batch_outbox_events where event_type = 'COUPON_ISSUED'", Integer.class))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void disabledOutboxReturnsWriterAsIs() {
+        properties.setEnabled(false);
+        ItemWriter<GivenCouponDto> delegate = items -> { };
+
+        assertThat(new OutboxWriterFactory(dataSource, properties).withEvents(delegate, coupon -> null))
+            .isSameAs(delegate);
+    }
+
+    private Integer countUnpublished() {
+        return jdbcTemplate.queryForObject("select count(*) from batch_outbox_events where published_at is null",
+                                           Integer.class);
+    }
+
+}
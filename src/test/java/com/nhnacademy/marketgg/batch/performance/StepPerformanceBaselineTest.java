@@ -0,0 +1,36 @@
+package com.nhnacademy.marketgg.batch.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StepPerformanceBaselineTest {
+
+    private final StepPerformanceBaseline baseline = new StepPerformanceBaseline(5, 1000D, 200D);
+
+    @Test
+    void changeWithinThresholdIsNotRegression() {
+        assertThat(baseline.regressions(performance(750D, 250D), 0.3D)).isEmpty();
+    }
+
+    @Test
+    void slowerThroughputAndLongerChunkAreRegressions() {
+        assertThat(baseline.regressions(performance(600D, 300D), 0.3D))
+            .containsExactly(StepPerformanceBaseline.THROUGHPUT, StepPerformanceBaseline.CHUNK_P95);
+    }
+
+    @Test
+    void chunkLatencyIsSkippedWithoutChunkStatistics() {
+        assertThat(baseline.regressions(performance(1000D, null), 0.3D)).isEmpty();
+        assertThat(new StepPerformanceBaseline(5, 1000D, null).regressions(performance(1000D, 900D), 0.3D)).isEmpty();
+    }
+
+    private static StepPerformance performance(double itemsPerSecond, Double chunkP95Millis) {
+        return StepPerformance.builder()
+                              .stepName("step")
+                              .itemsPerSecond(itemsPerSecond)
+                              .chunkP95Millis(chunkP95Millis)
+                              .build();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.batch.preflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+
+class QueryPlanVerifierTest {
+
+    @Test
+    void fullScanAndFilesortOnLargeTableAreViolations() {
+        List<Map<String, Object>> plan = List.of(row("orders", "ALL", 2_000_000L, "Using where; Using filesort"),
+                                                 row("members", "eq_ref", 1L, null));
+
+        assertThat(QueryPlanVerifier.violations("memberReaderQuery", plan, 100_000L))
+            .extracting(QueryPlanViolation::getTable, QueryPlanViolation::getProblem)
+            .containsExactly(tuple("orders", QueryPlanViolation.FULL_SCAN),
+                             tuple("orders", QueryPlanViolation.FILESORT));
+    }
+
+    @Test
+    void smallTablesAndDerivedTablesAreIgnored() {
+        List<Map<String, Object>> plan = List.of(row("member_grades", "ALL", 3L, "Using filesort"),
+                                                 row("<derived2>", "ALL", 500_000L, "Using filesort"),
+                                                 row("orders", "range", 500_000L, "Using index condition"));
+
+        assertThat(QueryPlanVerifier.violations("memberReaderQuery", plan, 100_000L)).isEmpty();
+    }
+
+    @Test
+    void firstPageQueryUsesPositionalParametersFromJobParameters() throws Exception {
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause("select member_no");
+        queryProvider.setFromClause("from members");
+        queryProvider.setWhereClause("where member_grade_no = :memberGradeNo");
+        queryProvider.setSortKeys(Map.of("member_no", Order.ASCENDING));
+        queryProvider.init(mock(DataSource.class));
+
+        ReaderQuery query = ReaderQuery.firstPage(queryProvider, 100,
+                                                  jobParameters -> Map.of("memberGradeNo",
+                                                                          jobParameters.getLong("gradeNo")),
+                                                  PlanPolicy.WARN);
+        JobParameters jobParameters = new JobParametersBuilder().addLong("gradeNo", 2L).toJobParameters();
+
+        assertThat(query.getSql()).contains("member_grade_no = ?").doesNotContain(":memberGradeNo");
+        assertThat(query.getArguments().apply(jobParameters)).containsExactly(2L);
+    }
+
+    private static Map<String, Object> row(String table, String type, long rows, String extra) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("table", table);
+        row.put("type", type);
+        row.put("rows", rows);
+        row.put("Extra", extra);
+        return row;
+    }
+
+}
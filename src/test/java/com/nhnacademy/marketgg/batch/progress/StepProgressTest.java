@@ -0,0 +1,56 @@
+package com.nhnacademy.marketgg.batch.progress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.batch.domain.dto.StepProgressDto;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StepProgressTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Test
+    void estimatesEndTimeFromRecentRate() {
+        StepProgress progress = new StepProgress("memberGradeUpdateStep", start, 0L);
+        progress.setTotal(1_000L);
+
+        progress.update(100L, 10 * SECOND);
+        progress.update(200L, 20 * SECOND);
+
+        StepProgressDto dto = progress.toDto(start.plusSeconds(20L), 20 * SECOND);
+
+        assertThat(dto.getPercent()).isEqualTo(20.0);
+        assertThat(dto.getItemsPerSecond()).isEqualTo(10.0);
+        assertThat(dto.getEstimatedEndTime()).isEqualTo(start.plusSeconds(100L));
+    }
+
+    @Test
+    void usesOnlyLastThirtySecondsForRate() {
+        StepProgress progress = new StepProgress("memberGradeUpdateStep", start, 0L);
+        progress.setTotal(10_000L);
+
+        progress.update(1_000L, 10 * SECOND);
+        progress.update(1_100L, 50 * SECOND);
+        progress.update(1_400L, 70 * SECOND);
+
+        assertThat(progress.itemsPerSecond(70 * SECOND)).isEqualTo(15.0);
+    }
+
+    @Test
+    void unknownTotalHasNoPercentOrEstimate() {
+        StepProgress progress = new StepProgress("birthdayGivenCouponMemberStep", start, 0L);
+
+        progress.update(100L, 10 * SECOND);
+
+        StepProgressDto dto = progress.toDto(start.plusSeconds(10L), 10 * SECOND);
+
+        assertThat(dto.getTotal()).isEqualTo(StepProgress.UNKNOWN_TOTAL);
+        assertThat(dto.getPercent()).isNull();
+        assertThat(dto.getEstimatedEndTime()).isNull();
+    }
+
+}
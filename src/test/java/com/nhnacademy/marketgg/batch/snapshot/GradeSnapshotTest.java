@@ -0,0 +1,74 @@
+package com.nhnacademy.marketgg.batch.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.marketgg.batch.exception.InvalidGradeSnapshotException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GradeSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsEveryWrittenMemberByBinarySearch() throws IOException {
+        Path file = directory.resolve("member-grade.snapshot");
+        try (GradeSnapshotFileWriter writer = new GradeSnapshotFileWriter(file)) {
+            for (long memberNo = 1; memberNo <= 10_000; memberNo++) {
+                writer.append(memberNo * 3, (int) (memberNo % 3) + 1);
+            }
+            assertThat(writer.publish()).isEqualTo(10_000L);
+        }
+
+        GradeSnapshot snapshot = GradeSnapshot.open(file);
+
+        assertThat(snapshot.size()).isEqualTo(10_000);
+        for (long memberNo = 1; memberNo <= 10_000; memberNo++) {
+            assertThat(snapshot.gradeOf(memberNo * 3)).isEqualTo((int) (memberNo % 3) + 1);
+            assertThat(snapshot.gradeOf(memberNo * 3 + 1)).isEqualTo(GradeSnapshot.NOT_FOUND);
+        }
+        assertThat(snapshot.gradeOf(0L)).isEqualTo(GradeSnapshot.NOT_FOUND);
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void keepsPreviousSnapshotWhenNotPublished() throws IOException {
+        Path file = directory.resolve("member-grade.snapshot");
+        try (GradeSnapshotFileWriter writer = new GradeSnapshotFileWriter(file)) {
+            writer.append(1L, 1);
+            writer.publish();
+        }
+
+        try (GradeSnapshotFileWriter writer = new GradeSnapshotFileWriter(file)) {
+            writer.append(5L, 2);
+            assertThatThrownBy(() -> writer.append(5L, 3)).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(GradeSnapshot.open(file).gradeOf(1L)).isEqualTo(1);
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void rejectsCorruptedRecords() throws IOException {
+        Path file = directory.resolve("member-grade.snapshot");
+        try (GradeSnapshotFileWriter writer = new GradeSnapshotFileWriter(file)) {
+            writer.append(1L, 1);
+            writer.append(2L, 2);
+            writer.publish();
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(GradeSnapshotFormat.HEADER_SIZE + GradeSnapshotFormat.RECORD_SIZE - 1L);
+            raf.write(7);
+        }
+
+        assertThatThrownBy(() -> GradeSnapshot.open(file)).isInstanceOf(InvalidGradeSnapshotException.class);
+    }
+
+}
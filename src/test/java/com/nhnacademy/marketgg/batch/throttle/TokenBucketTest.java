@@ -0,0 +1,42 @@
+package com.nhnacademy.marketgg.batch.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    @Test
+    void allowsOneSecondBurstThenWaitsForBorrowedTokens() {
+        TokenBucket bucket = new TokenBucket(100D, 0L);
+
+        assertThat(bucket.reserve(100, 0L)).isZero();
+        assertThat(bucket.reserve(50, 0L)).isEqualTo(SECOND / 2);
+        assertThat(bucket.reserve(50, SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.reserve(1, 5 * SECOND)).isZero();
+    }
+
+    @Test
+    void chunkLargerThanRateIsSpreadOverTime() {
+        TokenBucket bucket = new TokenBucket(500D, 0L);
+
+        assertThat(bucket.reserve(1000, 0L)).isEqualTo(SECOND);
+        assertThat(bucket.reserve(1000, SECOND)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void zeroRateIsUnlimitedAndCanBeChangedAtRuntime() {
+        TokenBucket bucket = new TokenBucket(0D, 0L);
+        assertThat(bucket.reserve(1_000_000, 0L)).isZero();
+
+        bucket.setRate(10D, 0L);
+        assertThat(bucket.reserve(10, 0L)).isEqualTo(SECOND);
+
+        bucket.setRate(0D, 0L);
+        assertThat(bucket.reserve(1_000_000, 0L)).isZero();
+    }
+
+}
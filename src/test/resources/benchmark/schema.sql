@@ -0,0 +1,55 @@
+-- 벤치마크용 H2(MySQL 모드) 스키마입니다. 운영 DB 의 컬럼과 인덱스를 기준으로 작성했습니다.
+create table if not exists member_grades
+(
+    member_grade_no bigint auto_increment primary key,
+    grade           varchar(20) not null
+);
+
+create table if not exists cart
+(
+    cart_no bigint auto_increment primary key
+);
+
+create table if not exists members
+(
+    member_no         bigint auto_increment primary key,
+    member_grade_no   bigint      not null,
+    cart_no           bigint,
+    uuid              varchar(64) not null unique,
+    gender            char(1),
+    birth_date        date,
+    ggpass_updated_at timestamp,
+    created_at        timestamp,
+    updated_at        timestamp,
+    deleted_at        timestamp
+);
+
+create index if not exists idx_members_member_grade_no on members (member_grade_no);
+
+create table if not exists coupons
+(
+    coupon_no       bigint auto_increment primary key,
+    name            varchar(50) not null,
+    type            varchar(20),
+    expired_date    int,
+    minimum_money   int,
+    discount_amount double
+);
+
+create table if not exists given_coupons
+(
+    coupon_no  bigint    not null,
+    member_no  bigint    not null,
+    created_at timestamp not null,
+    primary key (coupon_no, member_no)
+);
+
+create table if not exists orders
+(
+    order_no     bigint auto_increment primary key,
+    member_no    bigint    not null,
+    total_amount bigint    not null,
+    created_at   timestamp not null
+);
+
+create index if not exists idx_orders_created_at_member_no on orders (created_at, member_no);